@@ -0,0 +1,75 @@
+package net.chamman.moonnight.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import net.chamman.moonnight.global.security.fillter.AbstractAccessTokenFilter;
+import net.chamman.moonnight.global.security.fillter.JwtFilter;
+import net.chamman.moonnight.global.security.route.RouteClassifier;
+
+/**
+ * {@link AbstractAccessTokenFilter#doFilterInternal} 전체 경로. ({@link JwtFilter})
+ * 
+ * 요청 분류, 요청 컨텍스트, 쿠키 조회, 블랙리스트 확인, 토큰 인증, SecurityContext 설정까지 포함한다.
+ * 재발급 경로(AdminSignService, RefreshCoalescer)는 DB/Redis가 필요해 제외한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccessTokenFilterBenchmark {
+
+	private JwtFilter jwtFilter;
+	private AuthFixture fixture;
+	private Cookie[] cookies;
+
+	@Setup
+	public void setUp() {
+		fixture = new AuthFixture();
+		jwtFilter = new JwtFilter(fixture.jwtProvider, fixture.tokenProvider, null, null, fixture.tokenAuthenticator,
+				null, new RouteClassifier());
+		cookies = new Cookie[] { new Cookie("X-Access-Token", fixture.accessToken()),
+				new Cookie("X-Refresh-Token", fixture.refreshToken()) };
+	}
+
+	@Benchmark
+	public MockHttpServletResponse webRequest() throws ServletException, IOException {
+		MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/admin/estimate/private/1");
+		req.addHeader("X-Forwarded-For", "203.0.113.7");
+		req.setCookies(cookies);
+		return doFilter(req);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse mobileRequest() throws ServletException, IOException {
+		MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/admin/estimate/private/1");
+		req.addHeader("X-Forwarded-For", "203.0.113.7");
+		req.addHeader("X-Client-Type", "mobile");
+		req.addHeader("X-Access-Token", fixture.accessToken());
+		req.addHeader("X-Refresh-Token", fixture.refreshToken());
+		return doFilter(req);
+	}
+
+	private MockHttpServletResponse doFilter(MockHttpServletRequest req) throws ServletException, IOException {
+		MockHttpServletResponse res = new MockHttpServletResponse();
+		try {
+			jwtFilter.doFilter(req, res, new MockFilterChain());
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+		return res;
+	}
+}
@@ -0,0 +1,63 @@
+package net.chamman.moonnight.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import net.chamman.moonnight.infra.map.index.AddressIndex;
+import net.chamman.moonnight.infra.map.index.AddressIndexBuilder;
+
+/**
+ * {@link AddressIndex} 조회. 도로 2만 개 x 건물 50개(100만 키) 합성 색인.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressIndexBenchmark {
+
+	private Path file;
+	private AddressIndex index;
+
+	@Setup
+	public void setUp() throws Exception {
+		AddressIndexBuilder builder = new AddressIndexBuilder();
+		for (int road = 0; road < 20_000; road++) {
+			for (int number = 1; number <= 50; number++) {
+				builder.add("서울", "마포구", "테스트" + road + "로", String.valueOf(number), 10_000 + road % 50_000);
+			}
+		}
+		file = Files.createTempFile("address", ".idx");
+		builder.write(file);
+		index = AddressIndex.open(file);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public int[] lookupHit() {
+		return index.postcodes(AddressIndex.keyOf("서울 마포구 테스트12345로 23"));
+	}
+
+	@Benchmark
+	public int[] lookupMiss() {
+		return index.postcodes("서울 마포구 없는도로 1");
+	}
+
+	@Benchmark
+	public List<String> prefix() {
+		return index.prefix("서울 마포구 테스트1234", 10);
+	}
+}
@@ -0,0 +1,89 @@
+package net.chamman.moonnight.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import net.chamman.moonnight.auth.crypto.AesProvider;
+import net.chamman.moonnight.auth.crypto.JwtEnvelopeCipher;
+import net.chamman.moonnight.auth.crypto.Obfuscator;
+import net.chamman.moonnight.auth.token.AdminTokenEpochStore;
+import net.chamman.moonnight.auth.token.JwtProvider;
+import net.chamman.moonnight.auth.token.TokenProvider;
+import net.chamman.moonnight.global.security.principal.TokenAuthenticator;
+import net.chamman.moonnight.global.security.principal.VerifiedTokenCache;
+
+/**
+ * 벤치마크용 인증 구성. Redis 없이 메모리 대체 객체를 사용한다.
+ */
+final class AuthFixture {
+
+	static final String AES_SECRET = "bench-aes-secret-0123456789";
+	static final String ACCESS_SECRET = "bench-access-secret-0123456789-012345678";
+	static final String REFRESH_SECRET = "bench-refresh-secret-0123456789-01234567";
+	static final String AUTH_SECRET = "bench-auth-secret-0123456789-0123456789a";
+
+	final AesProvider aesProvider = new AesProvider(AES_SECRET);
+	final JwtProvider jwtProvider = new JwtProvider(aesProvider, new JwtEnvelopeCipher(AES_SECRET, "", ""),
+			ACCESS_SECRET, REFRESH_SECRET, AUTH_SECRET);
+	final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10_000);
+	final TokenAuthenticator tokenAuthenticator = new TokenAuthenticator(jwtProvider, verifiedTokenCache,
+			new InMemoryEpochStore());
+	final InMemoryTokenProvider tokenProvider = new InMemoryTokenProvider(verifiedTokenCache);
+	final Obfuscator obfuscator = new Obfuscator();
+
+	final Map<String, String> tokens;
+
+	AuthFixture() {
+		ReflectionTestUtils.setField(obfuscator, "salt", 0x5A17);
+		tokens = jwtProvider.createSignToken(7, List.of("ROLE_ADMIN"),
+				Map.of("email", "admin@example.com", "name", "관리자", AdminTokenEpochStore.CLAIM, 0));
+	}
+
+	String accessToken() {
+		return tokens.get("accessToken");
+	}
+
+	String refreshToken() {
+		return tokens.get("refreshToken");
+	}
+
+	/**
+	 * 세대 증가가 없는 관리자. Redis 조회 없이 항상 0세대.
+	 */
+	static final class InMemoryEpochStore extends AdminTokenEpochStore {
+
+		InMemoryEpochStore() {
+			super(null, Long.MAX_VALUE);
+		}
+
+		@Override
+		public int current(int adminId) {
+			return 0;
+		}
+	}
+
+	/**
+	 * 블랙리스트를 메모리 맵으로 대체한 TokenProvider.
+	 */
+	static final class InMemoryTokenProvider extends TokenProvider {
+
+		private final Map<String, String> blacklist = new ConcurrentHashMap<>();
+
+		InMemoryTokenProvider(VerifiedTokenCache verifiedTokenCache) {
+			super(null, verifiedTokenCache, null, null);
+		}
+
+		@Override
+		public String getBlackListValue(String token) {
+			return blacklist.get(token);
+		}
+
+		@Override
+		public void addTokenBlacklist(String token, long ttl, String result) {
+			blacklist.put(token, result);
+		}
+	}
+}
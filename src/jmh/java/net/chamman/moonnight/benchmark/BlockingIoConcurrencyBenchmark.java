@@ -0,0 +1,288 @@
+package net.chamman.moonnight.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import net.chamman.moonnight.auth.crypto.Obfuscator;
+import net.chamman.moonnight.domain.estimate.Estimate;
+import net.chamman.moonnight.domain.estimate.Estimate.CleaningService;
+import net.chamman.moonnight.domain.estimate.EstimateRepository;
+import net.chamman.moonnight.domain.estimate.EstimateService;
+import net.chamman.moonnight.domain.estimate.dto.EstimateRegisterRequestDto;
+import net.chamman.moonnight.global.config.ExecutorConfig;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutbox;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutboxDispatcher;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutboxRepository;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutboxService;
+import net.chamman.moonnight.infra.email.EmailSender;
+import net.chamman.moonnight.infra.sms.SmsSender;
+import net.chamman.moonnight.rate.limiter.RateLimitKeyGenerator;
+import net.chamman.moonnight.rate.limiter.RateLimitResult;
+import net.chamman.moonnight.rate.limiter.RateLimitService;
+import net.chamman.moonnight.rate.limiter.RateLimiter;
+
+/**
+ * 견적 등록 동시 요청 처리 시간. {@link ExecutorConfig#ioTaskExecutor}의 플랫폼 스레드 풀 모드 vs 가상 스레드 모드.
+ *
+ * 실제 {@link EstimateService#registerEstimate}와 {@link NotificationOutboxService},
+ * {@link NotificationOutboxDispatcher}를 사용하고, 외부 연동만 고정 지연 대체 객체로 바꾼다.
+ * (Redis 요청 횟수 제한, DB 저장, SENS 문자, 네이버 메일)
+ * 요청 하나는 등록 후 커밋 시점처럼 발송기를 깨우며, 모든 안내 문자가 발송될 때까지를 측정한다.
+ *
+ * 요청 처리와 발송기는 같은 모드로 만든 별도의 실행기를 쓴다. (운영의 Tomcat 요청 스레드와 ioTaskExecutor)
+ * 발송기와 같은 실행기에서 요청을 돌리면 가상 스레드 모드의 동시 실행 제한에 걸린 요청이
+ * 발송기 실행 자리를 기다리며 서로 막는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockingIoConcurrencyBenchmark {
+
+	private static final long REDIS_MILLIS = 2;
+	private static final long DB_MILLIS = 5;
+	private static final long SMS_MILLIS = 80;
+	private static final long MAIL_MILLIS = 60;
+
+	@Param({ "false", "true" })
+	public boolean virtualThreads;
+
+	@Param({ "64" })
+	public int concurrencyLimit;
+
+	// 플랫폼 모드 대기열(concurrencyLimit * 4)을 넘지 않는 크기
+	@Param({ "100" })
+	public int concurrentRequests;
+
+	private AsyncTaskExecutor requestExecutor;
+	private AsyncTaskExecutor ioTaskExecutor;
+	private EstimateService estimateService;
+	private NotificationOutboxDispatcher dispatcher;
+	private final Queue<NotificationOutbox> outbox = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger ids = new AtomicInteger();
+	private volatile CountDownLatch delivered;
+
+	@Setup
+	public void setUp() {
+		requestExecutor = executor();
+		ioTaskExecutor = executor();
+
+		SmsSender smsSender = new SmsSender() {
+			@Override
+			public int sendSms(String recipientPhone, String message) {
+				return sendSmsBatch(List.of(new SmsMessage(recipientPhone, message)));
+			}
+
+			@Override
+			public int sendSmsBatch(List<SmsMessage> messages) {
+				sleep(SMS_MILLIS);
+				messages.forEach(m -> delivered.countDown());
+				return 202;
+			}
+		};
+		EmailSender emailSender = (recipientEmail, title, message) -> {
+			sleep(MAIL_MILLIS);
+			delivered.countDown();
+			return 200;
+		};
+
+		NotificationOutboxRepository outboxRepository = outboxRepository();
+		dispatcher = new NotificationOutboxDispatcher(outboxRepository, smsSender, emailSender,
+				new NoOpTransactionManager(), ioTaskExecutor, 100, 5, 60_000, 10_000, 1_800_000);
+		Obfuscator obfuscator = new Obfuscator();
+		ReflectionTestUtils.setField(obfuscator, "salt", 0x5A17);
+		estimateService = new EstimateService(estimateRepository(), null, null, null, null,
+				new RateLimitService(rateLimiter()), new NotificationOutboxService(outboxRepository, dispatcher),
+				obfuscator);
+	}
+
+	@TearDown
+	public void tearDown() {
+		shutdown(requestExecutor);
+		shutdown(ioTaskExecutor);
+	}
+
+	@Setup(Level.Invocation)
+	public void resetDelivered() {
+		delivered = new CountDownLatch(concurrentRequests);
+	}
+
+	@Benchmark
+	public int registerEstimates() throws Exception {
+		List<Future<Estimate>> futures = new ArrayList<>(concurrentRequests);
+		for (int i = 0; i < concurrentRequests; i++) {
+			EstimateRegisterRequestDto dto = new EstimateRegisterRequestDto("홍길동", "010-1234-" + (1000 + i), null,
+					"06236", "서울 강남구 테헤란로 152", "1층", CleaningService.MOVING, "견적 요청", 0);
+			futures.add(requestExecutor.submit(() -> {
+				Estimate estimate = estimateService.registerEstimate(dto, null, "203.0.113.7");
+				// 커밋 후 발송기 깨우기 (NotificationOutboxService의 afterCommit)
+				dispatcher.wakeUp();
+				return estimate;
+			}));
+		}
+		int done = 0;
+		for (Future<Estimate> future : futures) {
+			done += future.get().getEstimateId() > 0 ? 1 : 0;
+		}
+		if (!delivered.await(60, TimeUnit.SECONDS)) {
+			throw new IllegalStateException("안내 문자 발송 미완료. 남은 건수: " + delivered.getCount());
+		}
+		return done;
+	}
+
+	private AsyncTaskExecutor executor() {
+		AsyncTaskExecutor executor = new ExecutorConfig().ioTaskExecutor(virtualThreads, concurrencyLimit);
+		if (executor instanceof ThreadPoolTaskExecutor pool) {
+			pool.initialize();
+		}
+		return executor;
+	}
+
+	private static void shutdown(AsyncTaskExecutor executor) {
+		if (executor instanceof ThreadPoolTaskExecutor pool) {
+			pool.shutdown();
+		} else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+			simple.close();
+		}
+	}
+
+	private EstimateRepository estimateRepository() {
+		return repository(EstimateRepository.class, (method, args) -> switch (method) {
+			case "save" -> {
+				sleep(DB_MILLIS);
+				ReflectionTestUtils.setField(args[0], "estimateId", ids.incrementAndGet());
+				yield args[0];
+			}
+			default -> throw new UnsupportedOperationException(method);
+		});
+	}
+
+	private NotificationOutboxRepository outboxRepository() {
+		return repository(NotificationOutboxRepository.class, (method, args) -> switch (method) {
+			case "existsByIdempotencyKey" -> {
+				sleep(DB_MILLIS);
+				yield false;
+			}
+			case "save" -> {
+				sleep(DB_MILLIS);
+				outbox.add((NotificationOutbox) args[0]);
+				yield args[0];
+			}
+			case "failExpiredLeases" -> 0;
+			case "findDispatchable" -> {
+				sleep(DB_MILLIS);
+				int size = ((Pageable) args[3]).getPageSize();
+				List<NotificationOutbox> claimed = new ArrayList<>(size);
+				NotificationOutbox row;
+				while (claimed.size() < size && (row = outbox.poll()) != null) {
+					claimed.add(row);
+				}
+				yield claimed;
+			}
+			case "saveAll" -> {
+				sleep(DB_MILLIS);
+				yield args[0];
+			}
+			default -> throw new UnsupportedOperationException(method);
+		});
+	}
+
+	private static RateLimiter rateLimiter() {
+		return new RateLimiter() {
+			@Override
+			public boolean isAllowed(String key, int maxCount, int timeoutMinutes) {
+				sleep(REDIS_MILLIS);
+				return true;
+			}
+
+			@Override
+			public RateLimitResult tryAcquire(String key, int maxCount, int timeoutMinutes) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public boolean isAllowedAll(Map<RateLimitKeyGenerator, String> policies) {
+				sleep(REDIS_MILLIS);
+				return true;
+			}
+		};
+	}
+
+	private interface RepositoryMethod {
+		Object invoke(String method, Object[] args);
+	}
+
+	/**
+	 * 사용하는 메서드만 구현한 저장소 대체 객체
+	 */
+	private static <T> T repository(Class<T> type, RepositoryMethod handler) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> switch (method.getName()) {
+					case "toString" -> type.getSimpleName();
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					default -> handler.invoke(method.getName(), args);
+				}));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			// 종료 시 실행기가 남은 작업을 인터럽트
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 트랜잭션 없이 바로 실행
+	 */
+	private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+		}
+	}
+}
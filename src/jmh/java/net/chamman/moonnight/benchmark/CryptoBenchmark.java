@@ -0,0 +1,52 @@
+package net.chamman.moonnight.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.chamman.moonnight.auth.crypto.AesProvider;
+import net.chamman.moonnight.auth.crypto.Obfuscator;
+
+/**
+ * {@link AesProvider}, {@link Obfuscator}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CryptoBenchmark {
+
+	private AesProvider aesProvider;
+	private Obfuscator obfuscator;
+	private String plainText;
+	private String encrypted;
+
+	@Setup
+	public void setUp() {
+		AuthFixture fixture = new AuthFixture();
+		aesProvider = fixture.aesProvider;
+		obfuscator = fixture.obfuscator;
+		plainText = "{\"verificationId\":\"12345\",\"phone\":\"01012345678\"}";
+		encrypted = aesProvider.encrypt(plainText);
+	}
+
+	@Benchmark
+	public String aesEncrypt() {
+		return aesProvider.encrypt(plainText);
+	}
+
+	@Benchmark
+	public String aesDecrypt() {
+		return aesProvider.decrypt(encrypted);
+	}
+
+	@Benchmark
+	public int obfuscatorRoundTrip() {
+		return obfuscator.decode(obfuscator.encode(123_456));
+	}
+}
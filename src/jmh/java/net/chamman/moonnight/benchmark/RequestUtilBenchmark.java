@@ -0,0 +1,63 @@
+package net.chamman.moonnight.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import net.chamman.moonnight.global.util.ClientIpExtractor;
+import net.chamman.moonnight.global.util.LogMaskingUtil;
+import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
+
+/**
+ * {@link ClientIpExtractor}, {@link LogMaskingUtil}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequestUtilBenchmark {
+
+	private MockHttpServletRequest proxiedRequest;
+	private MockHttpServletRequest directRequest;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		proxiedRequest = new MockHttpServletRequest("GET", "/api/admin/estimate/private/1");
+		proxiedRequest.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+		directRequest = new MockHttpServletRequest("GET", "/api/admin/estimate/private/1");
+		directRequest.setRemoteAddr("0:0:0:0:0:0:0:1");
+		token = new AuthFixture().accessToken();
+	}
+
+	@Benchmark
+	public String clientIpForwarded() {
+		return ClientIpExtractor.extractClientIp(proxiedRequest);
+	}
+
+	@Benchmark
+	public String clientIpRemoteAddr() {
+		return ClientIpExtractor.extractClientIp(directRequest);
+	}
+
+	@Benchmark
+	public String maskToken() {
+		return LogMaskingUtil.maskToken(token, MaskLevel.MEDIUM);
+	}
+
+	@Benchmark
+	public String maskEmail() {
+		return LogMaskingUtil.maskEmail("admin@example.com", MaskLevel.MEDIUM);
+	}
+
+	@Benchmark
+	public String maskIp() {
+		return LogMaskingUtil.maskIp("203.0.113.7", MaskLevel.MEDIUM);
+	}
+}
@@ -0,0 +1,52 @@
+package net.chamman.moonnight.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.chamman.moonnight.auth.token.JwtProvider;
+import net.chamman.moonnight.global.security.principal.CustomAdminDetails;
+import net.chamman.moonnight.global.security.principal.TokenAuthenticator;
+
+/**
+ * {@link JwtProvider#validateAccessToken}, {@link TokenAuthenticator#authenticateAccessToken}
+ * 
+ * authenticateCold는 검증 결과 캐시를 비운 뒤 호출해 매 요청 JWT 파싱하는 경우를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenBenchmark {
+
+	private AuthFixture fixture;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		fixture = new AuthFixture();
+		accessToken = fixture.accessToken();
+	}
+
+	@Benchmark
+	public Map<String, Object> validateAccessToken() {
+		return fixture.jwtProvider.validateAccessToken(accessToken);
+	}
+
+	@Benchmark
+	public CustomAdminDetails authenticateCached() {
+		return fixture.tokenAuthenticator.authenticateAccessToken(accessToken);
+	}
+
+	@Benchmark
+	public CustomAdminDetails authenticateCold() {
+		fixture.verifiedTokenCache.invalidate(accessToken);
+		return fixture.tokenAuthenticator.authenticateAccessToken(accessToken);
+	}
+}
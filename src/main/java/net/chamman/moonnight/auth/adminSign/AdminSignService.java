@@ -8,6 +8,7 @@ import static net.chamman.moonnight.global.exception.HttpStatusCode.USER_NOT_FOU
 import static net.chamman.moonnight.global.exception.HttpStatusCode.USER_STATUS_DELETE;
 import static net.chamman.moonnight.global.exception.HttpStatusCode.USER_STATUS_STOP;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -25,7 +26,9 @@ import net.chamman.moonnight.auth.adminSign.log.AdminSignLog;
 import net.chamman.moonnight.auth.adminSign.log.AdminSignLog.SignResult;
 import net.chamman.moonnight.auth.adminSign.log.AdminSignLogService;
 import net.chamman.moonnight.auth.token.JwtProvider;
+import net.chamman.moonnight.auth.token.AdminTokenEpochStore;
 import net.chamman.moonnight.auth.token.TokenProvider;
+import net.chamman.moonnight.auth.token.TokenProvider.ConsumedTokens;
 import net.chamman.moonnight.auth.token.TokenProvider.TokenType;
 import net.chamman.moonnight.auth.token.dto.AdminSignUpTokenDto;
 import net.chamman.moonnight.auth.token.dto.FindAdminPwTokenDto;
@@ -63,6 +66,7 @@ public class AdminSignService {
 	private final VerificationService verificationService;
 	private final JwtProvider jwtProvider;
 	private final TokenProvider tokenProvider;
+	private final AdminTokenEpochStore adminTokenEpochStore;
 	private final PasswordEncoder passwordEncoder;
 
 	/**
@@ -235,11 +239,14 @@ public class AdminSignService {
 	public String signUp(AdminSignUpRequestDto dto, String accessSignUpToken, String verificationPhoneToken,
 			String clientIp) {
 
-		AdminSignUpTokenDto signUpTokenDto = tokenProvider.getDecryptedTokenDto(AdminSignUpTokenDto.TOKENTYPE,
-				accessSignUpToken);
+		// 두 토큰을 한 번에 조회 후 삭제 (재사용 방지)
+		Map<TokenType, String> tokens = new EnumMap<>(TokenType.class);
+		tokens.put(AdminSignUpTokenDto.TOKENTYPE, accessSignUpToken);
+		tokens.put(VerificationPhoneTokenDto.TOKENTYPE, verificationPhoneToken);
+		ConsumedTokens consumedTokens = tokenProvider.consumeDecryptedTokenDtos(tokens);
 
-		VerificationPhoneTokenDto verificationPhoneTokenDto = tokenProvider
-				.getDecryptedTokenDto(VerificationPhoneTokenDto.TOKENTYPE, verificationPhoneToken);
+		AdminSignUpTokenDto signUpTokenDto = consumedTokens.get(AdminSignUpTokenDto.TOKENTYPE);
+		VerificationPhoneTokenDto verificationPhoneTokenDto = consumedTokens.get(VerificationPhoneTokenDto.TOKENTYPE);
 		verificationService.isVerify(verificationPhoneTokenDto.getIntVerificationId());
 		if (!Objects.equals(dto.phone(), verificationPhoneTokenDto.getPhone())) {
 			log.debug("* 관리자 회원 가입 중 휴대폰 번호 입력 값 상이.");
@@ -262,9 +269,6 @@ public class AdminSignService {
 
 		adminSignLogService.signAdmin(admin, SignResult.SIGNUP, clientIp);
 
-		tokenProvider.removeToken(AdminSignUpTokenDto.TOKENTYPE, accessSignUpToken);
-		tokenProvider.removeToken(VerificationPhoneTokenDto.TOKENTYPE, verificationPhoneToken);
-
 		return dto.name();
 	}
 
@@ -541,7 +545,8 @@ public class AdminSignService {
 	 */
 	private Map<String, String> handleJwt(Admin admin) {
 		Map<String, String> signToken = jwtProvider.createSignToken(admin.getAdminId(), List.of("ROLE_ADMIN"),
-				Map.of("email", admin.getEmail(), "name", admin.getName()));
+				Map.of("email", admin.getEmail(), "name", admin.getName(), AdminTokenEpochStore.CLAIM,
+						adminTokenEpochStore.current(admin.getAdminId())));
 
 		tokenProvider.addRefreshJwt(admin.getAdminId(), signToken.get("refreshToken"));
 		return signToken;
@@ -0,0 +1,187 @@
+package net.chamman.moonnight.auth.adminSign;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.auth.crypto.AesProvider;
+import net.chamman.moonnight.global.util.TokenHashUtil;
+
+/**
+ * 같은 RefreshToken으로 동시에 들어온 재발급 요청을 하나로 합친다.
+ *
+ * 관리자 화면은 여러 API를 병렬로 호출하기 때문에 AccessToken이 만료되면
+ * 같은 RefreshToken으로 재발급이 동시에 여러 번 일어난다.
+ * <ul>
+ * <li>노드 내: 진행 중인 재발급 결과를 동시 요청들이 공유한다.</li>
+ * <li>노드 간: Redis 락을 잡은 노드만 재발급하고, 결과를 유예 시간 동안 암호화해 저장해
+ * 다른 노드와 늦게 도착한 요청이 같은 토큰 쌍을 받는다.</li>
+ * </ul>
+ * Redis 장애 시에는 노드 내 합치기만 하고 그대로 재발급한다.
+ */
+@Component
+@Slf4j
+public class RefreshCoalescer {
+
+	private static final String LOCK_PREFIX = "jwt:refresh:lock:";
+	private static final String RESULT_PREFIX = "jwt:refresh:result:";
+	private static final long POLL_INTERVAL_MILLIS = 50;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final AesProvider aesProvider;
+	private final RedisScript<Long> compareAndDeleteScript;
+	private final Duration lockTtl;
+	private final Duration graceTtl;
+	private final ConcurrentHashMap<String, CompletableFuture<Map<String, String>>> inFlight = new ConcurrentHashMap<>();
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	public RefreshCoalescer(RedisTemplate<String, String> redisTemplate, AesProvider aesProvider,
+			@Value("${jwt.refresh.coalesce.lock-ms:3000}") long lockMillis,
+			@Value("${jwt.refresh.coalesce.grace-ms:10000}") long graceMillis) {
+		this.redisTemplate = redisTemplate;
+		this.aesProvider = aesProvider;
+		this.lockTtl = Duration.ofMillis(lockMillis);
+		this.graceTtl = Duration.ofMillis(graceMillis);
+
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("redis/compare_and_delete.lua"));
+		script.setResultType(Long.class);
+		this.compareAndDeleteScript = script;
+	}
+
+	/**
+	 * @param refreshToken 재발급에 사용할 RefreshToken
+	 * @param refresher    실제 재발급 ({@link AdminSignService#refresh})
+	 *
+	 * @return 새 accessToken, refreshToken
+	 */
+	public Map<String, String> refresh(String refreshToken, Supplier<Map<String, String>> refresher) {
+		String key = TokenHashUtil.sha256(refreshToken);
+
+		CompletableFuture<Map<String, String>> mine = new CompletableFuture<>();
+		CompletableFuture<Map<String, String>> existing = inFlight.putIfAbsent(key, mine);
+		if (existing != null) {
+			log.debug("* 진행 중인 토큰 재발급 결과 공유.");
+			return await(existing);
+		}
+
+		try {
+			mine.complete(refreshAcrossNodes(key, refresher));
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+		} finally {
+			inFlight.remove(key, mine);
+		}
+		return await(mine);
+	}
+
+	private Map<String, String> refreshAcrossNodes(String key, Supplier<Map<String, String>> refresher) {
+		String owner = UUID.randomUUID().toString();
+		try {
+			Map<String, String> cached = getResult(key);
+			if (cached != null) {
+				log.debug("* 다른 요청에서 재발급된 토큰 사용.");
+				return cached;
+			}
+			if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + key, owner, lockTtl))) {
+				cached = waitForResult(key);
+				if (cached != null) {
+					return cached;
+				}
+				log.debug("* 다른 노드의 토큰 재발급 결과 대기 시간 초과. 직접 재발급.");
+				return refresher.get();
+			}
+		} catch (DataAccessException e) {
+			log.warn("* 토큰 재발급 합치기 Redis 오류. 직접 재발급. {}", e.getMessage());
+			return refresher.get();
+		}
+
+		try {
+			Map<String, String> tokens = refresher.get();
+			putResult(key, tokens);
+			return tokens;
+		} finally {
+			releaseLock(key, owner);
+		}
+	}
+
+	private Map<String, String> waitForResult(String key) {
+		long deadline = System.currentTimeMillis() + lockTtl.toMillis();
+		while (System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(POLL_INTERVAL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			Map<String, String> cached = getResult(key);
+			if (cached != null) {
+				return cached;
+			}
+			// 락 보유 노드가 실패하고 락을 해제한 경우
+			if (!Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_PREFIX + key))) {
+				return getResult(key);
+			}
+		}
+		return null;
+	}
+
+	private Map<String, String> getResult(String key) {
+		String value = redisTemplate.opsForValue().get(RESULT_PREFIX + key);
+		if (value == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(aesProvider.decrypt(value), new TypeReference<Map<String, String>>() {
+			});
+		} catch (Exception e) {
+			log.warn("* 재발급 토큰 캐시 역직렬화 실패. {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void putResult(String key, Map<String, String> tokens) {
+		try {
+			String value = aesProvider.encrypt(objectMapper.writeValueAsString(tokens));
+			redisTemplate.opsForValue().set(RESULT_PREFIX + key, value, graceTtl);
+		} catch (Exception e) {
+			log.warn("* 재발급 토큰 캐시 저장 실패. {}", e.getMessage());
+		}
+	}
+
+	private void releaseLock(String key, String owner) {
+		try {
+			redisTemplate.execute(compareAndDeleteScript, List.of(LOCK_PREFIX + key), owner);
+		} catch (DataAccessException e) {
+			log.warn("* 토큰 재발급 락 해제 실패. TTL 만료로 해제. {}", e.getMessage());
+		}
+	}
+
+	private static Map<String, String> await(CompletableFuture<Map<String, String>> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -4,13 +4,20 @@ import static net.chamman.moonnight.global.exception.HttpStatusCode.DECRYPT_FAIL
 import static net.chamman.moonnight.global.exception.HttpStatusCode.ENCRYPT_FAIL;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Component;
@@ -21,19 +28,90 @@ import net.chamman.moonnight.global.exception.crypto.EncryptException;
 import net.chamman.moonnight.global.util.LogMaskingUtil;
 import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
 
+/**
+ * 문자열 AES 암복호화.
+ *
+ * 암호화는 AES-GCM, 결과는 {@code {버전}:base64(iv + 암호문 + 태그)}.
+ * 버전으로 키를 구분하므로 키 교체 후에도 이전 버전 암호문을 복호화할 수 있다.
+ * 버전 구분자가 없는 값은 이전 AES-CBC 암호문으로 보고 복호화한다.
+ *
+ * <pre>
+ * aes.keys=v1:{base64 32byte},v2:{base64 32byte}
+ * aes.active-version=v2
+ * </pre>
+ * 설정이 없으면 aes.secret에서 파생한 키 하나(버전 "v1")를 사용한다.
+ *
+ * 이전 버전 노드는 AES-CBC 암호문만 읽으므로, 배포는 두 단계로 한다.
+ * <ol>
+ * <li>{@code aes.write-legacy=true}(와 {@code token.payload.write-json=true})로 모든 노드를 교체한다.
+ * 새 노드는 두 형식을 모두 읽고 {@link #encrypt}는 이전 CBC 형식으로 쓴다.</li>
+ * <li>이전 버전 노드가 모두 내려간 뒤 두 설정을 끄고 다시 배포한다.</li>
+ * </ol>
+ * {@link #encryptBytes}는 새 형식 전용이다. ({@code token.payload.write-json=false}일 때만 사용)
+ */
 @Component
 @Slf4j
 @PropertySource("classpath:application.properties")
 public class AesProvider {
 
-	private final SecretKeySpec secretKeySpec;
+	private static final String GCM_ALGORITHM = "AES/GCM/NoPadding";
+	private static final String LEGACY_ALGORITHM = "AES/CBC/PKCS5Padding";
+	private static final int GCM_IV_LENGTH = 12;
+	private static final int GCM_TAG_BITS = 128;
+	private static final int LEGACY_KEY_LENGTH = 16; // 16 bytes = 128 bits
+	private static final String DEFAULT_VERSION = "v1";
+	private static final char VERSION_SEPARATOR = ':';
+	private static final int POOL_SIZE = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
 
-	private static final String ALGORITHM = "AES/CBC/PKCS5Padding";
-	private static final int KEY_LENGTH = 16; // 16 bytes = 128 bits
+	private final SecretKeySpec legacyKeySpec;
+	private final Map<String, SecretKey> keys = new HashMap<>();
+	private final String activeVersion;
+	private final String activePrefix;
+	private final boolean writeLegacy;
+	private final SecureRandom secureRandom = new SecureRandom();
+	private final CipherPool gcmPool = new CipherPool(GCM_ALGORITHM, POOL_SIZE);
+	private final CipherPool legacyPool = new CipherPool(LEGACY_ALGORITHM, POOL_SIZE);
 
-	public AesProvider(@Value("${aes.secret}") String secretKeyRaw) {
-		byte[] keyBytes = secretKeyRaw.substring(0, KEY_LENGTH).getBytes(StandardCharsets.UTF_8);
-		this.secretKeySpec = new SecretKeySpec(keyBytes, "AES");
+	public AesProvider(String secretKeyRaw) {
+		this(secretKeyRaw, "", "", false);
+	}
+
+	public AesProvider(String secretKeyRaw, String versionedKeys, String activeVersion) {
+		this(secretKeyRaw, versionedKeys, activeVersion, false);
+	}
+
+	@Autowired
+	public AesProvider(
+			@Value("${aes.secret}") String secretKeyRaw,
+			@Value("${aes.keys:}") String versionedKeys,
+			@Value("${aes.active-version:}") String activeVersion,
+			@Value("${aes.write-legacy:false}") boolean writeLegacy) {
+		byte[] keyBytes = secretKeyRaw.substring(0, LEGACY_KEY_LENGTH).getBytes(StandardCharsets.UTF_8);
+		this.legacyKeySpec = new SecretKeySpec(keyBytes, "AES");
+
+		if (versionedKeys == null || versionedKeys.isBlank()) {
+			keys.put(DEFAULT_VERSION, deriveKey(secretKeyRaw));
+			this.activeVersion = DEFAULT_VERSION;
+		} else {
+			for (String entry : versionedKeys.split(",")) {
+				String[] versionAndKey = entry.trim().split(":", 2);
+				if (versionAndKey.length != 2) {
+					throw new IllegalStateException("* aes.keys 형식 이상. version:base64Key");
+				}
+				keys.put(versionAndKey[0], new SecretKeySpec(Base64.getDecoder().decode(versionAndKey[1]), "AES"));
+			}
+			this.activeVersion = (activeVersion == null || activeVersion.isBlank())
+					? versionedKeys.split(",")[0].trim().split(":")[0]
+					: activeVersion;
+		}
+		if (!keys.containsKey(this.activeVersion)) {
+			throw new IllegalStateException("* aes.active-version에 해당하는 키 없음: " + this.activeVersion);
+		}
+		this.activePrefix = this.activeVersion + VERSION_SEPARATOR;
+		this.writeLegacy = writeLegacy;
+		if (writeLegacy) {
+			log.info("* AES 이전 CBC 형식 쓰기 유지. (aes.write-legacy=true)");
+		}
 	}
 
 	/**
@@ -42,22 +120,28 @@ public class AesProvider {
 	 * @return
 	 */
 	public String encrypt(String plainText) {
-		log.debug("* 암호화. 대상: [{}]", LogMaskingUtil.maskText(plainText, MaskLevel.NONE));
+		if (log.isDebugEnabled()) {
+			log.debug("* 암호화. 대상: [{}]", LogMaskingUtil.maskText(plainText, MaskLevel.NONE));
+		}
 
 		try {
-			Cipher cipher = Cipher.getInstance(ALGORITHM);
-			byte[] iv = new byte[KEY_LENGTH];
-			new SecureRandom().nextBytes(iv); // 랜덤 IV
-			IvParameterSpec ivSpec = new IvParameterSpec(iv);
+			byte[] plain = plainText.getBytes(StandardCharsets.UTF_8);
+			if (writeLegacy) {
+				return encryptLegacy(plain);
+			}
+			byte[] iv = new byte[GCM_IV_LENGTH];
+			secureRandom.nextBytes(iv);
 
-			cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, ivSpec);
-			byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+			Cipher cipher = gcmPool.borrow();
+			cipher.init(Cipher.ENCRYPT_MODE, keys.get(activeVersion), new GCMParameterSpec(GCM_TAG_BITS, iv));
 
-			byte[] combined = new byte[iv.length + encrypted.length];
-			System.arraycopy(iv, 0, combined, 0, iv.length);
-			System.arraycopy(encrypted, 0, combined, iv.length, encrypted.length);
+			// iv 뒤에 바로 암호문을 써서 배열 복사 없이 한 번만 인코딩
+			byte[] combined = new byte[GCM_IV_LENGTH + cipher.getOutputSize(plain.length)];
+			System.arraycopy(iv, 0, combined, 0, GCM_IV_LENGTH);
+			cipher.doFinal(plain, 0, plain.length, combined, GCM_IV_LENGTH);
+			gcmPool.release(cipher);
 
-			return Base64.getEncoder().encodeToString(combined);
+			return activePrefix + Base64.getEncoder().encodeToString(combined);
 		} catch (Exception e) {
 			throw new EncryptException(ENCRYPT_FAIL, "AES 암호화 실패. " + e.getMessage(), e);
 		}
@@ -70,23 +154,139 @@ public class AesProvider {
 	 * @return
 	 */
 	public String decrypt(String encryptedText) {
-		log.debug("* 복호화. 대상: [{}]", LogMaskingUtil.maskText(encryptedText, MaskLevel.NONE));
+		if (log.isDebugEnabled()) {
+			log.debug("* 복호화. 대상: [{}]", LogMaskingUtil.maskText(encryptedText, MaskLevel.NONE));
+		}
 
 		try {
-			byte[] decoded = Base64.getDecoder().decode(encryptedText);
+			int sep = encryptedText.indexOf(VERSION_SEPARATOR);
+			byte[] decrypted = sep < 0 ? decryptLegacy(encryptedText)
+					: decryptGcm(encryptedText.substring(0, sep), encryptedText.substring(sep + 1));
+			return new String(decrypted, StandardCharsets.UTF_8);
+		} catch (DecryptException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DecryptException(DECRYPT_FAIL, "AES 복호화 실패. " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 바이너리 암호화. 결과는 {@code [버전 길이 1byte][버전][iv][암호문 + 태그]}.
+	 * 
+	 * @param plain
+	 * @param aad   추가 인증 데이터. 복호화 시 같은 값이어야 한다.
+	 * @throws EncryptException {@link #encryptBytes} 암호화 실패
+	 * @return
+	 */
+	public byte[] encryptBytes(byte[] plain, byte[] aad) {
+		try {
+			byte[] version = activeVersion.getBytes(StandardCharsets.UTF_8);
+			int header = 1 + version.length;
 
-			byte[] iv = new byte[KEY_LENGTH];
-			byte[] encrypted = new byte[decoded.length - KEY_LENGTH];
-			System.arraycopy(decoded, 0, iv, 0, KEY_LENGTH);
-			System.arraycopy(decoded, KEY_LENGTH, encrypted, 0, encrypted.length);
+			Cipher cipher = gcmPool.borrow();
+			byte[] iv = new byte[GCM_IV_LENGTH];
+			secureRandom.nextBytes(iv);
+			cipher.init(Cipher.ENCRYPT_MODE, keys.get(activeVersion), new GCMParameterSpec(GCM_TAG_BITS, iv));
+			cipher.updateAAD(aad);
 
-			Cipher cipher = Cipher.getInstance(ALGORITHM);
-			cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, new IvParameterSpec(iv));
+			byte[] out = new byte[header + GCM_IV_LENGTH + cipher.getOutputSize(plain.length)];
+			out[0] = (byte) version.length;
+			System.arraycopy(version, 0, out, 1, version.length);
+			System.arraycopy(iv, 0, out, header, GCM_IV_LENGTH);
+			cipher.doFinal(plain, 0, plain.length, out, header + GCM_IV_LENGTH);
+			gcmPool.release(cipher);
+			return out;
+		} catch (Exception e) {
+			throw new EncryptException(ENCRYPT_FAIL, "AES 암호화 실패. " + e.getMessage(), e);
+		}
+	}
 
-			byte[] decrypted = cipher.doFinal(encrypted);
-			return new String(decrypted, StandardCharsets.UTF_8);
+	/**
+	 * {@link #encryptBytes} 결과 복호화
+	 * 
+	 * @param encrypted
+	 * @param offset    encrypted 내 시작 위치
+	 * @param aad       암호화 때와 같은 값
+	 * @throws DecryptException {@link #decryptBytes} 복호화 실패
+	 * @return
+	 */
+	public byte[] decryptBytes(byte[] encrypted, int offset, byte[] aad) {
+		try {
+			int versionLength = encrypted[offset];
+			String version = new String(encrypted, offset + 1, versionLength, StandardCharsets.UTF_8);
+			SecretKey key = keys.get(version);
+			if (key == null) {
+				throw new DecryptException(DECRYPT_FAIL, "AES 복호화 실패. 알 수 없는 키 버전: " + version);
+			}
+			int ivOffset = offset + 1 + versionLength;
+
+			Cipher cipher = gcmPool.borrow();
+			cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_BITS, encrypted, ivOffset, GCM_IV_LENGTH));
+			cipher.updateAAD(aad);
+			byte[] plain = cipher.doFinal(encrypted, ivOffset + GCM_IV_LENGTH,
+					encrypted.length - ivOffset - GCM_IV_LENGTH);
+			gcmPool.release(cipher);
+			return plain;
+		} catch (DecryptException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new DecryptException(DECRYPT_FAIL, "AES 복호화 실패. " + e.getMessage(), e);
 		}
 	}
+
+	public String getActiveVersion() {
+		return activeVersion;
+	}
+
+	private byte[] decryptGcm(String version, String encoded) throws Exception {
+		SecretKey key = keys.get(version);
+		if (key == null) {
+			throw new DecryptException(DECRYPT_FAIL, "AES 복호화 실패. 알 수 없는 키 버전: " + version);
+		}
+		byte[] decoded = Base64.getDecoder().decode(encoded);
+
+		Cipher cipher = gcmPool.borrow();
+		cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_BITS, decoded, 0, GCM_IV_LENGTH));
+		byte[] decrypted = cipher.doFinal(decoded, GCM_IV_LENGTH, decoded.length - GCM_IV_LENGTH);
+		gcmPool.release(cipher);
+		return decrypted;
+	}
+
+	/**
+	 * 이전 형식: base64(16byte iv + AES-CBC 암호문)
+	 */
+	private String encryptLegacy(byte[] plain) throws Exception {
+		byte[] iv = new byte[LEGACY_KEY_LENGTH];
+		secureRandom.nextBytes(iv);
+
+		Cipher cipher = legacyPool.borrow();
+		cipher.init(Cipher.ENCRYPT_MODE, legacyKeySpec, new IvParameterSpec(iv));
+		byte[] combined = new byte[LEGACY_KEY_LENGTH + cipher.getOutputSize(plain.length)];
+		System.arraycopy(iv, 0, combined, 0, LEGACY_KEY_LENGTH);
+		int length = cipher.doFinal(plain, 0, plain.length, combined, LEGACY_KEY_LENGTH);
+		legacyPool.release(cipher);
+
+		return Base64.getEncoder().encodeToString(
+				length == combined.length - LEGACY_KEY_LENGTH ? combined : Arrays.copyOf(combined, LEGACY_KEY_LENGTH + length));
+	}
+
+	private byte[] decryptLegacy(String encoded) throws Exception {
+		byte[] decoded = Base64.getDecoder().decode(encoded);
+
+		Cipher cipher = legacyPool.borrow();
+		cipher.init(Cipher.DECRYPT_MODE, legacyKeySpec, new IvParameterSpec(decoded, 0, LEGACY_KEY_LENGTH));
+		byte[] decrypted = cipher.doFinal(decoded, LEGACY_KEY_LENGTH, decoded.length - LEGACY_KEY_LENGTH);
+		legacyPool.release(cipher);
+		return decrypted;
+	}
+
+	private static SecretKey deriveKey(String secretKeyRaw) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+					.digest(("aes-gcm:" + secretKeyRaw).getBytes(StandardCharsets.UTF_8));
+			return new SecretKeySpec(digest, "AES");
+		} catch (Exception e) {
+			throw new IllegalStateException("* AES 키 파생 실패.", e);
+		}
+	}
 }
@@ -0,0 +1,36 @@
+package net.chamman.moonnight.auth.crypto;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import javax.crypto.Cipher;
+
+/**
+ * 변환(transformation)별 Cipher 인스턴스 풀.
+ * 
+ * Cipher.getInstance는 매번 Provider 조회와 객체 생성을 하므로 사용한 인스턴스를 재사용한다.
+ * ThreadLocal 대신 크기 제한 큐를 사용해 가상 스레드처럼 스레드 수가 많아도 인스턴스 수가 늘지 않는다.
+ * 빌린 Cipher는 매번 init 후 사용해야 한다.
+ */
+final class CipherPool {
+
+	private final String transformation;
+	private final ArrayBlockingQueue<Cipher> idle;
+
+	CipherPool(String transformation, int capacity) {
+		this.transformation = transformation;
+		this.idle = new ArrayBlockingQueue<>(capacity);
+	}
+
+	Cipher borrow() throws GeneralSecurityException {
+		Cipher cipher = idle.poll();
+		return cipher != null ? cipher : Cipher.getInstance(transformation);
+	}
+
+	/**
+	 * 정상 사용한 Cipher만 반납. 풀이 가득 차면 버린다.
+	 */
+	void release(Cipher cipher) {
+		idle.offer(cipher);
+	}
+}
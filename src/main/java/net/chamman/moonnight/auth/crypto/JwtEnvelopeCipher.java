@@ -0,0 +1,148 @@
+package net.chamman.moonnight.auth.crypto;
+
+import static net.chamman.moonnight.global.exception.HttpStatusCode.DECRYPT_FAIL;
+import static net.chamman.moonnight.global.exception.HttpStatusCode.ENCRYPT_FAIL;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.exception.crypto.DecryptException;
+import net.chamman.moonnight.global.exception.crypto.EncryptException;
+
+/**
+ * JWT 비공개 claim 묶음(envelope)용 AES-GCM 암복호화.
+ * 
+ * 키는 kid로 구분되며, 발급은 활성 kid로만 하고 검증은 등록된 모든 kid로 가능하다. (키 교체 지원)
+ * 설정이 없으면 aes.secret에서 파생한 키 하나(kid "k1")를 사용한다.
+ * 
+ * <pre>
+ * jwt.envelope.keys=k1:{base64 32byte},k2:{base64 32byte}
+ * jwt.envelope.active-kid=k2
+ * </pre>
+ */
+@Component
+@Slf4j
+public class JwtEnvelopeCipher {
+
+	private static final String ALGORITHM = "AES/GCM/NoPadding";
+	private static final int IV_LENGTH = 12;
+	private static final int TAG_BITS = 128;
+	private static final String DEFAULT_KID = "k1";
+
+	private final SecureRandom secureRandom = new SecureRandom();
+	private final CipherPool cipherPool = new CipherPool(ALGORITHM, Math.max(16, Runtime.getRuntime().availableProcessors() * 4));
+	private final Map<String, SecretKey> keys = new HashMap<>();
+	private final String activeKid;
+
+	public JwtEnvelopeCipher(
+			@Value("${aes.secret}") String aesSecret,
+			@Value("${jwt.envelope.keys:}") String envelopeKeys,
+			@Value("${jwt.envelope.active-kid:}") String activeKid) {
+
+		if (envelopeKeys == null || envelopeKeys.isBlank()) {
+			keys.put(DEFAULT_KID, deriveKey(aesSecret));
+			this.activeKid = DEFAULT_KID;
+		} else {
+			for (String entry : envelopeKeys.split(",")) {
+				String[] kidAndKey = entry.trim().split(":", 2);
+				if (kidAndKey.length != 2) {
+					throw new IllegalStateException("* jwt.envelope.keys 형식 이상. kid:base64Key");
+				}
+				keys.put(kidAndKey[0], new SecretKeySpec(Base64.getDecoder().decode(kidAndKey[1]), "AES"));
+			}
+			this.activeKid = (activeKid == null || activeKid.isBlank()) ? envelopeKeys.split(",")[0].trim().split(":")[0]
+					: activeKid;
+		}
+		if (!keys.containsKey(this.activeKid)) {
+			throw new IllegalStateException("* jwt.envelope.active-kid에 해당하는 키 없음: " + this.activeKid);
+		}
+		log.info("* JWT envelope 키 등록. kids: [{}], activeKid: [{}]", keys.keySet(), this.activeKid);
+	}
+
+	public String getActiveKid() {
+		return activeKid;
+	}
+
+	/**
+	 * @param plain 평문 (claim JSON)
+	 * @param aad   추가 인증 데이터 (토큰 종류). 다른 종류 토큰으로 envelope를 옮겨 쓰는 것을 막는다.
+	 * 
+	 * @throws EncryptException {@link #encrypt} 암호화 실패
+	 * 
+	 * @return base64url(iv + 암호문 + 태그)
+	 */
+	public String encrypt(byte[] plain, String aad) {
+		try {
+			byte[] iv = new byte[IV_LENGTH];
+			secureRandom.nextBytes(iv);
+
+			Cipher cipher = cipherPool.borrow();
+			cipher.init(Cipher.ENCRYPT_MODE, keys.get(activeKid), new GCMParameterSpec(TAG_BITS, iv));
+			cipher.updateAAD(aad(activeKid, aad));
+
+			ByteBuffer out = ByteBuffer.allocate(IV_LENGTH + cipher.getOutputSize(plain.length));
+			out.put(iv);
+			cipher.doFinal(ByteBuffer.wrap(plain), out);
+			cipherPool.release(cipher);
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(out.array());
+		} catch (Exception e) {
+			throw new EncryptException(ENCRYPT_FAIL, "JWT envelope 암호화 실패. " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @param kid      토큰 헤더의 kid
+	 * @param envelope {@link #encrypt} 결과
+	 * @param aad      암호화 때와 같은 값
+	 * 
+	 * @throws DecryptException {@link #decrypt} 알 수 없는 kid 또는 복호화 실패
+	 * 
+	 * @return 평문
+	 */
+	public byte[] decrypt(String kid, String envelope, String aad) {
+		SecretKey key = keys.get(kid);
+		if (key == null) {
+			throw new DecryptException(DECRYPT_FAIL, "JWT envelope 알 수 없는 kid: " + kid);
+		}
+		try {
+			byte[] decoded = Base64.getUrlDecoder().decode(envelope);
+
+			Cipher cipher = cipherPool.borrow();
+			cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, decoded, 0, IV_LENGTH));
+			cipher.updateAAD(aad(kid, aad));
+			byte[] plain = cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH);
+			cipherPool.release(cipher);
+			return plain;
+		} catch (Exception e) {
+			throw new DecryptException(DECRYPT_FAIL, "JWT envelope 복호화 실패. " + e.getMessage(), e);
+		}
+	}
+
+	private static byte[] aad(String kid, String aad) {
+		return (kid + "." + aad).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static SecretKey deriveKey(String aesSecret) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+					.digest(("jwt-envelope:" + aesSecret).getBytes(StandardCharsets.UTF_8));
+			return new SecretKeySpec(digest, "AES");
+		} catch (Exception e) {
+			throw new IllegalStateException("* JWT envelope 키 파생 실패.", e);
+		}
+	}
+}
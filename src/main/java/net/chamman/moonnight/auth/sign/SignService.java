@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.chamman.moonnight.auth.token.JwtProvider;
 import net.chamman.moonnight.auth.token.TokenProvider;
-import net.chamman.moonnight.auth.token.TokenProvider.TokenType;
 import net.chamman.moonnight.auth.token.dto.VerificationEmailTokenDto;
 import net.chamman.moonnight.auth.token.dto.VerificationPhoneTokenDto;
 import net.chamman.moonnight.auth.verification.VerificationService;
@@ -40,13 +39,13 @@ public class SignService {
 	 * @param verificationPhoneToken
 	 * @param ip
 	 * 
-	 * @throws IllegalTokenException        {@link TokenProvider#getDecryptedTokenDto}토큰
+	 * @throws IllegalTokenException        {@link TokenProvider#consumeDecryptedTokenDto}토큰
 	 *                                      문자열 null 또는 비어있음
-	 * @throws NoSuchTokenException         {@link TokenProvider#getDecryptedTokenDto}
+	 * @throws NoSuchTokenException         {@link TokenProvider#consumeDecryptedTokenDto}
 	 *                                      Redis 일치하는 토큰 없음
-	 * @throws DecryptException             {@link TokenProvider#getDecryptedTokenDto}
+	 * @throws DecryptException             {@link TokenProvider#consumeDecryptedTokenDto}
 	 *                                      복호화 실패
-	 * @throws RedisGetException            {@link TokenProvider#getDecryptedTokenDto}
+	 * @throws RedisGetException            {@link TokenProvider#consumeDecryptedTokenDto}
 	 *                                      Redis 조회 실패
 	 * 
 	 * @throws NoSuchDataException          {@link VerificationService#isVerify} DB
@@ -66,14 +65,12 @@ public class SignService {
 	public String signInAuthBySms(String verificationPhoneToken, String clientIp) {
 
 		VerificationPhoneTokenDto verificationPhoneTokenDto = tokenProvider
-				.getDecryptedTokenDto(VerificationPhoneTokenDto.TOKENTYPE, verificationPhoneToken);
+				.consumeDecryptedTokenDto(VerificationPhoneTokenDto.TOKENTYPE, verificationPhoneToken);
 		verificationService.isVerify(verificationPhoneTokenDto.getIntVerificationId());
 
 		String authTokenDto = jwtProvider.createAuthToken(verificationPhoneTokenDto.getVerificationId(),
 				verificationPhoneTokenDto.getPhone());
 
-		tokenProvider.removeToken(TokenType.VERIFICATION_PHONE, verificationPhoneToken);
-
 		return authTokenDto;
 	}
 
@@ -83,13 +80,13 @@ public class SignService {
 	 * @param verificationEmailToken
 	 * @param ip
 	 * 
-	 * @throws IllegalTokenException        {@link TokenProvider#getDecryptedTokenDto}
+	 * @throws IllegalTokenException        {@link TokenProvider#consumeDecryptedTokenDto}
 	 *                                      토큰 문자열 null 또는 비어있음
-	 * @throws NoSuchTokenException         {@link TokenProvider#getDecryptedTokenDto}
+	 * @throws NoSuchTokenException         {@link TokenProvider#consumeDecryptedTokenDto}
 	 *                                      Redis 일치하는 토큰 없음
-	 * @throws DecryptException             {@link TokenProvider#getDecryptedTokenDto}
+	 * @throws DecryptException             {@link TokenProvider#consumeDecryptedTokenDto}
 	 *                                      복호화 실패
-	 * @throws RedisGetException            {@link TokenProvider#getDecryptedTokenDto}
+	 * @throws RedisGetException            {@link TokenProvider#consumeDecryptedTokenDto}
 	 *                                      Redis 조회 실패
 	 * 
 	 * @throws NoSuchDataException          {@link VerificationService#isVerify} DB
@@ -109,14 +106,12 @@ public class SignService {
 	public String signInAuthByEmail(String verificationEmailToken, String clientIp) {
 
 		VerificationEmailTokenDto verificationEmailTokenDto = tokenProvider
-				.getDecryptedTokenDto(VerificationEmailTokenDto.TOKENTYPE, verificationEmailToken);
+				.consumeDecryptedTokenDto(VerificationEmailTokenDto.TOKENTYPE, verificationEmailToken);
 		verificationService.isVerify(verificationEmailTokenDto.getIntVerificationId());
 
 		String authTokenDto = jwtProvider.createAuthToken(verificationEmailTokenDto.getVerificationId(),
 				verificationEmailTokenDto.getEmail());
 
-		tokenProvider.removeToken(TokenType.VERIFICATION_EMAIL, verificationEmailToken);
-
 		return authTokenDto;
 	}
 
@@ -0,0 +1,144 @@
+package net.chamman.moonnight.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자별 액세스 토큰 세대(epoch) 관리.
+ *
+ * 액세스 토큰 발급 시 현재 세대를 {@link #CLAIM} claim에 담고,
+ * 검증 시 토큰의 세대가 현재 세대보다 낮으면 만료된 토큰으로 취급해 재발급시킨다.
+ * {@link #bump} 한 번으로 해당 관리자의 기존 액세스 토큰 전체가 무효화된다.
+ *
+ * 세대는 Redis({@code jwt:epoch:<adminId>})에 저장하고 노드 메모리에 캐싱한다.
+ * 변경은 pub/sub({@link #CHANNEL})으로 즉시 전파되며,
+ * 메시지 유실에 대비해 캐시는 {@code jwt.epoch.cache-ttl-ms} 마다 Redis에서 다시 읽는다.
+ */
+@Component
+@Slf4j
+public class AdminTokenEpochStore implements MessageListener {
+
+	public static final String CLAIM = "gen";
+	public static final String CHANNEL = "jwt:epoch:events";
+	private static final String PREFIX = "jwt:epoch:";
+
+	private record Entry(int epoch, long loadedAtMillis) {
+	}
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ConcurrentHashMap<Integer, Entry> epochs = new ConcurrentHashMap<>();
+	private final long cacheTtlMillis;
+
+	public AdminTokenEpochStore(RedisTemplate<String, String> redisTemplate,
+			@Value("${jwt.epoch.cache-ttl-ms:60000}") long cacheTtlMillis) {
+		this.redisTemplate = redisTemplate;
+		this.cacheTtlMillis = cacheTtlMillis;
+	}
+
+	/**
+	 * @param adminId
+	 *
+	 * @return 현재 세대. 한 번도 증가시킨 적 없으면 0
+	 */
+	public int current(int adminId) {
+		Entry entry = epochs.get(adminId);
+		long now = System.currentTimeMillis();
+		if (entry != null && now - entry.loadedAtMillis() < cacheTtlMillis) {
+			return entry.epoch();
+		}
+
+		try {
+			String value = redisTemplate.opsForValue().get(PREFIX + adminId);
+			int epoch = value == null ? 0 : Integer.parseInt(value);
+			epochs.merge(adminId, new Entry(epoch, now), AdminTokenEpochStore::newer);
+			return epochs.get(adminId).epoch();
+		} catch (Exception e) {
+			if (entry != null) {
+				log.warn("* 토큰 세대 Redis 조회 실패. 캐시 값 사용. adminId: [{}], {}", adminId, e.getMessage());
+				return entry.epoch();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 관리자의 토큰 세대 증가. 이전 세대로 발급된 액세스 토큰은 모두 재발급 대상이 된다.
+	 *
+	 * @param adminId
+	 *
+	 * @return 증가된 세대
+	 */
+	public int bump(int adminId) {
+		Long value = redisTemplate.opsForValue().increment(PREFIX + adminId);
+		int epoch = value == null ? 0 : value.intValue();
+		epochs.merge(adminId, new Entry(epoch, System.currentTimeMillis()), AdminTokenEpochStore::newer);
+		log.debug("* 관리자 토큰 세대 증가. adminId: [{}], epoch: [{}]", adminId, epoch);
+
+		try {
+			redisTemplate.convertAndSend(CHANNEL, adminId + " " + epoch);
+		} catch (Exception e) {
+			// 다른 노드는 캐시 만료 시 반영
+			log.warn("* 토큰 세대 동기화 메시지 발행 실패. {}", e.getMessage());
+		}
+		return epoch;
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋 후에 {@link #bump}. 롤백되면 세대를 올리지 않는다.
+	 * 커밋 전에 올리면 재발급된 토큰이 아직 커밋되지 않은 이전 값을 담을 수 있다.
+	 *
+	 * @param adminId
+	 */
+	public void bumpAfterCommit(int adminId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			bump(adminId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				bump(adminId);
+			}
+		});
+	}
+
+	/**
+	 * @param adminId
+	 * @param tokenEpoch 토큰에 담긴 세대
+	 *
+	 * @return 토큰 세대가 현재 세대 이상이면 true
+	 */
+	public boolean isCurrent(int adminId, int tokenEpoch) {
+		return tokenEpoch >= current(adminId);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			int sep = body.indexOf(' ');
+			int adminId = Integer.parseInt(body.substring(0, sep));
+			int epoch = Integer.parseInt(body.substring(sep + 1));
+			epochs.merge(adminId, new Entry(epoch, System.currentTimeMillis()), AdminTokenEpochStore::newer);
+		} catch (RuntimeException e) {
+			log.warn("* 토큰 세대 동기화 메시지 형식 오류. Message: [{}]", body);
+		}
+	}
+
+	/**
+	 * 세대는 감소하지 않으므로 늦게 도착한 이전 값이 최신 값을 덮어쓰지 않게 한다.
+	 */
+	private static Entry newer(Entry current, Entry incoming) {
+		return incoming.epoch() >= current.epoch() ? incoming : new Entry(current.epoch(), incoming.loadedAtMillis());
+	}
+}
@@ -1,5 +1,6 @@
 package net.chamman.moonnight.auth.token;
 
+import static net.chamman.moonnight.global.exception.HttpStatusCode.DECRYPT_FAIL;
 import static net.chamman.moonnight.global.exception.HttpStatusCode.JWT_CREATE_FIAL;
 import static net.chamman.moonnight.global.exception.HttpStatusCode.JWT_EXPIRED;
 import static net.chamman.moonnight.global.exception.HttpStatusCode.JWT_VALIDATE_FIAL;
@@ -8,6 +9,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,14 +18,21 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import net.chamman.moonnight.auth.crypto.AesProvider;
+import net.chamman.moonnight.auth.crypto.JwtEnvelopeCipher;
 import net.chamman.moonnight.global.exception.crypto.DecryptException;
 import net.chamman.moonnight.global.exception.jwt.CreateJwtException;
 import net.chamman.moonnight.global.exception.jwt.TimeOutJwtException;
@@ -37,9 +46,20 @@ import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
 public class JwtProvider {
 	
 	private final AesProvider aesProvider;
+	private final JwtEnvelopeCipher jwtEnvelopeCipher;
 	private final Key signAccessHmacShaKey;
 	private final Key signRefreshHmacShaKey;
 	private final Key authHmacShaKey;
+	// JwtParser는 불변이라 요청마다 만들 필요 없음
+	private final JwtParser signAccessParser;
+	private final JwtParser signRefreshParser;
+	private final JwtParser authParser;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	
+	// 비공개 claim들을 한 번에 암호화해 담는 claim. 없으면 claim별 AES-CBC 방식의 이전 토큰.
+	private static final String ENVELOPE_CLAIM = "enc";
+	private static final String ACCESS_AAD = "access";
+	private static final String AUTH_AAD = "auth";
 	
 	private final long expiration14Days = 1000 * 60 * 60 * 24 * 14; // 14
 	private final long expiration1Hour = 1000 * 60 * 60; // 1시간
@@ -47,6 +67,7 @@ public class JwtProvider {
 	
 	public JwtProvider(
 			@Autowired AesProvider aesProvider,
+			@Autowired JwtEnvelopeCipher jwtEnvelopeCipher,
 			@Value("${jwt.sign.access.secretKey}") String signAccessSecretKey,
 			@Value("${jwt.sign.refresh.secretKey}") String signRefreshSecretKey,
 			@Value("${jwt.auth.secretKey}") String authHmacShaKey
@@ -55,6 +76,10 @@ public class JwtProvider {
 		this.signAccessHmacShaKey = Keys.hmacShaKeyFor(signAccessSecretKey.getBytes(StandardCharsets.UTF_8));
 		this.signRefreshHmacShaKey = Keys.hmacShaKeyFor(signRefreshSecretKey.getBytes(StandardCharsets.UTF_8));
 		this.authHmacShaKey = Keys.hmacShaKeyFor(authHmacShaKey.getBytes(StandardCharsets.UTF_8));
+		this.jwtEnvelopeCipher = jwtEnvelopeCipher;
+		this.signAccessParser = Jwts.parserBuilder().setSigningKey(this.signAccessHmacShaKey).build();
+		this.signRefreshParser = Jwts.parserBuilder().setSigningKey(this.signRefreshHmacShaKey).build();
+		this.authParser = Jwts.parserBuilder().setSigningKey(this.authHmacShaKey).build();
 	}
 	
 	/**
@@ -83,8 +108,11 @@ public class JwtProvider {
 		log.debug("* AccessToken 발행. adminId: [{}], roles: [{}]", LogMaskingUtil.maskId(adminId, MaskLevel.NONE), roles.get(0));
 		
 		try {
+			Map<String, Object> privateClaims = new LinkedHashMap<>();
+			privateClaims.put("subject", String.valueOf(adminId));
+			
 			JwtBuilder builder = Jwts.builder()
-					.setSubject(aesProvider.encrypt(String.valueOf(adminId)))
+					.setHeaderParam("kid", jwtEnvelopeCipher.getActiveKid())
 					.setIssuedAt(new Date())
 					.setExpiration(new Date(System.currentTimeMillis() + expiration1Hour))
 					.signWith(signAccessHmacShaKey, SignatureAlgorithm.HS256);
@@ -92,13 +120,14 @@ public class JwtProvider {
 			if (claims != null) {
 				for (Map.Entry<String, Object> entry : claims.entrySet()) {
 					Object value = entry.getValue();
-					if (value instanceof String strVal) {
-						builder.claim(entry.getKey(), aesProvider.encrypt(strVal));
+					if (value instanceof String) {
+						privateClaims.put(entry.getKey(), value);
 					} else {
 						builder.claim(entry.getKey(), value); // 예외 방지
 					}
 				}
 			}
+			builder.claim(ENVELOPE_CLAIM, sealEnvelope(privateClaims, ACCESS_AAD));
 			builder.claim("roles",roles);
 			return builder.compact();
 		} catch (Exception e) {
@@ -141,12 +170,16 @@ public class JwtProvider {
 		
 		try {
 			
+			Map<String, Object> privateClaims = new LinkedHashMap<>();
+			privateClaims.put("subject", verificationId);
+			privateClaims.put("recipient", recipient);
+			
 			return Jwts.builder()
-					.setSubject(aesProvider.encrypt(verificationId)) 
+					.setHeaderParam("kid", jwtEnvelopeCipher.getActiveKid())
 					.setIssuedAt(new Date())
 					.setExpiration(new Date(System.currentTimeMillis() + expiration30Minute))
 					.signWith(authHmacShaKey, SignatureAlgorithm.HS256)
-					.claim("recipient", aesProvider.encrypt(recipient))
+					.claim(ENVELOPE_CLAIM, sealEnvelope(privateClaims, AUTH_AAD))
 					.claim("roles",List.of("ROLE_AUTH"))
 					.compact();
 			
@@ -167,13 +200,9 @@ public class JwtProvider {
 		log.debug("* AccessToken 검증. AccessToken: [{}]", LogMaskingUtil.maskToken(token, MaskLevel.NONE));
 		
 		try {
-			Claims claims = Jwts.parserBuilder()
-					.setSigningKey(signAccessHmacShaKey)
-					.build()
-					.parseClaimsJws(token)
-					.getBody();
+			Jws<Claims> jws = signAccessParser.parseClaimsJws(token);
 			
-			return getDecryptedClaims(claims);
+			return getDecryptedClaims(jws, ACCESS_AAD);
 		} catch (ExpiredJwtException e) {
 			throw new TimeOutJwtException(JWT_EXPIRED, "* AccessToken 시간 만료.", e);
 		} catch (Exception e) {
@@ -192,11 +221,7 @@ public class JwtProvider {
 		log.debug("* RefreshToken 검증. RefreshToken: [{}]", LogMaskingUtil.maskToken(token, MaskLevel.NONE));
 
 		try {
-			Claims claims = Jwts.parserBuilder()
-					.setSigningKey(signRefreshHmacShaKey)
-					.build()
-					.parseClaimsJws(token)
-					.getBody();
+			Claims claims = signRefreshParser.parseClaimsJws(token).getBody();
 			
 			String encryptedAdminId = claims.getSubject(); 
 			return aesProvider.decrypt(encryptedAdminId);
@@ -218,13 +243,9 @@ public class JwtProvider {
 		log.debug("* AuthToken 검증. AuthToken: [{}]", LogMaskingUtil.maskToken(token, MaskLevel.NONE));
 		
 		try {
-			Claims claims = Jwts.parserBuilder()
-					.setSigningKey(authHmacShaKey)
-					.build()
-					.parseClaimsJws(token)
-					.getBody();
+			Jws<Claims> jws = authParser.parseClaimsJws(token);
 			
-			return getDecryptedClaims(claims);
+			return getDecryptedClaims(jws, AUTH_AAD);
 		} catch (ExpiredJwtException e) {
 			throw new TimeOutJwtException(JWT_EXPIRED, "AuthToken 시간 만료. "+e.getMessage(), e);
 		} catch (Exception e) {
@@ -243,11 +264,7 @@ public class JwtProvider {
 		log.debug("* AccessToken 토큰 유효시간 검증. Token: [{}]", LogMaskingUtil.maskToken(accessToken, MaskLevel.NONE));
 
 		try {
-			Claims claims = Jwts.parserBuilder()
-					.setSigningKey(signAccessHmacShaKey)
-					.build()
-					.parseClaimsJws(accessToken)
-					.getBody();
+			Claims claims = signAccessParser.parseClaimsJws(accessToken).getBody();
 			
 			Date expiration = claims.getExpiration();
 			return expiration.getTime() - System.currentTimeMillis();
@@ -269,11 +286,7 @@ public class JwtProvider {
 		log.debug("* AuthToken 토큰 유효시간 검증. Token: [{}]", LogMaskingUtil.maskToken(authToken, MaskLevel.NONE));
 
 		try {
-			Claims claims = Jwts.parserBuilder()
-					.setSigningKey(authHmacShaKey)
-					.build()
-					.parseClaimsJws(authToken)
-					.getBody();
+			Claims claims = authParser.parseClaimsJws(authToken).getBody();
 			
 			Date expiration = claims.getExpiration();
 			return expiration.getTime() - System.currentTimeMillis();
@@ -286,18 +299,32 @@ public class JwtProvider {
 	
 	
 	/** Claims 복호화
-	 * @param claims
+	 * envelope claim이 있으면 한 번만 복호화하고, 없으면 이전 방식대로 claim별 복호화.
+	 * 
+	 * @param jws
+	 * @param aad 토큰 종류
 	 * @return Claims
 	 * 
-     * @throws DecryptException {@link AesProvider#decrypt} 복호화 실패
+     * @throws DecryptException {@link AesProvider#decrypt}, {@link JwtEnvelopeCipher#decrypt} 복호화 실패
 	 */
-	@SuppressWarnings("unused")
-	private Map<String,Object> getDecryptedClaims(Claims claims) {
+	private Map<String,Object> getDecryptedClaims(Jws<Claims> jws, String aad) {
+		Claims claims = jws.getBody();
 		Map<String, Object> result = new HashMap<>();
+		
+		if (claims.get(ENVELOPE_CLAIM) instanceof String envelope) {
+			claims.forEach((k, v) -> {
+				if (!ENVELOPE_CLAIM.equals(k)) {
+					result.put(k, v);
+				}
+			});
+			result.putAll(openEnvelope(jws.getHeader().getKeyId(), envelope, aad));
+			return result;
+		}
+		
 		result.put("subject",aesProvider.decrypt(claims.getSubject()));
 		claims.forEach((k, v) -> {
 			if (v instanceof String strVal) {
-				result.put(k, aesProvider.decrypt((String)v));
+				result.put(k, aesProvider.decrypt(strVal));
 			} else {
 				result.put(k, v);
 			}
@@ -305,4 +332,17 @@ public class JwtProvider {
 		return result;
 	}
 	
+	private String sealEnvelope(Map<String, Object> privateClaims, String aad) throws JsonProcessingException {
+		return jwtEnvelopeCipher.encrypt(objectMapper.writeValueAsBytes(privateClaims), aad);
+	}
+	
+	private Map<String, Object> openEnvelope(String kid, String envelope, String aad) {
+		byte[] plain = jwtEnvelopeCipher.decrypt(kid, envelope, aad);
+		try {
+			return objectMapper.readValue(plain, new TypeReference<Map<String, Object>>() {});
+		} catch (Exception e) {
+			throw new DecryptException(DECRYPT_FAIL, "JWT envelope 역직렬화 실패. " + e.getMessage(), e);
+		}
+	}
+	
 }
@@ -0,0 +1,185 @@
+package net.chamman.moonnight.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.auth.token.TokenProvider.TokenType;
+import net.chamman.moonnight.global.util.TokenHashUtil;
+
+/**
+ * JWT 블랙리스트 로컬 인덱스.
+ *
+ * 블랙리스트에 등록된 토큰의 SHA-256 해시와 만료 시각을 노드 메모리에 보관한다.
+ * 인덱스에 없는 토큰은 Redis 조회 없이 블랙리스트가 아닌 것으로 판단하고,
+ * 있는 토큰만 Redis에서 실제 값(SIGNOUT, UPDATE)을 조회한다.
+ *
+ * 노드 간 동기화는 Redis pub/sub({@link #CHANNEL})으로 하고,
+ * 메시지 유실(구독 재연결 등)에 대비해 주기적으로 Redis 키를 SCAN 해 전체를 다시 맞춘다.
+ * 첫 동기화 전이나 동기화 실패 시에는 {@link #mightContain}이 항상 true를 반환해
+ * 기존처럼 매 요청 Redis를 조회한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TokenBlacklistIndex implements MessageListener {
+
+	public static final String CHANNEL = "jwt:blacklist:events";
+
+	private record Entry(long expiresAtMillis, long addedAtMillis) {
+	}
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+	private volatile boolean ready;
+
+	/**
+	 * @param token
+	 *
+	 * @return 블랙리스트일 가능성이 있으면 true. false면 블랙리스트가 아님이 확실하다.
+	 */
+	public boolean mightContain(String token) {
+		if (!ready) {
+			return true;
+		}
+		String key = TokenHashUtil.sha256(token);
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return false;
+		}
+		if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+			entries.remove(key, entry);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 로컬 인덱스에 추가하고 다른 노드에 전파.
+	 *
+	 * @param token
+	 * @param ttlMillis
+	 */
+	public void add(String token, long ttlMillis) {
+		String key = TokenHashUtil.sha256(token);
+		long expiresAt = System.currentTimeMillis() + ttlMillis;
+		entries.put(key, new Entry(expiresAt, System.currentTimeMillis()));
+		publish("+" + key + " " + expiresAt);
+	}
+
+	/**
+	 * 로컬 인덱스에서 제거하고 다른 노드에 전파.
+	 *
+	 * @param token
+	 */
+	public void remove(String token) {
+		String key = TokenHashUtil.sha256(token);
+		entries.remove(key);
+		publish("-" + key);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			if (body.startsWith("+")) {
+				int sep = body.indexOf(' ');
+				entries.put(body.substring(1, sep),
+						new Entry(Long.parseLong(body.substring(sep + 1)), System.currentTimeMillis()));
+			} else if (body.startsWith("-")) {
+				entries.remove(body.substring(1));
+			}
+		} catch (RuntimeException e) {
+			log.warn("* 블랙리스트 동기화 메시지 형식 오류. Message: [{}]", body);
+		}
+	}
+
+	/**
+	 * Redis 블랙리스트 키 전체를 SCAN 해 로컬 인덱스를 다시 맞춤.
+	 *
+	 * SCAN 도중 pub/sub으로 들어온 항목은 유지하고,
+	 * 시작 이전부터 있었지만 Redis에 더 이상 없는 항목만 제거한다.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.blacklist.resync-interval-ms:60000}")
+	public void resync() {
+		long startedAt = System.currentTimeMillis();
+		try {
+			Map<String, Entry> snapshot = loadSnapshot(startedAt);
+
+			entries.putAll(snapshot);
+			entries.entrySet().removeIf(e -> !snapshot.containsKey(e.getKey())
+					&& (e.getValue().addedAtMillis() < startedAt || e.getValue().expiresAtMillis() <= startedAt));
+
+			if (!ready) {
+				log.info("* 블랙리스트 로컬 인덱스 활성화. size: [{}]", entries.size());
+			}
+			ready = true;
+		} catch (Exception e) {
+			ready = false;
+			log.warn("* 블랙리스트 로컬 인덱스 동기화 실패. Redis 직접 조회로 전환. {}", e.getMessage());
+		}
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private Map<String, Entry> loadSnapshot(long now) {
+		String prefix = TokenType.JWT_BLACKLIST.getPrefix();
+		List<String> keys = new ArrayList<>();
+		try (Cursor<String> cursor = redisTemplate
+				.scan(ScanOptions.scanOptions().match(prefix + "*").count(1000).build())) {
+			cursor.forEachRemaining(keys::add);
+		}
+		if (keys.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (String key : keys) {
+				pTtl(connection, key);
+			}
+			return null;
+		});
+
+		Map<String, Entry> snapshot = new HashMap<>();
+		for (int i = 0; i < keys.size(); i++) {
+			// -1: 만료 없음, -2: 그 사이 삭제됨
+			long ttl = ttls.get(i) instanceof Long l ? l : -2L;
+			if (ttl == -2L) {
+				continue;
+			}
+			long expiresAt = ttl == -1L ? Long.MAX_VALUE : now + ttl;
+			snapshot.put(TokenHashUtil.sha256(keys.get(i).substring(prefix.length())), new Entry(expiresAt, now));
+		}
+		return snapshot;
+	}
+
+	private void pTtl(RedisConnection connection, String key) {
+		connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void publish(String message) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, message);
+		} catch (Exception e) {
+			// 다른 노드는 다음 resync에서 반영
+			log.warn("* 블랙리스트 동기화 메시지 발행 실패. {}", e.getMessage());
+		}
+	}
+}
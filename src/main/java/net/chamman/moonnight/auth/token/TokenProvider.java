@@ -6,19 +6,29 @@ import static net.chamman.moonnight.global.exception.HttpStatusCode.TOKEN_NOT_FO
 import static net.chamman.moonnight.global.exception.HttpStatusCode.TOKEN_SET_FIAL;
 import static net.chamman.moonnight.global.exception.HttpStatusCode.TOKEN_VALUE_MISMATCH;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.chamman.moonnight.auth.crypto.AesProvider;
 import net.chamman.moonnight.auth.crypto.Encryptable;
+import net.chamman.moonnight.auth.token.codec.TokenPayloadCodec;
 import net.chamman.moonnight.auth.token.dto.AdminPasswordConfirmTokenDto;
 import net.chamman.moonnight.auth.token.dto.AdminSignUpTokenDto;
 import net.chamman.moonnight.auth.token.dto.FindAdminPwTokenDto;
@@ -29,6 +39,7 @@ import net.chamman.moonnight.global.exception.redis.RedisSetException;
 import net.chamman.moonnight.global.exception.token.IllegalTokenException;
 import net.chamman.moonnight.global.exception.token.NoSuchTokenException;
 import net.chamman.moonnight.global.exception.token.TokenValueMismatchException;
+import net.chamman.moonnight.global.security.principal.VerifiedTokenCache;
 import net.chamman.moonnight.global.util.LogMaskingUtil;
 import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
 
@@ -37,9 +48,11 @@ import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
 @RequiredArgsConstructor
 public class TokenProvider {
 
-	private final AesProvider aesProvider;
 	private final RedisTemplate<String, String> redisTemplate;
-	private ObjectMapper objectMapper = new ObjectMapper();
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenBlacklistIndex tokenBlacklistIndex;
+	private final TokenPayloadCodec tokenPayloadCodec;
+	private final RedisScript<List<Object>> getDelAllScript = getDelAllScript();
 
 	public enum TokenType {
 		VERIFICATION_PHONE("verification:phone:", Duration.ofMinutes(5), VerificationPhoneTokenDto.class),
@@ -72,6 +85,23 @@ public class TokenProvider {
 		}
 	}
 
+	/**
+	 * {@link #consumeDecryptedTokenDtos} 결과
+	 */
+	public static class ConsumedTokens {
+
+		private final Map<TokenType, Encryptable<?>> dtos;
+
+		private ConsumedTokens(Map<TokenType, Encryptable<?>> dtos) {
+			this.dtos = dtos;
+		}
+
+		@SuppressWarnings("unchecked")
+		public <T extends Encryptable<T>> T get(TokenType tokenType) {
+			return (T) dtos.get(tokenType);
+		}
+	}
+
 	/**
 	 * DTO를 페이로드로 사용하는 토큰 생성
 	 * 
@@ -94,14 +124,13 @@ public class TokenProvider {
 		String token = UUID.randomUUID().toString();
 
 		try {
-			// 1. DTO에 정의된 방식대로 암호화 수행
-			T encryptedDto = dto.encrypt(aesProvider);
+			// 1. 저장 형식으로 변환 및 암호화
+			byte[] payload = tokenPayloadCodec.encode(tokenType, dto);
 
-			// 2. 암호화된 DTO 객체를 JSON 문자열로 직렬화
-			String json = objectMapper.writeValueAsString(encryptedDto);
-
-			// 3. Redis에 저장
-			redisTemplate.opsForValue().set(tokenType.getPrefix() + token, json, tokenType.getTtl());
+			// 2. Redis에 저장
+			byte[] key = rawKey(tokenType.getPrefix() + token);
+			redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(key, payload,
+					Expiration.from(tokenType.getTtl()), SetOption.upsert()));
 
 		} catch (Exception e) {
 			throw new RedisSetException(TOKEN_SET_FIAL, tokenType.name() + " Token Redis 저장 중 오류. " + e.getMessage(),
@@ -137,18 +166,96 @@ public class TokenProvider {
 	public <T extends Encryptable<T>> T getDecryptedTokenDto(TokenType tokenType, String token) {
 		log.debug("* {} 타입 토큰 검증. Token: [{}]", tokenType, LogMaskingUtil.maskToken(token, MaskLevel.MEDIUM));
 
-		String json = getToken(tokenType, token);
+		byte[] payload = getToken(tokenType, token);
 
-		try {
+		return decryptTokenDto(tokenType, payload);
+	}
 
-			@SuppressWarnings("unchecked")
-			T encryptedDto = (T) objectMapper.readValue(json, tokenType.getDtoType());
+	/**
+	 * 일회용 토큰을 조회와 동시에 삭제(GETDEL)하고 복호화하여 DTO 객체로 반환합니다.
+	 * 
+	 * 조회와 삭제가 한 번의 Redis 명령으로 처리되므로 같은 토큰이 동시에 두 번 사용될 수 없습니다.
+	 * 이후 검증이나 트랜잭션이 실패해도 토큰은 복구되지 않습니다.
+	 *
+	 * @param <T>       복호화 가능한 데이터를 담을 DTO 타입 (Encryptable 인터페이스 구현체)
+	 * @param tokenType 조회할 토큰의 종류
+	 * @param token     토큰 문자열
+	 * 
+	 * @return 복호화된 데이터가 담긴 DTO 객체
+	 * 
+	 * @throws IllegalTokenException 토큰 null 또는 비어있음 {@link #consumeDecryptedTokenDto}
+	 * @throws NoSuchTokenException  일치하는 토큰 없음 {@link #consumeDecryptedTokenDto}
+	 * @throws RedisGetException     역직렬화 또는 복호화 실패 {@link #decryptTokenDto}
+	 * 
+	 * @apiNote 이 메서드 호출 시 발생할 수 있는 예외와 그에 따른 HTTP 응답 코드입니다.
+	 *          <ul>
+	 *          <li>Token Errors</li>
+	 *          <li>{@code IllegalTokenException}: 400 Bad Request (Code: 4580)</li>
+	 *          <li>{@code NoSuchTokenException}: 404 Not Found (Code: 4581)</li>
+	 *          <li>{@code RedisGetException}: 500 Internal Server Error (Code: 5002)</li>
+	 *          </ul>
+	 */
+	public <T extends Encryptable<T>> T consumeDecryptedTokenDto(TokenType tokenType, String token) {
+		log.debug("* {} 타입 토큰 사용. Token: [{}]", tokenType, LogMaskingUtil.maskToken(token, MaskLevel.MEDIUM));
+
+		validateTokenString(tokenType, token);
+		byte[] key = rawKey(tokenType.getPrefix() + token);
+		byte[] payload = redisTemplate
+				.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().getDel(key));
+		if (payload == null) {
+			throw new NoSuchTokenException(TOKEN_NOT_FOUND, tokenType.name() + " 일치하는 토큰이 없음.");
+		}
+		return decryptTokenDto(tokenType, payload);
+	}
 
-			return encryptedDto.decrypt(aesProvider);
+	/**
+	 * 여러 일회용 토큰을 한 번의 Redis 호출로 조회 후 삭제합니다.
+	 * 
+	 * 하나라도 없으면 아무것도 삭제하지 않고 예외를 던집니다. (all-or-nothing)
+	 *
+	 * @param tokens 토큰 종류별 토큰 문자열
+	 * 
+	 * @return 토큰 종류별 복호화된 DTO
+	 * 
+	 * @throws IllegalTokenException 토큰 null 또는 비어있음 {@link #consumeDecryptedTokenDtos}
+	 * @throws NoSuchTokenException  일치하는 토큰 없음 {@link #consumeDecryptedTokenDtos}
+	 * @throws RedisGetException     역직렬화 또는 복호화 실패 {@link #decryptTokenDto}
+	 * 
+	 * @apiNote 이 메서드 호출 시 발생할 수 있는 예외와 그에 따른 HTTP 응답 코드입니다.
+	 *          <ul>
+	 *          <li>Token Errors</li>
+	 *          <li>{@code IllegalTokenException}: 400 Bad Request (Code: 4580)</li>
+	 *          <li>{@code NoSuchTokenException}: 404 Not Found (Code: 4581)</li>
+	 *          <li>{@code RedisGetException}: 500 Internal Server Error (Code: 5002)</li>
+	 *          </ul>
+	 */
+	public ConsumedTokens consumeDecryptedTokenDtos(Map<TokenType, String> tokens) {
+		log.debug("* {} 타입 토큰 일괄 사용.", tokens.keySet());
+
+		List<TokenType> types = new ArrayList<>(tokens.keySet());
+		List<String> keys = new ArrayList<>(types.size());
+		for (TokenType tokenType : types) {
+			String token = tokens.get(tokenType);
+			validateTokenString(tokenType, token);
+			keys.add(tokenType.getPrefix() + token);
+		}
 
-		} catch (Exception e) {
-			throw new RedisGetException(TOKEN_GET_FIAL, "Redis에서 토큰 조회 중 오류. " + e.getMessage(), e);
+		// 값은 바이너리이므로 문자열로 변환하지 않고 그대로 받음
+		List<Object> values = redisTemplate.execute(getDelAllScript, RedisSerializer.string(), rawResultSerializer(),
+				keys);
+		if (values == null || values.isEmpty()) {
+			throw new RedisGetException(TOKEN_GET_FIAL, "Redis 토큰 일괄 조회 응답 없음.");
+		}
+		if (values.get(0) instanceof Long missingIndex) {
+			throw new NoSuchTokenException(TOKEN_NOT_FOUND,
+					types.get(missingIndex.intValue() - 1).name() + " 일치하는 토큰이 없음.");
 		}
+
+		Map<TokenType, Encryptable<?>> dtos = new EnumMap<>(TokenType.class);
+		for (int i = 0; i < types.size(); i++) {
+			dtos.put(types.get(i), decryptTokenDto(types.get(i), (byte[]) values.get(i)));
+		}
+		return new ConsumedTokens(dtos);
 	}
 
 	/**
@@ -190,16 +297,21 @@ public class TokenProvider {
 		} catch (Exception e) {
 			throw new RedisSetException(TOKEN_SET_FIAL, "Token BlackList Redis 저장 중 오류. " + e.getMessage(), e);
 		}
+		tokenBlacklistIndex.add(token, ttl);
+		verifiedTokenCache.invalidate(token);
 	}
 
 	/**
-	 * 블랙리스트 조회
+	 * 블랙리스트 조회. 로컬 인덱스에 없는 토큰은 Redis 조회 없이 null.
 	 * 
 	 * @param accessToken
 	 * 
 	 * @return Redis 조회 value 또는 null
 	 */
 	public String getBlackListValue(String token) {
+		if (!tokenBlacklistIndex.mightContain(token)) {
+			return null;
+		}
 		log.debug("* 블랙리스트 조회. Token: [{}]", LogMaskingUtil.maskToken(token, MaskLevel.MEDIUM));
 
 		return redisTemplate.opsForValue().get(TokenType.JWT_BLACKLIST.getPrefix() + token);
@@ -228,6 +340,9 @@ public class TokenProvider {
 	public boolean removeToken(TokenType type, String key) {
 		log.debug("* Redis에서 {} 타입 토큰 삭제 조회. Key: [{}]", type, LogMaskingUtil.maskToken(key, MaskLevel.MEDIUM));
 
+		if (type == TokenType.JWT_BLACKLIST) {
+			tokenBlacklistIndex.remove(key);
+		}
 		return redisTemplate.delete(type.getPrefix() + key);
 	}
 
@@ -263,7 +378,7 @@ public class TokenProvider {
 	 * @param tokenType
 	 * @param token
 	 * 
-	 * @return json형식 String
+	 * @return 저장된 페이로드
 	 * 
 	 * @throws IllegalTokenException 토큰 null 또는 비어있음 {@link #getToken}
 	 * @throws NoSuchTokenException  일치하는 토큰 없음 {@link #getToken}
@@ -275,19 +390,56 @@ public class TokenProvider {
 	 *          <li>{@code NoSuchTokenException}: 404 Not Found (Code: 4581)</li>
 	 *          </ul>
 	 */
-	private String getToken(TokenType tokenType, String token) {
+	private byte[] getToken(TokenType tokenType, String token) {
 		log.debug("* Redis에 {} 토큰 조회. Token: [{}]", tokenType, LogMaskingUtil.maskToken(token, MaskLevel.MEDIUM));
 
+		validateTokenString(tokenType, token);
+		byte[] key = rawKey(tokenType.getPrefix() + token);
+		byte[] payload = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+
+		if (payload == null) {
+			throw new NoSuchTokenException(TOKEN_NOT_FOUND, tokenType.name() + " 일치하는 토큰이 없음.");
+		}
+		return payload;
+	}
+
+	/**
+	 * @throws IllegalTokenException 토큰 null 또는 비어있음 {@link #validateTokenString}
+	 */
+	private void validateTokenString(TokenType tokenType, String token) {
 		if (token == null || token.isBlank()) {
 			throw new IllegalTokenException(TOKEN_ILLEGAL, tokenType.name() + " Token null 또는 비어있음.");
 		}
-		String key = tokenType.getPrefix() + token;
-		String json = redisTemplate.opsForValue().get(key);
+	}
 
-		if (json == null) {
-			throw new NoSuchTokenException(TOKEN_NOT_FOUND, tokenType.name() + " 일치하는 토큰이 없음.");
+	/**
+	 * Redis에 저장된 페이로드를 복호화하여 DTO로 변환
+	 * 
+	 * @throws RedisGetException {@link #decryptTokenDto} 역직렬화 또는 복호화 실패
+	 */
+	private <T extends Encryptable<T>> T decryptTokenDto(TokenType tokenType, byte[] payload) {
+		try {
+			return tokenPayloadCodec.decode(tokenType, payload);
+		} catch (Exception e) {
+			throw new RedisGetException(TOKEN_GET_FIAL, "Redis에서 토큰 조회 중 오류. " + e.getMessage(), e);
 		}
-		return json;
 	}
 
-}
\ No newline at end of file
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static RedisSerializer<List<Object>> rawResultSerializer() {
+		return (RedisSerializer) RedisSerializer.byteArray();
+	}
+
+	private static byte[] rawKey(String key) {
+		return key.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static RedisScript<List<Object>> getDelAllScript() {
+		DefaultRedisScript script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("redis/getdel_all.lua"));
+		script.setResultType(List.class);
+		return script;
+	}
+
+}
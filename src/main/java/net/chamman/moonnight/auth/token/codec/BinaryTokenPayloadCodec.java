@@ -0,0 +1,179 @@
+package net.chamman.moonnight.auth.token.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.auth.crypto.AesProvider;
+import net.chamman.moonnight.auth.crypto.Encryptable;
+import net.chamman.moonnight.auth.token.TokenProvider.TokenType;
+import net.chamman.moonnight.auth.token.dto.AdminPasswordConfirmTokenDto;
+import net.chamman.moonnight.auth.token.dto.AdminSignUpTokenDto;
+import net.chamman.moonnight.auth.token.dto.FindAdminPwTokenDto;
+import net.chamman.moonnight.auth.token.dto.VerificationEmailTokenDto;
+import net.chamman.moonnight.auth.token.dto.VerificationPhoneTokenDto;
+
+/**
+ * 토큰 페이로드 바이너리 저장 형식.
+ *
+ * 평문 DTO 필드를 TokenType별로 미리 정의한 순서대로 길이-값 레코드로 쓰고,
+ * 레코드 전체를 AES-GCM으로 한 번 암호화한다. (TokenType 이름을 AAD로 사용)
+ *
+ * <pre>
+ * [0x01][AesProvider.encryptBytes( [필드 수][varint(길이+1)][UTF-8]... )]
+ * </pre>
+ *
+ * '{'로 시작하는 값은 이전 JSON 형식으로 보고 {@link JsonTokenPayloadCodec}으로 읽는다.
+ * 배포 중 이전 버전 노드가 남아 있으면 {@code token.payload.write-json=true}로 JSON 쓰기를 유지한다.
+ * JSON의 각 값은 {@link AesProvider#encrypt}로 암호화하므로 {@code aes.write-legacy=true}도 함께 켠다.
+ */
+@Component
+@Slf4j
+public class BinaryTokenPayloadCodec implements TokenPayloadCodec {
+
+	private static final byte FORMAT_BINARY = 0x01;
+	private static final byte LEGACY_JSON_START = '{';
+
+	private record Schema<T extends Encryptable<T>>(Function<T, String[]> writer, Function<String[], T> reader) {
+	}
+
+	private final AesProvider aesProvider;
+	private final JsonTokenPayloadCodec legacyCodec;
+	private final boolean writeJson;
+	private final Map<TokenType, Schema<?>> schemas = new EnumMap<>(TokenType.class);
+	private final Map<TokenType, byte[]> aads = new EnumMap<>(TokenType.class);
+
+	public BinaryTokenPayloadCodec(AesProvider aesProvider,
+			@Value("${token.payload.write-json:false}") boolean writeJson) {
+		this.aesProvider = aesProvider;
+		this.legacyCodec = new JsonTokenPayloadCodec(aesProvider);
+		this.writeJson = writeJson;
+
+		register(TokenType.VERIFICATION_PHONE,
+				dto -> new String[] { dto.getVerificationId(), dto.getPhone() },
+				f -> new VerificationPhoneTokenDto(f[0], f[1]));
+		register(TokenType.VERIFICATION_EMAIL,
+				dto -> new String[] { dto.getVerificationId(), dto.getEmail() },
+				f -> new VerificationEmailTokenDto(f[0], f[1]));
+		register(TokenType.ACCESS_FINDPW,
+				dto -> new String[] { dto.getAdminId(), dto.getEmail() },
+				f -> new FindAdminPwTokenDto(f[0], f[1]));
+		register(TokenType.ACCESS_PASSWORD,
+				dto -> new String[] { dto.getAdminId(), dto.getEmail() },
+				f -> new AdminPasswordConfirmTokenDto(f[0], f[1]));
+		register(TokenType.ACCESS_SIGNUP,
+				dto -> new String[] { dto.getEmail(), dto.getRawPassword() },
+				f -> new AdminSignUpTokenDto(f[0], f[1]));
+
+		if (writeJson) {
+			log.info("* 토큰 페이로드 JSON 쓰기 모드.");
+		}
+	}
+
+	@Override
+	public <T extends Encryptable<T>> byte[] encode(TokenType tokenType, T dto) {
+		if (writeJson) {
+			return legacyCodec.encode(tokenType, dto);
+		}
+		byte[] record = writeRecord(this.<T>schema(tokenType).writer().apply(dto));
+		byte[] encrypted = aesProvider.encryptBytes(record, aads.get(tokenType));
+
+		byte[] stored = new byte[encrypted.length + 1];
+		stored[0] = FORMAT_BINARY;
+		System.arraycopy(encrypted, 0, stored, 1, encrypted.length);
+		return stored;
+	}
+
+	@Override
+	public <T extends Encryptable<T>> T decode(TokenType tokenType, byte[] stored) {
+		if (stored.length > 0 && stored[0] == LEGACY_JSON_START) {
+			return legacyCodec.decode(tokenType, stored);
+		}
+		if (stored.length == 0 || stored[0] != FORMAT_BINARY) {
+			throw new IllegalStateException("알 수 없는 토큰 저장 형식.");
+		}
+		byte[] record = aesProvider.decryptBytes(stored, 1, aads.get(tokenType));
+		return this.<T>schema(tokenType).reader().apply(readRecord(record));
+	}
+
+	private <T extends Encryptable<T>> void register(TokenType tokenType, Function<T, String[]> writer,
+			Function<String[], T> reader) {
+		schemas.put(tokenType, new Schema<>(writer, reader));
+		aads.put(tokenType, tokenType.name().getBytes(StandardCharsets.UTF_8));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends Encryptable<T>> Schema<T> schema(TokenType tokenType) {
+		Schema<?> schema = schemas.get(tokenType);
+		if (schema == null) {
+			throw new IllegalArgumentException("페이로드 형식이 없는 TokenType: " + tokenType);
+		}
+		return (Schema<T>) schema;
+	}
+
+	static byte[] writeRecord(String[] fields) {
+		byte[][] values = new byte[fields.length][];
+		int size = 1;
+		for (int i = 0; i < fields.length; i++) {
+			values[i] = fields[i] == null ? null : fields[i].getBytes(StandardCharsets.UTF_8);
+			int length = values[i] == null ? 0 : values[i].length + 1;
+			size += varIntSize(length) + (values[i] == null ? 0 : values[i].length);
+		}
+
+		byte[] out = new byte[size];
+		out[0] = (byte) fields.length;
+		int pos = 1;
+		for (byte[] value : values) {
+			// 0: null, n: 길이 n-1
+			pos = writeVarInt(out, pos, value == null ? 0 : value.length + 1);
+			if (value != null) {
+				System.arraycopy(value, 0, out, pos, value.length);
+				pos += value.length;
+			}
+		}
+		return out;
+	}
+
+	static String[] readRecord(byte[] record) {
+		String[] fields = new String[record[0]];
+		int pos = 1;
+		for (int i = 0; i < fields.length; i++) {
+			int length = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = record[pos++];
+				length |= (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+
+			if (length > 0) {
+				fields[i] = new String(record, pos, length - 1, StandardCharsets.UTF_8);
+				pos += length - 1;
+			}
+		}
+		return fields;
+	}
+
+	private static int varIntSize(int value) {
+		int size = 1;
+		while ((value >>>= 7) != 0) {
+			size++;
+		}
+		return size;
+	}
+
+	private static int writeVarInt(byte[] out, int pos, int value) {
+		while ((value & ~0x7F) != 0) {
+			out[pos++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out[pos++] = (byte) value;
+		return pos;
+	}
+}
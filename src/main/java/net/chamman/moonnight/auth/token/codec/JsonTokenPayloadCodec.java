@@ -0,0 +1,45 @@
+package net.chamman.moonnight.auth.token.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import net.chamman.moonnight.auth.crypto.AesProvider;
+import net.chamman.moonnight.auth.crypto.Encryptable;
+import net.chamman.moonnight.auth.token.TokenProvider.TokenType;
+
+/**
+ * 이전 저장 형식. 필드마다 {@link Encryptable#encrypt} 후 JSON 직렬화.
+ * 
+ * {@link BinaryTokenPayloadCodec}이 배포 전 저장된 토큰을 읽을 때와, 
+ * 배포 중 이전 버전 노드가 읽을 수 있게 JSON으로 쓸 때 사용한다.
+ */
+public class JsonTokenPayloadCodec implements TokenPayloadCodec {
+
+	private final AesProvider aesProvider;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	public JsonTokenPayloadCodec(AesProvider aesProvider) {
+		this.aesProvider = aesProvider;
+	}
+
+	@Override
+	public <T extends Encryptable<T>> byte[] encode(TokenType tokenType, T dto) {
+		try {
+			return objectMapper.writeValueAsBytes(dto.encrypt(aesProvider));
+		} catch (Exception e) {
+			throw new IllegalStateException("토큰 JSON 직렬화 실패. " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public <T extends Encryptable<T>> T decode(TokenType tokenType, byte[] stored) {
+		try {
+			@SuppressWarnings("unchecked")
+			T encryptedDto = (T) objectMapper.readValue(stored, tokenType.getDtoType());
+			return encryptedDto.decrypt(aesProvider);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException("토큰 JSON 역직렬화 실패. " + e.getMessage(), e);
+		}
+	}
+}
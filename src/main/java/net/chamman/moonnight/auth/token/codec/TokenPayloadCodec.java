@@ -0,0 +1,28 @@
+package net.chamman.moonnight.auth.token.codec;
+
+import net.chamman.moonnight.auth.crypto.Encryptable;
+import net.chamman.moonnight.auth.token.TokenProvider.TokenType;
+
+/**
+ * {@link net.chamman.moonnight.auth.token.TokenProvider} 토큰 페이로드의 Redis 저장 형식.
+ * 
+ * 평문 DTO를 받아 암호화된 저장 값으로, 저장 값을 평문 DTO로 변환한다.
+ */
+public interface TokenPayloadCodec {
+
+	/**
+	 * @param tokenType
+	 * @param dto       평문 DTO
+	 * 
+	 * @return Redis에 저장할 값
+	 */
+	<T extends Encryptable<T>> byte[] encode(TokenType tokenType, T dto);
+
+	/**
+	 * @param tokenType
+	 * @param stored    Redis에 저장된 값
+	 * 
+	 * @return 평문 DTO
+	 */
+	<T extends Encryptable<T>> T decode(TokenType tokenType, byte[] stored);
+}
@@ -62,8 +62,7 @@ public class VerificationService {
 		log.debug("* 인증번호 문자 발송. RecipientPhone: [{}], ClientIp: [{}]",
 				LogMaskingUtil.maskPhone(recipientPhone, MaskLevel.MEDIUM), clientIp);
 
-		rateLimitService.checkVerificationCodeRequest(recipientPhone);
-		rateLimitService.checkRequestClientIp(clientIp);
+		rateLimitService.checkVerificationCodeRequest(recipientPhone, clientIp);
 
 		String verificationCode = generateVerificationCode();
 		String message = "[달밤청소 휴대폰 인증 요청]\n인증번호 [" + verificationCode + "]를 입력해주세요.";
@@ -108,8 +107,7 @@ public class VerificationService {
 		log.debug("* 인증번호 이메일 발송. RecipientEmail: [{}], ClientIp: [{}]",
 				LogMaskingUtil.maskEmail(recipientEmail, MaskLevel.MEDIUM), clientIp);
 
-		rateLimitService.checkVerificationCodeRequest(recipientEmail);
-		rateLimitService.checkRequestClientIp(clientIp);
+		rateLimitService.checkVerificationCodeRequest(recipientEmail, clientIp);
 
 		String verificationCode = generateVerificationCode();
 		String message = "인증번호 [" + verificationCode + "]를 입력해주세요.";
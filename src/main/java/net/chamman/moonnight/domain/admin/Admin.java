@@ -13,6 +13,7 @@ import org.hibernate.generator.EventType;
 import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -33,6 +34,7 @@ import net.chamman.moonnight.global.exception.status.StatusStopException;
 
 @Entity
 @Table(name = "admin")
+@EntityListeners(AdminCacheEvictListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -77,12 +79,16 @@ public class Admin {
 		ACTIVE, STAY, STOP, DELETE;
 	}
 
-	@SuppressWarnings("incomplete-switch")
 	public void validateStatus() {
-		switch (this.adminStatus) {
-		case STAY -> throw new StatusStayException(USER_STATUS_STAY, "일시 정지된 계정. admin.id: " + this.adminId);
-		case STOP -> throw new StatusStopException(USER_STATUS_STOP, "정지된 계정. admin.id: " + this.adminId);
-		case DELETE -> throw new StatusDeleteException(USER_STATUS_DELETE, "탈퇴한 계정. admin.id: " + this.adminId);
+		validateStatus(this.adminId, this.adminStatus);
+	}
+
+	@SuppressWarnings("incomplete-switch")
+	public static void validateStatus(int adminId, AdminStatus adminStatus) {
+		switch (adminStatus) {
+		case STAY -> throw new StatusStayException(USER_STATUS_STAY, "일시 정지된 계정. admin.id: " + adminId);
+		case STOP -> throw new StatusStopException(USER_STATUS_STOP, "정지된 계정. admin.id: " + adminId);
+		case DELETE -> throw new StatusDeleteException(USER_STATUS_DELETE, "탈퇴한 계정. admin.id: " + adminId);
 		}
 	}
 
@@ -0,0 +1,36 @@
+package net.chamman.moonnight.domain.admin;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admin 엔티티 수정(상태, 비밀번호, 이름, 탈퇴 등) 시 커밋 후 {@link AdminStatusCache} 제거.
+ * 롤백되면 캐시를 건드리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminCacheEvictListener {
+
+	private final AdminStatusCache adminStatusCache;
+
+	@PostUpdate
+	@PostRemove
+	public void onChange(Admin admin) {
+		int adminId = admin.getAdminId();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			adminStatusCache.evict(adminId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				adminStatusCache.evict(adminId);
+			}
+		});
+	}
+}
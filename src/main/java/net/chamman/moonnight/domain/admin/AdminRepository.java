@@ -29,6 +29,9 @@ public interface AdminRepository extends JpaRepository<Admin, Integer> {
 	@Query("SELECT u FROM Admin u WHERE u.email = :email AND u.adminStatus <> :adminStatus")
 	Optional<Admin> findByEmailAndAdminStatusNot(@Param("email") String email, @Param("adminStatus") AdminStatus adminStatus);
 
+	@Query("SELECT u.adminStatus FROM Admin u WHERE u.adminId = :adminId")
+	Optional<AdminStatus> findAdminStatusByAdminId(@Param("adminId") int adminId);
+
 	@Query("SELECT u FROM Admin u WHERE u.phone = :phone AND u.adminStatus <> :adminStatus")
 	Optional<Admin> findByPhoneAndAdminStatusNot(@Param("phone") String phone, @Param("adminStatus") AdminStatus adminStatus);
 
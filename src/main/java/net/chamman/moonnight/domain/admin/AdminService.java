@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.auth.token.AdminTokenEpochStore;
 import net.chamman.moonnight.auth.token.TokenProvider;
 import net.chamman.moonnight.auth.token.TokenProvider.TokenType;
 import net.chamman.moonnight.auth.token.dto.VerificationEmailTokenDto;
@@ -43,7 +44,9 @@ public class AdminService {
 	private final AdminRepository adminRepository;
 	private final VerificationService verificationService;
 	private final TokenProvider tokenProvider;
+	private final AdminTokenEpochStore adminTokenEpochStore;
 	private final PasswordEncoder passwordEncoder;
+	private final AdminStatusCache adminStatusCache;
 
 	/**
 	 * 지정된 ID를 가진 활성 상태의 관리자 정보를 조회합니다.
@@ -73,6 +76,20 @@ public class AdminService {
 		return findAdminWithValidateStatusByAdminId(adminId);
 	}
 
+	/**
+	 * 관리자가 활성 상태인지 검증합니다. 엔티티를 조회하지 않고 {@link AdminStatusCache}의 상태를 사용합니다.
+	 *
+	 * @param adminId 검증할 관리자의 고유 ID
+	 * 
+	 * @throws NoSuchDataException   해당 ID의 관리자가 존재하지 않을 경우. ({@link AdminStatusCache#getStatus})
+	 * @throws StatusStayException   계정이 '일시 정지' 상태일 경우.
+	 * @throws StatusStopException   계정이 '정지' 상태일 경우.
+	 * @throws StatusDeleteException 계정이 '탈퇴' 상태일 경우.
+	 */
+	public void validateActiveAdmin(int adminId) {
+		Admin.validateStatus(adminId, adminStatusCache.getStatus(adminId));
+	}
+
 	/**
 	 * 이메일 문자열과 일치하는 활성 상태의 관리자 정보를 조회합니다.
 	 * 
@@ -150,15 +167,15 @@ public class AdminService {
 	/**
 	 * 휴대폰 인증 완료 후, 관리자의 휴대폰 번호를 변경합니다.
 	 * 
-	 * 제출된 인증 토큰을 복호화하고 유효성을 검증합니다. DB에서 인증 요청 기록을 찾아 정상 처리되었는지 재차 확인합니다. 관리자 계정이 활성 상태인지 확인합니다. 데이터 정합성을 위해 엔티티 버전을 검증합니다. 모든 검증이 통과되면 휴대폰 번호를 변경하고, 사용된 인증 토큰을 삭제합니다.
+	 * 제출된 인증 토큰을 조회와 동시에 삭제(재사용 방지)하고 복호화합니다. DB에서 인증 요청 기록을 찾아 정상 처리되었는지 재차 확인합니다. 관리자 계정이 활성 상태인지 확인합니다. 데이터 정합성을 위해 엔티티 버전을 검증합니다. 모든 검증이 통과되면 휴대폰 번호를 변경합니다.
 	 *
 	 * @param adminId                휴대폰 번호를 변경할 관리자의 고유 ID
 	 * @param dto                    AdminPhoneRequestDto 새로 변경할 휴대폰 번호와 데이터 정합성 검증을 위한 엔티티 버전 번호
 	 * @param verificationPhoneToken 휴대폰 인증 성공 후 발급된 일회성 토큰
 	 * 
-	 * @throws IllegalTokenException        토큰이 null이거나 비어있는 경우. ({@link TokenProvider#getDecryptedTokenDto})
-	 * @throws NoSuchTokenException         Redis에 일치하는 토큰이 없는 경우. ({@link TokenProvider#getDecryptedTokenDto})
-	 * @throws RedisGetException            Redis 데이터를 DTO로 변환 또는 복호화하는 데 실패한 경우. ({@link TokenProvider#getDecryptedTokenDto})
+	 * @throws IllegalTokenException        토큰이 null이거나 비어있는 경우. ({@link TokenProvider#consumeDecryptedTokenDto})
+	 * @throws NoSuchTokenException         Redis에 일치하는 토큰이 없는 경우. ({@link TokenProvider#consumeDecryptedTokenDto})
+	 * @throws RedisGetException            Redis 데이터를 DTO로 변환 또는 복호화하는 데 실패한 경우. ({@link TokenProvider#consumeDecryptedTokenDto})
 	 * @throws NoSuchDataException          DB에 해당 인증 요청 또는 관리자 정보가 없는 경우. ({@link VerificationService#isVerify}, {@link #findAdminWithValidateStatusByAdminId})
 	 * @throws VerificationExpiredException 인증 유효 시간이 만료된 경우. ({@link VerificationService#isVerify})
 	 * @throws NotVerifyException           아직 인증이 완료되지 않은 요청인 경우. ({@link VerificationService#isVerify})
@@ -193,7 +210,7 @@ public class AdminService {
 	public void updatePhoneByVerifiedPhone(int adminId, AdminPhoneRequestDto dto, String verificationPhoneToken) {
 
 		VerificationPhoneTokenDto verificationPhoneTokenDto = tokenProvider
-				.getDecryptedTokenDto(VerificationPhoneTokenDto.TOKENTYPE, verificationPhoneToken);
+				.consumeDecryptedTokenDto(VerificationPhoneTokenDto.TOKENTYPE, verificationPhoneToken);
 		verificationService.isVerify(verificationPhoneTokenDto.getIntVerificationId());
 
 		Optional<Admin> existAdmin = adminRepository.findByPhoneAndAdminStatusNot(dto.phone(), AdminStatus.DELETE);
@@ -204,8 +221,6 @@ public class AdminService {
 		Admin admin = findAdminWithValidateStatusByAdminId(adminId);
 		admin.verifyVersion(dto.version());
 		admin.modify(null, dto.phone());
-
-		tokenProvider.removeToken(TokenType.VERIFICATION_PHONE, verificationPhoneToken);
 	}
 
 	/**
@@ -236,6 +251,9 @@ public class AdminService {
 		Admin admin = findAdminWithValidateStatusByAdminId(adminId);
 		admin.verifyVersion(dto.version());
 		admin.modify(dto.name(), null);
+
+		// 토큰의 name claim 갱신을 위해 기존 액세스 토큰 재발급
+		adminTokenEpochStore.bumpAfterCommit(adminId);
 	}
 	
 	private Admin findAdminWithValidateStatusByAdminId(int adminId) {
@@ -0,0 +1,111 @@
+package net.chamman.moonnight.domain.admin;
+
+import static net.chamman.moonnight.global.exception.HttpStatusCode.USER_NOT_FOUND;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.domain.admin.Admin.AdminStatus;
+import net.chamman.moonnight.global.exception.NoSuchDataException;
+
+/**
+ * 관리자 상태 노드 메모리 캐시.
+ *
+ * {@code @ActiveAdminOnly} 검사처럼 상태만 필요한 곳에서 매번 Admin 엔티티를 조회하지 않도록
+ * adminId별 상태를 {@code admin.status.cache-ttl-ms} 동안 보관한다.
+ * Admin 엔티티가 수정되면 커밋 후 {@link AdminCacheEvictListener}가 {@link #evict}를 호출하고,
+ * 다른 노드에는 pub/sub({@link #CHANNEL})으로 전파한다.
+ *
+ * 조회 중에 제거가 일어나면 조회한 값이 이미 오래된 값일 수 있으므로,
+ * 제거마다 세대({@link #generation})를 올리고 저장 후 세대가 바뀌었으면 저장한 값을 다시 지운다.
+ */
+@Component
+@Slf4j
+public class AdminStatusCache implements MessageListener {
+
+	public static final String CHANNEL = "admin:status:events";
+
+	private record Entry(AdminStatus adminStatus, long loadedAtMillis) {
+	}
+
+	private final AdminRepository adminRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ConcurrentHashMap<Integer, Entry> statuses = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+	private final long cacheTtlMillis;
+
+	public AdminStatusCache(@Lazy AdminRepository adminRepository, RedisTemplate<String, String> redisTemplate,
+			@Value("${admin.status.cache-ttl-ms:30000}") long cacheTtlMillis) {
+		this.adminRepository = adminRepository;
+		this.redisTemplate = redisTemplate;
+		this.cacheTtlMillis = cacheTtlMillis;
+	}
+
+	/**
+	 * @param adminId
+	 *
+	 * @throws NoSuchDataException {@link #getStatus} 관리자 없음
+	 *
+	 * @return 관리자 상태
+	 */
+	public AdminStatus getStatus(int adminId) {
+		Entry entry = statuses.get(adminId);
+		long now = System.currentTimeMillis();
+		if (entry != null && now - entry.loadedAtMillis() < cacheTtlMillis) {
+			return entry.adminStatus();
+		}
+
+		long loadedGeneration = generation.get();
+		AdminStatus adminStatus = adminRepository.findAdminStatusByAdminId(adminId)
+				.orElseThrow(() -> new NoSuchDataException(USER_NOT_FOUND, "찾을 수 없는 유저."));
+		Entry loaded = new Entry(adminStatus, now);
+		statuses.put(adminId, loaded);
+		// 조회 중 제거됐으면 저장한 값이 제거 이전 값일 수 있음
+		if (generation.get() != loadedGeneration) {
+			statuses.remove(adminId, loaded);
+		}
+		return adminStatus;
+	}
+
+	/**
+	 * 로컬 캐시 제거 후 다른 노드에 전파.
+	 *
+	 * @param adminId
+	 */
+	public void evict(int adminId) {
+		remove(adminId);
+		try {
+			redisTemplate.convertAndSend(CHANNEL, String.valueOf(adminId));
+		} catch (Exception e) {
+			// 다른 노드는 캐시 만료 시 반영
+			log.warn("* 관리자 상태 캐시 동기화 메시지 발행 실패. {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			remove(Integer.parseInt(body));
+		} catch (NumberFormatException e) {
+			log.warn("* 관리자 상태 캐시 동기화 메시지 형식 오류. Message: [{}]", body);
+		}
+	}
+
+	/**
+	 * 세대를 먼저 올려 진행 중인 조회가 제거 이후에 값을 남기지 않게 한다.
+	 */
+	private void remove(int adminId) {
+		generation.incrementAndGet();
+		statuses.remove(adminId);
+	}
+}
@@ -1,7 +1,6 @@
 package net.chamman.moonnight.domain.estimate;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -37,14 +36,14 @@ public class EstimateImagaeService {
 	 * @param images 업로드할 {@link MultipartFile} 객체 리스트. 각 파일은 이미지여야 한다.
 	 * @param phone  사용자 전화번호. S3 경로 생성에 사용되며, 하이픈(-)은 추후 제거된다.
 	 * @return 업로드 성공 시 각 이미지의 S3 URL {@link List}. 업로드 실패 시 S3UploadException 발생.
-	 * @throws S3UploadException {@link AwsS3Client#uploadFiles(List, String)} AWS
-	 *                           S3에 파일 업로드 중 오류 발생 시.
+	 * @throws S3UploadException {@link AwsS3Client#uploadAll(List, String)} AWS
+	 *                           S3에 파일 업로드 중 오류 발생 시. 먼저 올라간 이미지는 삭제된다.
 	 */
 	public List<String> uploadEstimateImages(List<MultipartFile> images, String estimateId) {
 
 		String keyPrefix = "estimateImages/" + estimateId + "/";
 
-		return images.stream().map(file -> fileStorage.upload(file, keyPrefix)).collect(Collectors.toList());
+		return fileStorage.uploadAll(images, keyPrefix);
 	}
 
 	/**
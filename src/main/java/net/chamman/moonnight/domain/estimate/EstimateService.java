@@ -31,10 +31,10 @@ import net.chamman.moonnight.global.exception.NoSuchDataException;
 import net.chamman.moonnight.global.exception.infra.s3.S3UploadException;
 import net.chamman.moonnight.global.exception.status.StatusDeleteException;
 import net.chamman.moonnight.global.notification.NotificationService;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutboxDispatcher;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutboxService;
 import net.chamman.moonnight.global.util.LogMaskingUtil;
 import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
-import net.chamman.moonnight.infra.email.EmailSender;
-import net.chamman.moonnight.infra.sms.SmsSender;
 import net.chamman.moonnight.rate.limiter.RateLimitService;
 
 @Service
@@ -48,8 +48,7 @@ public class EstimateService {
 	private final VerificationService verificationService;
 	private final NotificationService notificationService;
 	private final RateLimitService rateLimitService;
-	private final SmsSender smsSender;
-	private final EmailSender emailSender;
+	private final NotificationOutboxService notificationOutboxService;
 	private final Obfuscator obfuscator;
 
 	/**
@@ -67,7 +66,6 @@ public class EstimateService {
 	public Estimate registerEstimate(EstimateRegisterRequestDto dto, List<MultipartFile> images, String clientIp) {
 
 		rateLimitService.checkEstimateRegister(clientIp);
-		rateLimitService.checkRequestClientIp(clientIp);
 
 		List<String> imagesPath = null;
 
@@ -84,7 +82,7 @@ public class EstimateService {
 					.estimateStatus(EstimateStatus.RECEIVE).clientIp(clientIp).build();
 			estimateRepository.save(estimate);
 
-			// 견적 신청 성공 안내 발송
+			// 견적 신청 성공 안내 적재 (커밋 후 발송)
 			String phone = estimate.getPhone();
 			String email = estimate.getEmail();
 			if (phone != null && !phone.isBlank()) {
@@ -115,14 +113,13 @@ public class EstimateService {
 	public Estimate registerSimpleEstimate(SimpleEstimateRequestDto dto, String clientIp) {
 
 		rateLimitService.checkEstimateRegister(clientIp);
-		rateLimitService.checkRequestClientIp(clientIp);
 
 		Estimate estimate = Estimate.builder().name("간편 견적 " + dto.phone()).phone(dto.phone())
 				.cleaningService(dto.cleaningService().name()).mainAddress(dto.region())
 				.estimateStatus(EstimateStatus.RECEIVE).clientIp(clientIp).build();
 		estimateRepository.save(estimate);
 
-		// 견적 신청 성공 안내 발송
+		// 견적 신청 성공 안내 적재 (커밋 후 발송)
 		sendEstimateInfoSms(estimate.getPhone(), obfuscator.encode(estimate.getEstimateId()) + "");
 
 		return estimate;
@@ -419,7 +416,7 @@ public class EstimateService {
 	}
 
 	/**
-	 * 견적 신청 확인 문자 안내
+	 * 견적 신청 확인 문자 안내 적재. 현재 트랜잭션 커밋 후 {@link NotificationOutboxDispatcher}가 발송한다.
 	 * 
 	 * @param recipientPhone
 	 * @param estimateId
@@ -428,18 +425,11 @@ public class EstimateService {
 		String message = "[달밤청소 견적 신청]\n" + "[ 견적 번호 : " + estimateId + " ]\n" + "달밤청소 문의 주셔서 감사합니다.\n"
 				+ "빠른 시일 내에 연락 드리겠습니다.";
 
-		try {
-			int statusCode = smsSender.sendSms(recipientPhone, message);
-			if ((statusCode / 100) != 2) {
-				log.error("안내 문자 발송 실패. statusCode: {}, phone: {}", statusCode, recipientPhone);
-			}
-		} catch (Exception e) {
-			log.error("안내 문자 발송 실패. phone: {}, e: {}", recipientPhone, e);
-		}
+		notificationOutboxService.enqueueSms("estimate-info:" + estimateId + ":sms", recipientPhone, message);
 	}
 
 	/**
-	 * 견적 신청 확인 이메일 안내
+	 * 견적 신청 확인 이메일 안내 적재. 현재 트랜잭션 커밋 후 {@link NotificationOutboxDispatcher}가 발송한다.
 	 * 
 	 * @param recipientPhone
 	 * @param estimateId
@@ -448,15 +438,7 @@ public class EstimateService {
 		String title = "달밤청소 견적서";
 		String message = "[ 견적 번호 : " + estimateId + " ]\n" + "달밤청소 문의 주셔서 감사합니다.\n" + "빠른 시일 내에 연락 드리겠습니다.";
 
-		try {
-			int statusCode = emailSender.sendEmail(recipientEmail, title, message);
-
-			if ((statusCode / 100) != 2) {
-				log.error("안내 이메일 발송 실패. statusCode: {}, email: {}", statusCode, recipientEmail);
-			}
-		} catch (Exception e) {
-			log.error("안내 이메일 발송 실패. email: {}, e: {}", recipientEmail, e);
-		}
+		notificationOutboxService.enqueueEmail("estimate-info:" + estimateId + ":email", recipientEmail, title, message);
 	}
 
 }
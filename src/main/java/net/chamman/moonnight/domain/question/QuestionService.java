@@ -39,7 +39,6 @@ public class QuestionService {
 	public Question registerQuestion(QuestionCreateRequestDto dto, String clientIp) {
 		
 		rateLimitService.checkQuestionRegister(clientIp);
-		rateLimitService.checkRequestClientIp(clientIp);
 		
 		Question question = Question.builder().password(passwordEncoder.encode(dto.password())).title(dto.title())
 				.content(dto.content()).questionStatus(QuestionStatus.PENDING).clientIp(clientIp).build();
@@ -1,5 +1,8 @@
 package net.chamman.moonnight.global.aop;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
@@ -17,34 +20,36 @@ import net.chamman.moonnight.global.exception.HttpStatusCode;
 @RequiredArgsConstructor
 public class AdminAuthAspect {
     
+    private static final int NO_ADMIN_ID = -1;
+
     private final AdminService adminService;
+    // 메서드별 adminId 파라미터 위치. 최초 호출 시 한 번만 계산
+    private final ConcurrentHashMap<Method, Integer> adminIdIndexes = new ConcurrentHashMap<>();
 
     // @AdminOnly 어노테이션이 붙은 메서드 실행 전에 이 코드를 실행
-    // 매개변수 중 adminId 값을 통해 엔티티를 조회하여 해당 엔티티의 status를 검사 
+    // 매개변수 중 adminId 값으로 관리자 상태를 검사 (AdminStatusCache)
     @Before("@annotation(activeAdminOnly)")
     public void verifyAdmin(JoinPoint joinPoint, ActiveAdminOnly activeAdminOnly) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        int index = adminIdIndexes.computeIfAbsent(signature.getMethod(), m -> findAdminIdIndex(signature));
 
-        String[] parameterNames = signature.getParameterNames();
-        
-        // 3. 메서드로 들어온 실제 값(인자)들을 가져옵니다. (예: [1, Pageable_객체])
         Object[] args = joinPoint.getArgs();
+        if (index == NO_ADMIN_ID || !(args[index] instanceof Integer adminId)) {
+            throw new ForbiddenException(HttpStatusCode.AUTHORIZATION_FAILED, "@AdminOnly 메서드에 adminId 파라미터가 없거나 타입이 맞지 않습니다.");
+        }
         
-        Integer adminId = null;
-        
+        adminService.validateActiveAdmin(adminId);
+    }
+
+    private static int findAdminIdIndex(MethodSignature signature) {
+        String[] parameterNames = signature.getParameterNames();
+        Class<?>[] parameterTypes = signature.getParameterTypes();
         for (int i = 0; i < parameterNames.length; i++) {
-            if ("adminId".equals(parameterNames[i])) {
-                if (args[i] instanceof Integer) {
-                    adminId = (Integer) args[i];
-                    break;
-                }
+            if ("adminId".equals(parameterNames[i])
+                    && (parameterTypes[i] == int.class || parameterTypes[i] == Integer.class)) {
+                return i;
             }
         }
-        
-        if (adminId == null) {
-            throw new ForbiddenException(HttpStatusCode.AUTHORIZATION_FAILED, "@AdminOnly 메서드에 adminId 파라미터가 없거나 타입이 맞지 않습니다.");
-        }
-        
-        adminService.getActiveAdminById(adminId);
+        return NO_ADMIN_ID;
     }
-}
\ No newline at end of file
+}
@@ -7,7 +7,9 @@ import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
 @Configuration
 public class AwsConfig {
@@ -31,4 +33,22 @@ public class AwsConfig {
                   AwsBasicCredentials.create(accessKey, secretKey)))
           .build();
     }
+
+    // 업로드용 비동기 클라이언트. threshold-bytes 이상은 part-size-bytes 단위 멀티파트 업로드
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(
+        @Value("${aws.s3.multipart.threshold-bytes:16777216}") long thresholdBytes,
+        @Value("${aws.s3.multipart.part-size-bytes:8388608}") long partSizeBytes) {
+      return S3AsyncClient.builder()
+          .region(Region.of(region))
+          .credentialsProvider(
+              StaticCredentialsProvider.create(
+                  AwsBasicCredentials.create(accessKey, secretKey)))
+          .multipartEnabled(true)
+          .multipartConfiguration(MultipartConfiguration.builder()
+              .thresholdInBytes(thresholdBytes)
+              .minimumPartSizeInBytes(partSizeBytes)
+              .build())
+          .build();
+    }
 }
\ No newline at end of file
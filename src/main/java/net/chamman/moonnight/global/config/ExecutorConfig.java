@@ -0,0 +1,80 @@
+package net.chamman.moonnight.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.context.CustomRequestContextHolder;
+
+/**
+ * 외부 I/O 대기 작업용 실행기. 작업 종류별로 나눠 한 종류가 밀려도 다른 종류를 막지 않게 한다.
+ *
+ * <ul>
+ * <li>{@link #IO_EXECUTOR}: 응답과 무관한 백그라운드 작업. (알림 발송, outbox 처리)</li>
+ * <li>{@link #ADDRESS_EXECUTOR}: 요청 스레드가 결과를 기다리는 주소 검증 병렬 조회.</li>
+ * <li>{@link #UPLOAD_EXECUTOR}: 요청 스레드가 결과를 기다리는 S3 파일 병렬 업로드.</li>
+ * </ul>
+ *
+ * {@code spring.threads.virtual.enabled=true}이면 Spring Boot가 Tomcat 요청 스레드와
+ * 기본 실행기를 가상 스레드로 바꾸고, 이 실행기들도 작업마다 가상 스레드를 사용한다.
+ * 가상 스레드는 개수 제한이 없으므로 {@code executor.<종류>.concurrency-limit}로 동시 실행 수를 제한한다.
+ * 꺼져 있으면 같은 크기의 플랫폼 스레드 풀을 사용한다.
+ *
+ * 제출한 작업에는 {@link CustomRequestContextHolder#wrap}으로 요청 컨텍스트를 넘긴다.
+ */
+@Configuration
+@Slf4j
+public class ExecutorConfig {
+
+	public static final String IO_EXECUTOR = "ioTaskExecutor";
+	public static final String ADDRESS_EXECUTOR = "addressTaskExecutor";
+	public static final String UPLOAD_EXECUTOR = "uploadTaskExecutor";
+
+	@Bean(name = IO_EXECUTOR)
+	public AsyncTaskExecutor ioTaskExecutor(
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+			@Value("${executor.io.concurrency-limit:64}") int concurrencyLimit) {
+		return executor("io-", virtualThreads, concurrencyLimit);
+	}
+
+	@Bean(name = ADDRESS_EXECUTOR)
+	public AsyncTaskExecutor addressTaskExecutor(
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+			@Value("${executor.address.concurrency-limit:32}") int concurrencyLimit) {
+		return executor("address-", virtualThreads, concurrencyLimit);
+	}
+
+	@Bean(name = UPLOAD_EXECUTOR)
+	public AsyncTaskExecutor uploadTaskExecutor(
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+			@Value("${executor.upload.concurrency-limit:16}") int concurrencyLimit) {
+		return executor("upload-", virtualThreads, concurrencyLimit);
+	}
+
+	private static AsyncTaskExecutor executor(String threadNamePrefix, boolean virtualThreads, int concurrencyLimit) {
+		if (virtualThreads) {
+			log.info("* [{}] 실행기 가상 스레드 모드. 동시 실행 제한: [{}]", threadNamePrefix, concurrencyLimit);
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+			executor.setVirtualThreads(true);
+			executor.setConcurrencyLimit(concurrencyLimit);
+			executor.setTaskDecorator(CustomRequestContextHolder::wrap);
+			executor.setTaskTerminationTimeout(5_000);
+			return executor;
+		}
+
+		log.info("* [{}] 실행기 플랫폼 스레드 풀 모드. 최대 스레드: [{}]", threadNamePrefix, concurrencyLimit);
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.setCorePoolSize(Math.min(8, concurrencyLimit));
+		executor.setMaxPoolSize(concurrencyLimit);
+		executor.setQueueCapacity(concurrencyLimit * 4);
+		executor.setTaskDecorator(CustomRequestContextHolder::wrap);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(5);
+		return executor;
+	}
+}
@@ -4,11 +4,9 @@ import java.util.List;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import lombok.RequiredArgsConstructor;
-import net.chamman.moonnight.global.interceptor.ClientInfoInterceptor;
 import net.chamman.moonnight.global.validator.ClientSpecificArgumentResolver;
 
 @Configuration
@@ -16,12 +14,6 @@ import net.chamman.moonnight.global.validator.ClientSpecificArgumentResolver;
 public class MvcConfig implements WebMvcConfigurer {
 	
 	private final ClientSpecificArgumentResolver clientSpecificArgumentResolver;
-	private final ClientInfoInterceptor clientInfoInterceptor;
-	
-	@Override
-	public void addInterceptors(InterceptorRegistry registry) {
-		registry.addInterceptor(clientInfoInterceptor).addPathPatterns("/**"); 
-	}
 	
 	@Override
 	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
@@ -0,0 +1,63 @@
+package net.chamman.moonnight.global.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import net.chamman.moonnight.infra.http.OutboundHttpMetrics;
+
+/**
+ * 외부 API(네이버 SENS, 네이버 메일, 카카오) 공용 HTTP 전송.
+ *
+ * 하나의 JDK HttpClient(연결 풀, keep-alive, HTTP/2 지원 시 사용)를 공유하고
+ * 제공자별 RestTemplate에 응답 대기 시간과 호출 지표({@link OutboundHttpMetrics})를 따로 건다.
+ */
+@Configuration
+public class OutboundHttpConfig {
+
+	public static final String NAVER_SMS = "naverSmsRestTemplate";
+	public static final String NAVER_MAIL = "naverMailRestTemplate";
+	public static final String KAKAO = "kakaoRestTemplate";
+
+	@Bean
+	public HttpClient outboundHttpClient(@Value("${http.outbound.connect-timeout-ms:3000}") long connectTimeoutMillis) {
+		return HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+				.followRedirects(HttpClient.Redirect.NEVER)
+				.build();
+	}
+
+	@Bean(name = NAVER_SMS)
+	public RestTemplate naverSmsRestTemplate(HttpClient outboundHttpClient, OutboundHttpMetrics outboundHttpMetrics,
+			@Value("${http.outbound.naver-sms.read-timeout-ms:5000}") long readTimeoutMillis) {
+		return restTemplate("naver-sms", outboundHttpClient, outboundHttpMetrics, readTimeoutMillis);
+	}
+
+	@Bean(name = NAVER_MAIL)
+	public RestTemplate naverMailRestTemplate(HttpClient outboundHttpClient, OutboundHttpMetrics outboundHttpMetrics,
+			@Value("${http.outbound.naver-mail.read-timeout-ms:5000}") long readTimeoutMillis) {
+		return restTemplate("naver-mail", outboundHttpClient, outboundHttpMetrics, readTimeoutMillis);
+	}
+
+	@Bean(name = KAKAO)
+	public RestTemplate kakaoRestTemplate(HttpClient outboundHttpClient, OutboundHttpMetrics outboundHttpMetrics,
+			@Value("${http.outbound.kakao.read-timeout-ms:3000}") long readTimeoutMillis) {
+		return restTemplate("kakao", outboundHttpClient, outboundHttpMetrics, readTimeoutMillis);
+	}
+
+	private static RestTemplate restTemplate(String provider, HttpClient httpClient, OutboundHttpMetrics metrics,
+			long readTimeoutMillis) {
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+		requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+		RestTemplate restTemplate = new RestTemplate(requestFactory);
+		restTemplate.getInterceptors().add(metrics.interceptor(provider));
+		return restTemplate;
+	}
+}
@@ -9,7 +9,6 @@ import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.web.client.RestTemplate;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -40,11 +39,6 @@ public class PrimaryConfig {
 		return new MessageSourceAccessor(messageSource());
 	}
 
-	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
-	}
-	
     @PersistenceContext
     private EntityManager entityManager;
 
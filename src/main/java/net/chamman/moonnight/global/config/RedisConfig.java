@@ -0,0 +1,27 @@
+package net.chamman.moonnight.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import net.chamman.moonnight.auth.token.AdminTokenEpochStore;
+import net.chamman.moonnight.auth.token.TokenBlacklistIndex;
+import net.chamman.moonnight.domain.admin.AdminStatusCache;
+
+@Configuration
+public class RedisConfig {
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+			TokenBlacklistIndex tokenBlacklistIndex, AdminTokenEpochStore adminTokenEpochStore,
+			AdminStatusCache adminStatusCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(tokenBlacklistIndex, new ChannelTopic(TokenBlacklistIndex.CHANNEL));
+		container.addMessageListener(adminTokenEpochStore, new ChannelTopic(AdminTokenEpochStore.CHANNEL));
+		container.addMessageListener(adminStatusCache, new ChannelTopic(AdminStatusCache.CHANNEL));
+		return container;
+	}
+}
@@ -22,8 +22,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.context.RequestContext;
 import net.chamman.moonnight.global.security.fillter.JwtAuthFilter;
 import net.chamman.moonnight.global.security.fillter.JwtFilter;
+import net.chamman.moonnight.global.security.route.RouteClassifier;
+import net.chamman.moonnight.global.security.route.RouteType;
 import net.chamman.moonnight.global.util.CookieUtil;
 
 @Configuration
@@ -34,6 +37,7 @@ public class SecurityConfig {
 
 	private final JwtFilter jwtFilter;
 	private final JwtAuthFilter jwtAuthFilter;
+	private final RouteClassifier routeClassifier;
 
 	public static final String[] STATIC_RESOURCES = { "/css/**", "/js/**", "/images/**", "/favicon.ico",
 			"/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/swagger-resources/**", "/webjars/**",
@@ -47,17 +51,16 @@ public class SecurityConfig {
 			"/api/admin/public/find/pw", "/api/admin/public/find/pw/by/phone", "/api/admin/public/find/pw/by/email",
 			"/api/admin/public/find/pw/update" };
 
-	// 관리자 인증이 필요한 모든 경로 (PUBLIC_ADMIN_URLS 제외)
-//	public static final String[] ADMIN_URLS = { "/admin/**", "/api/admin/**" };
-
 	// 사용자 인증이 필요한 특정 경로
 	public static final String[] USER_PRIVATE_URLS = { "/api/*/private/**" };
 
+	// 경로 매칭은 RouteClassifier가 요청당 한 번 분류한 결과를 사용
+
 	// 모든 접근 허용
 	@Bean
 	@Order(0)
 	public SecurityFilterChain staticResourceFilterChain(HttpSecurity http) throws Exception {
-		http.securityMatcher(STATIC_RESOURCES) // 이 경로들에 대해서만 동작
+		http.securityMatcher(routeClassifier.matcher(RouteType.STATIC)) // 이 경로들에 대해서만 동작
 				.authorizeHttpRequests(auth -> auth.anyRequest().permitAll()) // 모든 요청 허용
 				.csrf(AbstractHttpConfigurer::disable) // CSRF 보호 비활성화
 				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)); // 세션 사용 안함
@@ -65,29 +68,15 @@ public class SecurityConfig {
 		return http.build();
 	}
 
-	// 관리자 ROLE_ADMIN
+	// 관리자 ROLE_ADMIN (/admin/**, /api/admin/**)
 	@Bean
 	@Order(1)
-	public SecurityFilterChain adminViewFilterChain(HttpSecurity http) throws Exception {
-		http.securityMatcher("/admin/**") // 관리자 경로에 대해서만 동작
-				.csrf(AbstractHttpConfigurer::disable)
-				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-				.exceptionHandling(ex -> ex.authenticationEntryPoint(new CustomAdminAuthenticationEntryPoint()))
-				.authorizeHttpRequests(auth -> auth.requestMatchers(PUBLIC_ADMIN_URLS).permitAll() // 로그인/회원가입 등은 허용
-						.anyRequest().authenticated() // 그 외 모든 관리자 경로는 인증 필요
-				).addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
-
-		return http.build();
-	}
-
-	// 관리자 ROLE_ADMIN
-	@Bean
-	@Order(2)
 	public SecurityFilterChain adminFilterChain(HttpSecurity http) throws Exception {
-		http.securityMatcher("/api/admin/**").csrf(AbstractHttpConfigurer::disable)
+		http.securityMatcher(routeClassifier.matcher(RouteType.PUBLIC_ADMIN, RouteType.PRIVATE_ADMIN)) // 관리자 경로에 대해서만 동작
+				.csrf(AbstractHttpConfigurer::disable)
 				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				.exceptionHandling(ex -> ex.authenticationEntryPoint(new CustomAdminAuthenticationEntryPoint()))
-				.authorizeHttpRequests(auth -> auth.requestMatchers(PUBLIC_ADMIN_URLS).permitAll() // 로그인/회원가입 등은 허용
+				.authorizeHttpRequests(auth -> auth.requestMatchers(routeClassifier.matcher(RouteType.PUBLIC_ADMIN)).permitAll() // 로그인/회원가입 등은 허용
 						.anyRequest().authenticated() // 그 외 모든 관리자 경로는 인증 필요
 				).addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -96,9 +85,9 @@ public class SecurityConfig {
 
 	// ROLE_AUTH 전용
 	@Bean
-	@Order(3)
+	@Order(2)
 	public SecurityFilterChain userPrivateFilterChain(HttpSecurity http) throws Exception {
-		http.securityMatcher(USER_PRIVATE_URLS) // 특정 사용자 API 경로에 대해서만 동작
+		http.securityMatcher(routeClassifier.matcher(RouteType.USER_PRIVATE)) // 특정 사용자 API 경로에 대해서만 동작
 				.csrf(AbstractHttpConfigurer::disable)
 				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				.authorizeHttpRequests(auth -> auth.anyRequest().authenticated()) // 모든 요청 인증 필요
@@ -108,7 +97,7 @@ public class SecurityConfig {
 	}
 
 	@Bean
-	@Order(4)
+	@Order(3)
 	public SecurityFilterChain defaultFilterChain(HttpSecurity http) throws Exception {
 		http
 				// securityMatcher를 설정하지 않으면 모든 요청이 이 필터 체인의 대상이 됨
@@ -148,8 +137,7 @@ public class SecurityConfig {
 		public void commence(HttpServletRequest req, HttpServletResponse res, AuthenticationException authException)
 				throws IOException, ServletException {
 
-			String clientType = req.getHeader("X-Client-Type");
-			boolean isMobileApp = clientType != null && clientType.contains("mobile");
+			boolean isMobileApp = RequestContext.of(req).mobileApp();
 			if (!isMobileApp) {
 				CookieUtil.deleteCookie(req, res, "X-Access-Token");
 				CookieUtil.deleteCookie(req, res, "X-Refresh-Token");
@@ -1,28 +1,101 @@
 package net.chamman.moonnight.global.context;
 
-public class CustomRequestContextHolder {
+import java.util.concurrent.Callable;
 
-	private static final ThreadLocal<String> clientIpHolder = new ThreadLocal<>();
-	private static final ThreadLocal<Boolean> mobileAppHeaderHolder = new ThreadLocal<>();
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
-	public static void setClientIp(String ip) {
-		clientIpHolder.set(ip);
+/**
+ * 현재 요청의 {@link RequestContext} 보관.
+ *
+ * {@link #runWith}로 실행 범위 동안만 바인딩하고 끝나면 이전 값으로 되돌린다. (ScopedValue와 같은 사용 방식)
+ * 요청 스레드 밖(비동기 작업)에서는 {@link #wrap}으로 현재 컨텍스트를 넘긴다.
+ * 바인딩이 없으면 Spring 요청 속성에 저장된 값을 사용한다.
+ */
+public final class CustomRequestContextHolder {
+
+	private static final ThreadLocal<RequestContext> holder = new ThreadLocal<>();
+
+	@FunctionalInterface
+	public interface ContextRunnable<E extends Exception> {
+		void run() throws E;
 	}
 
-	public static String getClientIp() {
-		return clientIpHolder.get();
+	private CustomRequestContextHolder() {
 	}
 
-	public static void setMobileApp(boolean mobileApp) {
-		mobileAppHeaderHolder.set(mobileApp);
+	/**
+	 * @return 현재 요청 컨텍스트. 요청 범위 밖이면 null
+	 */
+	public static RequestContext get() {
+		RequestContext context = holder.get();
+		if (context != null) {
+			return context;
+		}
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes != null
+				&& attributes.getAttribute(RequestContext.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof RequestContext c) {
+			return c;
+		}
+		return null;
 	}
 
-	public static boolean isMobileApp() {
-		return mobileAppHeaderHolder.get();
+	/**
+	 * context를 바인딩한 채로 action 실행. 실행 후 이전 바인딩 복원.
+	 *
+	 * @param context
+	 * @param action
+	 */
+	public static <E extends Exception> void runWith(RequestContext context, ContextRunnable<E> action) throws E {
+		RequestContext previous = holder.get();
+		holder.set(context);
+		try {
+			action.run();
+		} finally {
+			if (previous == null) {
+				holder.remove();
+			} else {
+				holder.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * 현재 컨텍스트를 캡처해 다른 스레드에서 실행할 작업으로 감싼다.
+	 *
+	 * @param task
+	 *
+	 * @return 실행 시 캡처한 컨텍스트가 바인딩되는 작업
+	 */
+	public static Runnable wrap(Runnable task) {
+		RequestContext context = get();
+		if (context == null) {
+			return task;
+		}
+		return () -> runWith(context, task::run);
 	}
 
-	public static void clear() {
-		clientIpHolder.remove();
-		mobileAppHeaderHolder.remove();
+	public static <T> Callable<T> wrap(Callable<T> task) {
+		RequestContext context = get();
+		if (context == null) {
+			return task;
+		}
+		return () -> {
+			Object[] result = new Object[1];
+			runWith(context, () -> result[0] = task.call());
+			@SuppressWarnings("unchecked")
+			T value = (T) result[0];
+			return value;
+		};
+	}
+
+	public static String getClientIp() {
+		RequestContext context = get();
+		return context == null ? null : context.clientIp();
+	}
+
+	public static boolean isMobileApp() {
+		RequestContext context = get();
+		return context != null && context.mobileApp();
 	}
 }
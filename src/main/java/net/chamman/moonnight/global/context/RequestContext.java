@@ -0,0 +1,47 @@
+package net.chamman.moonnight.global.context;
+
+import jakarta.servlet.http.HttpServletRequest;
+import net.chamman.moonnight.global.util.ClientIpExtractor;
+
+/**
+ * 요청 단위 클라이언트 정보. 요청 진입 시 {@link RequestContextBindingFilter}에서 한 번 만들어
+ * 요청 속성({@link #ATTRIBUTE})과 {@link CustomRequestContextHolder}에 보관한다.
+ *
+ * @param clientIp  {@link ClientIpExtractor} 결과
+ * @param mobileApp X-Client-Type 헤더가 모바일 앱이면 true
+ */
+public record RequestContext(String clientIp, boolean mobileApp) {
+
+	public static final String ATTRIBUTE = RequestContext.class.getName();
+	public static final String CLIENT_TYPE_HEADER = "X-Client-Type";
+	private static final String MOBILE = "mobile";
+
+	/**
+	 * 요청 속성에 저장된 컨텍스트 반환. 없으면 새로 만들어 저장.
+	 *
+	 * @param request
+	 *
+	 * @return 요청 컨텍스트
+	 */
+	public static RequestContext of(HttpServletRequest request) {
+		Object cached = request.getAttribute(ATTRIBUTE);
+		if (cached instanceof RequestContext context) {
+			return context;
+		}
+		RequestContext context = new RequestContext(ClientIpExtractor.extractClientIp(request),
+				isMobileClientType(request.getHeader(CLIENT_TYPE_HEADER)));
+		request.setAttribute(ATTRIBUTE, context);
+		return context;
+	}
+
+	/**
+	 * X-Client-Type 판별. 대소문자 구분 없이 "mobile"로 시작하면 모바일 앱. (mobile, mobile-ios 등)
+	 *
+	 * @param clientType X-Client-Type 헤더 값
+	 *
+	 * @return 모바일 앱이면 true
+	 */
+	public static boolean isMobileClientType(String clientType) {
+		return clientType != null && clientType.strip().regionMatches(true, 0, MOBILE, 0, MOBILE.length());
+	}
+}
@@ -0,0 +1,46 @@
+package net.chamman.moonnight.global.context;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 가장 먼저 실행되어 {@link RequestContext}를 만들고 요청 처리 동안 바인딩한다.
+ * 이후 필터, 시큐리티 필터, 컨트롤러, 서비스는 IP 추출과 X-Client-Type 파싱을 다시 하지 않는다.
+ * async, error 디스패치에서도 요청 속성에 저장된 같은 컨텍스트를 다시 바인딩한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestContextBindingFilter extends OncePerRequestFilter {
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain)
+			throws ServletException, IOException {
+		RequestContext context = RequestContext.of(req);
+		try {
+			CustomRequestContextHolder.runWith(context, () -> filterChain.doFilter(req, res));
+		} catch (ServletException | IOException | RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ServletException(e);
+		}
+	}
+
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected boolean shouldNotFilterErrorDispatch() {
+		return false;
+	}
+}
@@ -23,6 +23,7 @@ public enum HttpStatusCode {
 	AUTHORIZATION_FAILED(401,"4030","message.common.authorization_failed"), // 권한 이상
 	METHOD_NOT_ALLOWED(405, "4050", "message.common.method_not_allowed"), // 요청 url 이상
 	TOO_MANY_REQUEST(429,"4290","message.common.too_many_request"), 
+	IP_BLOCKED(403,"4031","message.common.ip_blocked"), // 차단된 IP
 	INTERNAL_SERVER_ERROR(500, "5000", "message.common.internal_server_error"),
 	VERSION_MISMATCH(409,"4091","message.common.version_mismatch"),
 	
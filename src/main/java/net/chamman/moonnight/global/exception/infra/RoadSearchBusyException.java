@@ -0,0 +1,15 @@
+package net.chamman.moonnight.global.exception.infra;
+
+import net.chamman.moonnight.global.exception.HttpStatusCode;
+
+/**
+ * 카카오 주소 검색 동시 호출 수 초과로 호출하지 못함. 잠시 뒤 다시 시도할 수 있다.
+ */
+public class RoadSearchBusyException extends RoadSearchException{
+
+	public RoadSearchBusyException(HttpStatusCode httpStatusCode, String message) {
+		super(httpStatusCode, message);
+
+	}
+
+}
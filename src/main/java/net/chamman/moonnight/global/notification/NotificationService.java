@@ -1,46 +1,203 @@
 package net.chamman.moonnight.global.notification;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.config.ExecutorConfig;
 import net.chamman.moonnight.infra.email.EmailSender;
 import net.chamman.moonnight.infra.sms.SmsSender;
 
+/**
+ * 관리자 알람.
+ *
+ * {@link #sendAdminAlert}은 제한된 크기의 큐에 넣기만 하고 바로 반환한다. (큐가 가득 차면 버리고 건수만 집계)
+ * {@code notification.admin-alert.flush-interval-ms}마다 모인 알람을 같은 내용끼리 합쳐 요약 한 건으로 보낸다.
+ * <ul>
+ * <li>문자, 이메일 각각 시간당 최대 발송 수 제한</li>
+ * <li>최근 {@code notification.admin-alert.repeat-suppress-ms} 안에 이미 보낸 내용만 있으면 문자는 생략하고 이메일로만 보낸다.</li>
+ * </ul>
+ */
 @Service
-@RequiredArgsConstructor
 @PropertySource("classpath:application.properties")
 @Slf4j
 public class NotificationService {
-	
+
+	// SENS 단문(SMS) 최대 길이. EUC-KR 기준 바이트 수 (한글 2바이트)
+	private static final int SMS_MAX_BYTES = 80;
+	private static final Charset SMS_CHARSET = Charset.forName("EUC-KR");
+	private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+
 	private final SmsSender smsSender;
 	private final EmailSender emailSender;
-	
+	private final AsyncTaskExecutor ioTaskExecutor;
+
 	@Value("${admin.phone}")
 	private String adminPhone;
 	@Value("${admin.email}")
 	private String adminEmail;
-	
-	
-	/** 서버 문제 발생 관리자 문자 및 이메일 알람
+
+	private final BlockingQueue<String> alerts;
+	private final AtomicLong dropped = new AtomicLong();
+	private final Map<String, Long> lastAlertedAt = new ConcurrentHashMap<>();
+	private final long repeatSuppressMillis;
+	private final HourlyLimit smsLimit;
+	private final HourlyLimit emailLimit;
+
+	public NotificationService(SmsSender smsSender, EmailSender emailSender,
+			@Qualifier(ExecutorConfig.IO_EXECUTOR) AsyncTaskExecutor ioTaskExecutor,
+			@Value("${notification.admin-alert.queue-size:1000}") int queueSize,
+			@Value("${notification.admin-alert.repeat-suppress-ms:600000}") long repeatSuppressMillis,
+			@Value("${notification.admin-alert.sms-per-hour:6}") int smsPerHour,
+			@Value("${notification.admin-alert.email-per-hour:30}") int emailPerHour) {
+		this.smsSender = smsSender;
+		this.emailSender = emailSender;
+		this.ioTaskExecutor = ioTaskExecutor;
+		this.alerts = new ArrayBlockingQueue<>(queueSize);
+		this.repeatSuppressMillis = repeatSuppressMillis;
+		this.smsLimit = new HourlyLimit(smsPerHour);
+		this.emailLimit = new HourlyLimit(emailPerHour);
+	}
+
+	/** 서버 문제 발생 관리자 문자 및 이메일 알람. 호출 스레드를 막지 않는다.
 	 * @param message
 	 */
 	public void sendAdminAlert(String message) {
-		
+		if (!alerts.offer(message)) {
+			dropped.incrementAndGet();
+		}
+	}
+
+	/**
+	 * 모인 알람을 요약해 발송. 발송은 I/O 실행기에서 한다.
+	 */
+	@Scheduled(fixedDelayString = "${notification.admin-alert.flush-interval-ms:60000}")
+	public void flush() {
+		Map<String, Integer> counts = new LinkedHashMap<>();
+		String message;
+		while ((message = alerts.poll()) != null) {
+			counts.merge(message, 1, Integer::sum);
+		}
+		long droppedCount = dropped.getAndSet(0);
+		if (counts.isEmpty() && droppedCount == 0) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		boolean hasNew = droppedCount > 0;
+		for (String key : counts.keySet()) {
+			Long last = lastAlertedAt.put(key, now);
+			if (last == null || now - last >= repeatSuppressMillis) {
+				hasNew = true;
+			}
+		}
+		lastAlertedAt.values().removeIf(at -> now - at >= repeatSuppressMillis);
+
+		String digest = digest(counts, droppedCount);
+		boolean sendSms = hasNew && smsLimit.tryAcquire(now);
+		boolean sendEmail = emailLimit.tryAcquire(now);
+		if (!sendSms && !sendEmail) {
+			log.warn("* 관리자 알람 발송 한도 초과로 생략. 내용: [{}]", digest);
+			return;
+		}
+
 		try {
-			int smsStatusCode = smsSender.sendSms(adminPhone, message);
-			if((smsStatusCode/100)!=2) {
-				log.error("* 관리자 문자 알람 발송 실패. sms 발송 응답 이상. smsStatusCode: [{}]", smsStatusCode);
+			ioTaskExecutor.execute(() -> send(digest, sendSms, sendEmail));
+		} catch (Exception e) {
+			log.error("* 관리자 알람 발송 작업 등록 실패. 내용: [{}]", digest, e);
+		}
+	}
+
+	private void send(String digest, boolean sendSms, boolean sendEmail) {
+		if (sendSms) {
+			try {
+				String smsMessage = truncateSms(digest);
+				int smsStatusCode = smsSender.sendSms(adminPhone, smsMessage);
+				if((smsStatusCode/100)!=2) {
+					log.error("* 관리자 문자 알람 발송 실패. sms 발송 응답 이상. smsStatusCode: [{}]", smsStatusCode);
+				}
+			} catch (Exception e) {
+				log.error("* 관리자 문자 알람 발송 요청 실패 및 익셉션 발생. message: [{}]", digest, e);
 			}
-			int emailStatusCode = emailSender.sendEmail(adminEmail, "서버 문제 발생", message);
-			if((emailStatusCode/100)!=2) {
-				log.error("* 관리자 문자 알람 발송 실패. email 발송 응답 이상. emailStatusCode: [{}]", emailStatusCode);
+		}
+		if (sendEmail) {
+			try {
+				int emailStatusCode = emailSender.sendEmail(adminEmail, "서버 문제 발생", digest);
+				if((emailStatusCode/100)!=2) {
+					log.error("* 관리자 이메일 알람 발송 실패. email 발송 응답 이상. emailStatusCode: [{}]", emailStatusCode);
+				}
+			} catch (Exception e) {
+				log.error("* 관리자 이메일 알람 발송 요청 실패 및 익셉션 발생. message: [{}]", digest, e);
 			}
-		} catch (Exception e) {
-			log.error("* 관리자 알람 발송 요청 실패 및 익셉션 발생. message: [{}]", message, e);
 		}
-		
+	}
+
+	static String digest(Map<String, Integer> counts, long droppedCount) {
+		if (counts.size() == 1 && droppedCount == 0) {
+			Map.Entry<String, Integer> only = counts.entrySet().iterator().next();
+			return only.getValue() == 1 ? only.getKey() : "[" + only.getValue() + "건] " + only.getKey();
+		}
+
+		int total = counts.values().stream().mapToInt(Integer::intValue).sum();
+		StringBuilder sb = new StringBuilder().append("[서버 알람 ").append(counts.size()).append("종 ").append(total)
+				.append("건]");
+		counts.forEach((message, count) -> sb.append("\n- ").append(count).append("건: ").append(message));
+		if (droppedCount > 0) {
+			sb.append("\n- 큐 초과로 누락: ").append(droppedCount).append("건");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 시간당 발송 수 제한. flush 스레드에서만 사용.
+	 */
+	private static final class HourlyLimit {
+		private final int limit;
+		private long windowStart;
+		private int used;
+
+		HourlyLimit(int limit) {
+			this.limit = limit;
+		}
+
+		boolean tryAcquire(long now) {
+			if (now - windowStart >= HOUR_MILLIS) {
+				windowStart = now;
+				used = 0;
+			}
+			if (used >= limit) {
+				return false;
+			}
+			used++;
+			return true;
+		}
+	}
+	/**
+	 * EUC-KR 바이트 기준으로 {@link #SMS_MAX_BYTES}까지 자른다. 글자 중간에서 자르지 않는다.
+	 * EUC-KR로 표현할 수 없는 문자는 1바이트 대체 문자로 센다.
+	 */
+	static String truncateSms(String message) {
+		CharsetEncoder encoder = SMS_CHARSET.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		CharBuffer in = CharBuffer.wrap(message);
+		encoder.encode(in, ByteBuffer.allocate(SMS_MAX_BYTES), true);
+		return in.hasRemaining() ? message.substring(0, in.position()) : message;
 	}
 }
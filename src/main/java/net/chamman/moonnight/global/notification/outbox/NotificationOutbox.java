@@ -0,0 +1,123 @@
+package net.chamman.moonnight.global.notification.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고객 알림 발송 대기열(outbox).
+ *
+ * 업무 트랜잭션 안에서 함께 저장되고, 커밋된 행만 {@link NotificationOutboxDispatcher}가 발송한다.
+ * idempotencyKey는 같은 알림이 두 번 쌓이지 않게 한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox",
+		uniqueConstraints = @UniqueConstraint(name = "UK_notification_outbox_idempotency_key", columnNames = "idempotency_key"),
+		indexes = @Index(name = "IDX_notification_outbox_dispatch", columnList = "outbox_status, next_attempt_at"))
+public class NotificationOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_id")
+	private long outboxId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "channel", length = 10, nullable = false)
+	private Channel channel;
+
+	@Column(name = "recipient", length = 100, nullable = false)
+	private String recipient;
+
+	@Column(name = "title", length = 100)
+	private String title;
+
+	@Column(name = "content", length = 2000, nullable = false)
+	private String content;
+
+	@Column(name = "idempotency_key", length = 100, nullable = false, updatable = false)
+	private String idempotencyKey;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "outbox_status", length = 10, nullable = false)
+	private OutboxStatus outboxStatus;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "sent_at")
+	private LocalDateTime sentAt;
+
+	@Generated(event = EventType.INSERT)
+	@Column(name = "created_at", updatable = false)
+	private LocalDateTime createdAt;
+
+	public static enum Channel {
+		SMS, EMAIL;
+	}
+
+	public static enum OutboxStatus {
+		PENDING, SENDING, SENT, FAILED;
+	}
+
+	/**
+	 * 발송 선점. 선점할 때마다 시도 횟수를 올린다.
+	 * leaseUntil까지 완료 처리되지 않으면(노드 장애 등) 다시 발송 대상이 되며, 그때도 한 번의 시도로 센다.
+	 */
+	public void claim(LocalDateTime leaseUntil) {
+		this.attempts++;
+		this.outboxStatus = OutboxStatus.SENDING;
+		this.nextAttemptAt = leaseUntil;
+	}
+
+	public void markSent(LocalDateTime now) {
+		this.outboxStatus = OutboxStatus.SENT;
+		this.sentAt = now;
+		this.lastError = null;
+	}
+
+	/**
+	 * 실패 기록. 최대 시도 횟수 전까지는 지수 백오프로 재시도 예약. 시도 횟수는 {@link #claim}에서 센다.
+	 *
+	 * @return 재시도 예정이면 true, 최종 실패면 false
+	 */
+	public boolean markFailed(LocalDateTime now, String error, Duration baseBackoff, Duration maxBackoff,
+			int maxAttempts) {
+		this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 500));
+		if (this.attempts >= maxAttempts) {
+			this.outboxStatus = OutboxStatus.FAILED;
+			return false;
+		}
+		long backoffMillis = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(Math.max(this.attempts - 1, 0), 20));
+		this.outboxStatus = OutboxStatus.PENDING;
+		this.nextAttemptAt = now.plus(Duration.ofMillis(backoffMillis));
+		return true;
+	}
+}
@@ -0,0 +1,205 @@
+package net.chamman.moonnight.global.notification.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.config.ExecutorConfig;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutbox.Channel;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutbox.OutboxStatus;
+import net.chamman.moonnight.global.util.LogMaskingUtil;
+import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
+import net.chamman.moonnight.infra.email.EmailSender;
+import net.chamman.moonnight.infra.sms.SmsSender;
+import net.chamman.moonnight.infra.sms.SmsSender.SmsMessage;
+
+/**
+ * {@link NotificationOutbox} 발송기.
+ *
+ * 적재 트랜잭션 커밋 직후 {@link #wakeUp}으로, 그리고 {@code notification.outbox.poll-interval-ms}마다 대기열을 비운다.
+ * 두 경우 모두 I/O 실행기에서 실행되어 스케줄러 스레드를 막지 않는다.
+ * <ol>
+ * <li>짧은 트랜잭션에서 발송 대상을 잠그고(SKIP LOCKED) SENDING으로 선점. 선점마다 시도 횟수 증가</li>
+ * <li>트랜잭션 밖에서 발송. 문자는 최대 {@link SmsSender#MAX_BATCH_SIZE}건을 한 요청으로 묶는다.</li>
+ * <li>결과 기록. 실패는 지수 백오프로 재시도, 최대 시도 후 FAILED</li>
+ * </ol>
+ * 선점 후 결과를 기록하지 못한 행(노드 종료 등)은 lease 만료 후 다시 발송된다. (최소 1회 발송)
+ * 이때도 시도 횟수가 올라가므로, 최대 시도 횟수를 채운 행은 다시 발송하지 않고 FAILED로 정리한다.
+ */
+@Component
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+	private static final EnumSet<OutboxStatus> DISPATCHABLE = EnumSet.of(OutboxStatus.PENDING, OutboxStatus.SENDING);
+
+	private final NotificationOutboxRepository notificationOutboxRepository;
+	private final SmsSender smsSender;
+	private final EmailSender emailSender;
+	private final TransactionTemplate transactionTemplate;
+	private final AsyncTaskExecutor ioTaskExecutor;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final AtomicBoolean pendingWakeUp = new AtomicBoolean();
+
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Duration lease;
+	private final Duration baseBackoff;
+	private final Duration maxBackoff;
+
+	public NotificationOutboxDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+			SmsSender smsSender, EmailSender emailSender, PlatformTransactionManager transactionManager,
+			@Qualifier(ExecutorConfig.IO_EXECUTOR) AsyncTaskExecutor ioTaskExecutor,
+			@Value("${notification.outbox.batch-size:100}") int batchSize,
+			@Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+			@Value("${notification.outbox.lease-ms:60000}") long leaseMillis,
+			@Value("${notification.outbox.backoff-ms:10000}") long backoffMillis,
+			@Value("${notification.outbox.max-backoff-ms:1800000}") long maxBackoffMillis) {
+		this.notificationOutboxRepository = notificationOutboxRepository;
+		this.smsSender = smsSender;
+		this.emailSender = emailSender;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.ioTaskExecutor = ioTaskExecutor;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.lease = Duration.ofMillis(leaseMillis);
+		this.baseBackoff = Duration.ofMillis(backoffMillis);
+		this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+	}
+
+	/**
+	 * 적재 커밋 후 호출. 요청 스레드를 막지 않고 I/O 실행기에서 대기열을 비운다.
+	 */
+	public void wakeUp() {
+		pendingWakeUp.set(true);
+		try {
+			ioTaskExecutor.execute(this::drain);
+		} catch (Exception e) {
+			// 주기 실행에서 처리
+			log.warn("* 알림 발송기 실행 요청 실패. {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 주기 확인. 발송은 I/O 실행기에 맡기고 스케줄러 스레드는 바로 반환한다.
+	 */
+	@Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:5000}")
+	public void poll() {
+		wakeUp();
+	}
+
+	private void drain() {
+		// 동시에 여러 번 깨워도 노드당 하나만 실행. 실행 중 들어온 요청은 끝난 뒤 한 번 더 확인
+		do {
+			if (!draining.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				pendingWakeUp.set(false);
+				while (drainBatch() == batchSize) {
+					// 가득 찬 배치면 남은 대상이 더 있을 수 있음
+				}
+			} catch (Exception e) {
+				log.error("* 알림 발송 대기열 처리 중 오류.", e);
+			} finally {
+				draining.set(false);
+			}
+		} while (pendingWakeUp.get());
+	}
+
+	private int drainBatch() {
+		List<NotificationOutbox> claimed = claim();
+		if (claimed.isEmpty()) {
+			return 0;
+		}
+
+		List<NotificationOutbox> smsList = new ArrayList<>();
+		for (NotificationOutbox outbox : claimed) {
+			if (outbox.getChannel() == Channel.SMS) {
+				smsList.add(outbox);
+			} else {
+				sendEmail(outbox);
+			}
+		}
+		for (int from = 0; from < smsList.size(); from += SmsSender.MAX_BATCH_SIZE) {
+			sendSmsBatch(smsList.subList(from, Math.min(from + SmsSender.MAX_BATCH_SIZE, smsList.size())));
+		}
+
+		transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.saveAll(claimed));
+		return claimed.size();
+	}
+
+	private List<NotificationOutbox> claim() {
+		return transactionTemplate.execute(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			int expired = notificationOutboxRepository.failExpiredLeases(now, maxAttempts);
+			if (expired > 0) {
+				log.error("* 알림 발송 최종 실패. 최대 시도 후 lease 만료. 건수: [{}]", expired);
+			}
+			List<NotificationOutbox> targets = notificationOutboxRepository.findDispatchable(DISPATCHABLE, now,
+					maxAttempts, PageRequest.ofSize(batchSize));
+			targets.forEach(outbox -> outbox.claim(now.plus(lease)));
+			return targets;
+		});
+	}
+
+	private void sendSmsBatch(List<NotificationOutbox> batch) {
+		List<SmsMessage> messages = batch.stream()
+				.map(outbox -> new SmsMessage(outbox.getRecipient(), outbox.getContent()))
+				.toList();
+		String error;
+		try {
+			int statusCode = smsSender.sendSmsBatch(messages);
+			if ((statusCode / 100) == 2) {
+				LocalDateTime now = LocalDateTime.now();
+				batch.forEach(outbox -> outbox.markSent(now));
+				log.debug("* 알림 문자 발송 완료. 건수: [{}]", batch.size());
+				return;
+			}
+			error = "statusCode: " + statusCode;
+		} catch (Exception e) {
+			error = e.getMessage();
+		}
+		log.warn("* 알림 문자 일괄 발송 실패. 건수: [{}], {}", batch.size(), error);
+		for (NotificationOutbox outbox : batch) {
+			markFailed(outbox, error);
+		}
+	}
+
+	private void sendEmail(NotificationOutbox outbox) {
+		String error;
+		try {
+			int statusCode = emailSender.sendEmail(outbox.getRecipient(), outbox.getTitle(), outbox.getContent());
+			if ((statusCode / 100) == 2) {
+				outbox.markSent(LocalDateTime.now());
+				return;
+			}
+			error = "statusCode: " + statusCode;
+		} catch (Exception e) {
+			error = e.getMessage();
+		}
+		log.warn("* 알림 이메일 발송 실패. email: [{}], {}",
+				LogMaskingUtil.maskEmail(outbox.getRecipient(), MaskLevel.MEDIUM), error);
+		markFailed(outbox, error);
+	}
+
+	private void markFailed(NotificationOutbox outbox, String error) {
+		if (!outbox.markFailed(LocalDateTime.now(), error, baseBackoff, maxBackoff, maxAttempts)) {
+			log.error("* 알림 발송 최종 실패. channel: [{}], recipient: [{}], idempotencyKey: [{}], 시도: [{}]",
+					outbox.getChannel(), LogMaskingUtil.maskRecipient(outbox.getRecipient(), MaskLevel.MEDIUM),
+					outbox.getIdempotencyKey(), outbox.getAttempts());
+		}
+	}
+}
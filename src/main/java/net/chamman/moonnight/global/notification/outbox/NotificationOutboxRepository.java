@@ -0,0 +1,45 @@
+package net.chamman.moonnight.global.notification.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutbox.OutboxStatus;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+	boolean existsByIdempotencyKey(String idempotencyKey);
+
+	/**
+	 * 발송 대상 조회 및 행 잠금. 다른 노드가 잠근 행은 건너뛴다. (FOR UPDATE SKIP LOCKED)
+	 * 최대 시도 횟수를 채운 행은 제외한다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("SELECT o FROM NotificationOutbox o WHERE o.outboxStatus IN :statuses AND o.nextAttemptAt <= :now"
+			+ " AND o.attempts < :maxAttempts ORDER BY o.outboxId")
+	List<NotificationOutbox> findDispatchable(@Param("statuses") Collection<OutboxStatus> statuses,
+			@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+	/**
+	 * 최대 시도 횟수를 채운 뒤 lease가 만료된 선점 행(발송 결과를 기록하지 못한 행)을 최종 실패 처리.
+	 *
+	 * @return 실패 처리된 행 수
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = "UPDATE notification_outbox SET outbox_status = 'FAILED', last_error = 'lease expired' "
+			+ "WHERE outbox_status = 'SENDING' AND next_attempt_at <= :now AND attempts >= :maxAttempts", nativeQuery = true)
+	int failExpiredLeases(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+}
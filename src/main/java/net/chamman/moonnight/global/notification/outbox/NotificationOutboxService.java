@@ -0,0 +1,70 @@
+package net.chamman.moonnight.global.notification.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutbox.Channel;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutbox.OutboxStatus;
+import net.chamman.moonnight.global.util.LogMaskingUtil;
+import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
+
+/**
+ * 고객 알림 적재. 호출한 트랜잭션에 참여해 함께 커밋/롤백되며, 커밋 후 발송기를 깨운다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+	private final NotificationOutboxRepository notificationOutboxRepository;
+	private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+	/**
+	 * @param idempotencyKey 같은 키의 알림은 한 번만 적재
+	 * @param recipientPhone
+	 * @param message
+	 */
+	@Transactional
+	public void enqueueSms(String idempotencyKey, String recipientPhone, String message) {
+		enqueue(Channel.SMS, idempotencyKey, recipientPhone, null, message);
+	}
+
+	/**
+	 * @param idempotencyKey 같은 키의 알림은 한 번만 적재
+	 * @param recipientEmail
+	 * @param title
+	 * @param message
+	 */
+	@Transactional
+	public void enqueueEmail(String idempotencyKey, String recipientEmail, String title, String message) {
+		enqueue(Channel.EMAIL, idempotencyKey, recipientEmail, title, message);
+	}
+
+	private void enqueue(Channel channel, String idempotencyKey, String recipient, String title, String content) {
+		if (notificationOutboxRepository.existsByIdempotencyKey(idempotencyKey)) {
+			log.debug("* 이미 적재된 알림. idempotencyKey: [{}]", idempotencyKey);
+			return;
+		}
+
+		notificationOutboxRepository.save(NotificationOutbox.builder().channel(channel).recipient(recipient)
+				.title(title).content(content).idempotencyKey(idempotencyKey).outboxStatus(OutboxStatus.PENDING)
+				.attempts(0).nextAttemptAt(LocalDateTime.now()).build());
+		log.debug("* 알림 적재. channel: [{}], recipient: [{}], idempotencyKey: [{}]", channel,
+				LogMaskingUtil.maskRecipient(recipient, MaskLevel.MEDIUM), idempotencyKey);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					notificationOutboxDispatcher.wakeUp();
+				}
+			});
+		}
+	}
+}
@@ -23,13 +23,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.chamman.moonnight.auth.adminSign.AdminSignService;
+import net.chamman.moonnight.auth.adminSign.RefreshCoalescer;
 import net.chamman.moonnight.auth.adminSign.log.AdminSignLogService;
 import net.chamman.moonnight.auth.token.JwtProvider;
 import net.chamman.moonnight.auth.token.TokenProvider;
-import net.chamman.moonnight.auth.token.TokenProvider.TokenType;
+import net.chamman.moonnight.global.context.RequestContext;
 import net.chamman.moonnight.global.exception.jwt.TimeOutJwtException;
 import net.chamman.moonnight.global.security.principal.TokenAuthenticator;
-import net.chamman.moonnight.global.util.ClientIpExtractor;
 import net.chamman.moonnight.global.util.CookieUtil;
 
 @Slf4j
@@ -41,6 +41,7 @@ public abstract class AbstractAccessTokenFilter<T extends UserDetails> extends O
 	protected final AdminSignLogService adminSignLogService;
 	protected final AdminSignService adminSignService;
 	protected final TokenAuthenticator tokenAuthenticator;
+	protected final RefreshCoalescer refreshCoalescer;
 
 	protected abstract T buildDetails(String accessToken);
 
@@ -49,12 +50,9 @@ public abstract class AbstractAccessTokenFilter<T extends UserDetails> extends O
 			throws ServletException, IOException {
 		log.debug("* AbstractAccessTokenFilter.doFilterInternal 실행.");
 
-		// ClientIp
-		String clientIp = ClientIpExtractor.extractClientIp(req);
-
-		// Mobile Or Web
-		String clientType = req.getHeader("X-Client-Type");
-		boolean isMobileApp = clientType != null && clientType.contains("mobile");
+		RequestContext requestContext = RequestContext.of(req);
+		String clientIp = requestContext.clientIp();
+		boolean isMobileApp = requestContext.mobileApp();
 
 		String accessToken = getAccessToken(isMobileApp, req);
 		String refreshToken = getRefreshToken(isMobileApp, req);
@@ -73,18 +71,6 @@ public abstract class AbstractAccessTokenFilter<T extends UserDetails> extends O
 		if (Objects.equals(value, "SIGNOUT")) {
 			filterChain.doFilter(req, res);
 			return;
-
-//		2-2. 유저 정보 업데이트된 토큰
-		} else if (Objects.equals(value, "UPDATE")) {
-			try {
-				refresh(refreshToken, clientIp, res, isMobileApp);
-				tokenProvider.removeToken(TokenType.JWT_BLACKLIST, accessToken);
-				filterChain.doFilter(req, res);
-				return;
-			} catch (Exception refreshEx) {
-				filterChain.doFilter(req, res);
-				return;
-			}
 		}
 
 		// 3. 토큰 확인 및 Set
@@ -94,7 +80,7 @@ public abstract class AbstractAccessTokenFilter<T extends UserDetails> extends O
 			filterChain.doFilter(req, res);
 			return;
 
-			// 4. Access Token 만료.
+			// 4. Access Token 만료 또는 이전 세대 토큰(관리자 정보 변경).
 		} catch (TimeOutJwtException e) {
 			try {
 //				리프레쉬 
@@ -141,7 +127,9 @@ public abstract class AbstractAccessTokenFilter<T extends UserDetails> extends O
 	protected void refresh(String refreshToken, String clientIp, HttpServletResponse res, boolean isMobileApp) {
 		log.debug("* Refresh 진행.");
 
-		Map<String, String> newTokens = adminSignService.refresh(refreshToken, clientIp);
+		// 동시 요청들의 재발급을 하나로 합침
+		Map<String, String> newTokens = refreshCoalescer.refresh(refreshToken,
+				() -> adminSignService.refresh(refreshToken, clientIp));
 		// 새로운 토큰 Set Response
 		setTokenToResponse(newTokens, res, isMobileApp);
 		// 새로운 토큰 통해 SetAuthentication
@@ -15,9 +15,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import net.chamman.moonnight.auth.adminSign.AdminSignService;
+import net.chamman.moonnight.auth.adminSign.RefreshCoalescer;
 import net.chamman.moonnight.auth.adminSign.log.AdminSignLogService;
 import net.chamman.moonnight.auth.token.JwtProvider;
 import net.chamman.moonnight.auth.token.TokenProvider;
+import net.chamman.moonnight.global.context.RequestContext;
 import net.chamman.moonnight.global.exception.jwt.TimeOutJwtException;
 import net.chamman.moonnight.global.security.principal.AuthDetails;
 import net.chamman.moonnight.global.security.principal.TokenAuthenticator;
@@ -28,8 +30,8 @@ import net.chamman.moonnight.global.util.CookieUtil;
 public class JwtAuthFilter extends AbstractAccessTokenFilter<AuthDetails> {
 
 	public JwtAuthFilter(JwtProvider jwtProvider, TokenProvider tokenProvider, AdminSignLogService adminSignLogService,
-			AdminSignService adminSignService, TokenAuthenticator tokenAuthenticator) {
-		super(jwtProvider, tokenProvider, adminSignLogService, adminSignService, tokenAuthenticator);
+			AdminSignService adminSignService, TokenAuthenticator tokenAuthenticator, RefreshCoalescer refreshCoalescer) {
+		super(jwtProvider, tokenProvider, adminSignLogService, adminSignService, tokenAuthenticator, refreshCoalescer);
 	}
 
 	@Override
@@ -38,8 +40,7 @@ public class JwtAuthFilter extends AbstractAccessTokenFilter<AuthDetails> {
 		log.debug("* JwtAuthFilter.doFilterInternal 실행.");
 
 		// Mobile Or Web
-		String clientType = req.getHeader("X-Client-Type");
-		boolean isMobileApp = clientType != null && clientType.contains("mobile");
+		boolean isMobileApp = RequestContext.of(req).mobileApp();
 
 		String authToken = null;
 		if (isMobileApp) {
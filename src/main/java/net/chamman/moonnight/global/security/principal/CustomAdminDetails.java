@@ -22,6 +22,7 @@ public class CustomAdminDetails implements UserDetails {
 	private final String email; 
 	private final String name; 
 	private final List<GrantedAuthority> authorities; 
+	private final int tokenEpoch; // 발급 당시 관리자 토큰 세대
 	
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -68,6 +69,7 @@ public class CustomAdminDetails implements UserDetails {
 		this.email = admin.getEmail();
 		this.name = admin.getName();
 		this.authorities = authorities;
+		this.tokenEpoch = 0;
 	}
 
 
@@ -1,5 +1,6 @@
 package net.chamman.moonnight.global.security.principal;
 
+import static net.chamman.moonnight.global.exception.HttpStatusCode.JWT_EXPIRED;
 import static net.chamman.moonnight.global.exception.HttpStatusCode.JWT_ILLEGAL;
 
 import java.util.List;
@@ -8,12 +9,15 @@ import java.util.stream.Collectors;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.auth.token.AdminTokenEpochStore;
 import net.chamman.moonnight.auth.token.JwtProvider;
 import net.chamman.moonnight.global.exception.jwt.IllegalJwtException;
+import net.chamman.moonnight.global.exception.jwt.TimeOutJwtException;
 
 @Service
 @RequiredArgsConstructor
@@ -21,10 +25,17 @@ import net.chamman.moonnight.global.exception.jwt.IllegalJwtException;
 public class TokenAuthenticator {
 
 	private final JwtProvider jwtProvider;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final AdminTokenEpochStore adminTokenEpochStore;
 
 	public CustomAdminDetails authenticateAccessToken(String accessToken) {
 		log.debug("* TokenAuthenticator.authenticateAccessToken 실행.");
 		
+		CustomAdminDetails cached = verifiedTokenCache.get(accessToken, CustomAdminDetails.class);
+		if (cached != null) {
+			return validateEpoch(accessToken, cached);
+		}
+
 		Map<String, Object> claims = jwtProvider.validateAccessToken(accessToken);
 
 		// 복호화 때문에 claims.getSbuject()가 아님.
@@ -55,12 +66,22 @@ public class TokenAuthenticator {
 			throw new IllegalJwtException(JWT_ILLEGAL, "JWT AuthUserDetails 생성중 오류 발생. - name");
 		}
 
-		return new CustomAdminDetails(adminId, email, name, authorities);
+		// 세대 claim이 없는 이전 토큰은 0세대
+		int tokenEpoch = claims.get(AdminTokenEpochStore.CLAIM) instanceof Number epoch ? epoch.intValue() : 0;
+
+		CustomAdminDetails adminDetails = new CustomAdminDetails(adminId, email, name, authorities, tokenEpoch);
+		cache(accessToken, adminDetails, claims);
+		return validateEpoch(accessToken, adminDetails);
 	}
 	
 	public AuthDetails authenticateAuthToken(String authToken) {
 		log.debug("* TokenAuthenticator.authenticateAuthToken 실행.");
 		
+		AuthDetails cached = verifiedTokenCache.get(authToken, AuthDetails.class);
+		if (cached != null) {
+			return cached;
+		}
+
 		Map<String, Object> claims = jwtProvider.validateAuthToken(authToken);
 
 		Object subjectRaw = claims.get("subject");
@@ -89,7 +110,31 @@ public class TokenAuthenticator {
 		
 		log.debug("* verificationId: [{}], recipient: [{}], authorities:[{}]",verificationId, recipient, authorities);
 
-		return new AuthDetails(verificationId, recipient, authorities);
+		AuthDetails authDetails = new AuthDetails(verificationId, recipient, authorities);
+		cache(authToken, authDetails, claims);
+		return authDetails;
+	}
+
+	/**
+	 * 토큰 세대가 관리자의 현재 세대보다 낮으면 만료된 토큰으로 취급
+	 * 
+	 * @throws TimeOutJwtException {@link #validateEpoch} 이전 세대 토큰
+	 */
+	private CustomAdminDetails validateEpoch(String accessToken, CustomAdminDetails details) {
+		if (!adminTokenEpochStore.isCurrent(details.getAdminId(), details.getTokenEpoch())) {
+			verifiedTokenCache.invalidate(accessToken);
+			throw new TimeOutJwtException(JWT_EXPIRED, "이전 세대 AccessToken. adminId: " + details.getAdminId());
+		}
+		return details;
+	}
+
+	/**
+	 * 토큰 exp 시각까지 검증 결과 캐싱
+	 */
+	private void cache(String token, UserDetails details, Map<String, Object> claims) {
+		if (claims.get("exp") instanceof Number exp) {
+			verifiedTokenCache.put(token, details, exp.longValue() * 1000);
+		}
 	}
 
 }
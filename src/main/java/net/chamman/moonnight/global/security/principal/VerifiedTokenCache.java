@@ -0,0 +1,109 @@
+package net.chamman.moonnight.global.security.principal;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.util.TokenHashUtil;
+
+/**
+ * 검증을 마친 토큰의 UserDetails 캐시.
+ * 
+ * 키는 토큰 원문이 아닌 SHA-256 해시. 엔트리는 토큰의 exp 시각에 만료되며, 
+ * 블랙리스트 등록 시 {@link #invalidate}로 즉시 제거된다. 
+ * 같은 세션의 반복 요청은 서명 검증, AES 복호화, 권한 생성 없이 처리된다.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+	private record Entry(UserDetails details, long expiresAtMillis) {
+	}
+
+	private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+	private final AtomicBoolean evicting = new AtomicBoolean();
+	private final int maxSize;
+
+	public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @param <T>
+	 * @param token
+	 * @param type
+	 * 
+	 * @return 캐시된 UserDetails. 없거나 만료됐거나 타입이 다르면 null
+	 */
+	public <T extends UserDetails> T get(String token, Class<T> type) {
+		String key = hash(token);
+		Entry entry = cache.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+			cache.remove(key, entry);
+			return null;
+		}
+		if (!type.isInstance(entry.details())) {
+			return null;
+		}
+		return type.cast(entry.details());
+	}
+
+	/**
+	 * @param token
+	 * @param details
+	 * @param expiresAtMillis 토큰 exp 시각(ms)
+	 */
+	public void put(String token, UserDetails details, long expiresAtMillis) {
+		if (expiresAtMillis <= System.currentTimeMillis()) {
+			return;
+		}
+		cache.put(hash(token), new Entry(details, expiresAtMillis));
+		if (cache.size() > maxSize) {
+			evict();
+		}
+	}
+
+	public void invalidate(String token) {
+		cache.remove(hash(token));
+	}
+
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * 만료된 엔트리부터 정리하고, 그래도 넘치면 임의 순서로 정리. 
+	 * 정리된 토큰은 다음 요청에서 다시 검증될 뿐이다.
+	 */
+	private void evict() {
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			long now = System.currentTimeMillis();
+			cache.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+			int target = maxSize - maxSize / 10;
+			Iterator<String> it = cache.keySet().iterator();
+			while (cache.size() > target && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+			log.debug("* 검증 토큰 캐시 정리. size: [{}]", cache.size());
+		} finally {
+			evicting.set(false);
+		}
+	}
+
+	private static String hash(String token) {
+		return TokenHashUtil.sha256(token);
+	}
+}
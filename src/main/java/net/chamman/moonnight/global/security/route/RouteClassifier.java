@@ -0,0 +1,144 @@
+package net.chamman.moonnight.global.security.route;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import net.chamman.moonnight.global.config.SecurityConfig;
+
+/**
+ * 요청 경로를 {@link RouteType}으로 분류.
+ *
+ * SecurityConfig의 경로 패턴들을 시작 시 PathPattern으로 한 번 컴파일하고,
+ * 첫 번째 경로 세그먼트별로 묶어 두어 요청마다 해당 세그먼트의 패턴만 검사한다.
+ * 요청의 첫 세그먼트는 PathPattern, Spring MVC와 같이 디코딩한 값으로 찾는다. (ex. "/%61dmin" → "admin")
+ * 분류 결과는 요청 속성({@link #ATTRIBUTE})에 디스패치 종류, URI와 함께 저장되어
+ * 같은 디스패치 안에서 SecurityFilterChain 선택, 필터, 인터셉터가 같은 결과를 재사용한다.
+ * FORWARD, ERROR 디스패치는 URI가 바뀌므로 다시 분류한다.
+ *
+ * 우선순위는 SecurityFilterChain 순서와 같다. STATIC → PUBLIC_ADMIN → PRIVATE_ADMIN → USER_PRIVATE → DEFAULT
+ */
+@Component
+public class RouteClassifier {
+
+	public static final String ATTRIBUTE = RouteClassifier.class.getName() + ".ROUTE_TYPE";
+
+	private static final String[] ADMIN_URLS = { "/admin/**", "/api/admin/**" };
+
+	private record Rule(PathPattern pattern, RouteType routeType) {
+	}
+
+	private record Classified(DispatcherType dispatcherType, String uri, RouteType routeType) {
+	}
+
+	// 첫 세그먼트 → 우선순위 순 규칙
+	private final Map<String, List<Rule>> rulesBySegment = new HashMap<>();
+	// 첫 세그먼트가 와일드카드인 규칙
+	private final List<Rule> wildcardRules = new ArrayList<>();
+
+	public RouteClassifier() {
+		PathPatternParser parser = new PathPatternParser();
+		register(parser, SecurityConfig.STATIC_RESOURCES, RouteType.STATIC);
+		register(parser, SecurityConfig.PUBLIC_ADMIN_URLS, RouteType.PUBLIC_ADMIN);
+		register(parser, ADMIN_URLS, RouteType.PRIVATE_ADMIN);
+		register(parser, SecurityConfig.USER_PRIVATE_URLS, RouteType.USER_PRIVATE);
+	}
+
+	/**
+	 * 요청 분류. 같은 디스패치, 같은 URI로 이미 분류된 요청은 저장된 결과를 반환.
+	 *
+	 * @param request
+	 *
+	 * @return 분류 결과
+	 */
+	public RouteType classify(HttpServletRequest request) {
+		DispatcherType dispatcherType = request.getDispatcherType();
+		String uri = request.getRequestURI();
+		if (request.getAttribute(ATTRIBUTE) instanceof Classified cached && cached.dispatcherType() == dispatcherType
+				&& cached.uri().equals(uri)) {
+			return cached.routeType();
+		}
+		RouteType routeType = classify(uri);
+		request.setAttribute(ATTRIBUTE, new Classified(dispatcherType, uri, routeType));
+		return routeType;
+	}
+
+	public RouteType classify(String path) {
+		PathContainer pathContainer = PathContainer.parsePath(path);
+		List<Rule> rules = rulesBySegment.get(firstSegment(pathContainer));
+
+		RouteType best = null;
+		if (rules != null) {
+			best = firstMatch(rules, pathContainer);
+		}
+		if (!wildcardRules.isEmpty()) {
+			RouteType wildcard = firstMatch(wildcardRules, pathContainer);
+			if (wildcard != null && (best == null || wildcard.ordinal() < best.ordinal())) {
+				best = wildcard;
+			}
+		}
+		return best != null ? best : RouteType.DEFAULT;
+	}
+
+	/**
+	 * SecurityFilterChain의 securityMatcher, requestMatchers에 사용
+	 *
+	 * @param routeTypes
+	 *
+	 * @return 요청이 routeTypes 중 하나로 분류되면 true인 RequestMatcher
+	 */
+	public RequestMatcher matcher(RouteType first, RouteType... rest) {
+		Set<RouteType> routeTypes = EnumSet.of(first, rest);
+		return request -> routeTypes.contains(classify(request));
+	}
+
+	private void register(PathPatternParser parser, String[] patterns, RouteType routeType) {
+		for (String pattern : patterns) {
+			Rule rule = new Rule(parser.parse(pattern), routeType);
+			String segment = firstSegment(pattern);
+			if (segment.contains("*") || segment.contains("{")) {
+				wildcardRules.add(rule);
+			} else {
+				rulesBySegment.computeIfAbsent(segment, k -> new ArrayList<>()).add(rule);
+			}
+		}
+	}
+
+	private static RouteType firstMatch(List<Rule> rules, PathContainer pathContainer) {
+		for (Rule rule : rules) {
+			if (rule.pattern().matches(pathContainer)) {
+				return rule.routeType();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return 디코딩하고 경로 매개변수(;...)를 뗀 첫 세그먼트. 없으면 빈 문자열
+	 */
+	private static String firstSegment(PathContainer pathContainer) {
+		List<PathContainer.Element> elements = pathContainer.elements();
+		// elements: "/", 세그먼트, "/", 세그먼트 ...
+		if (elements.size() < 2 || !(elements.get(1) instanceof PathContainer.PathSegment segment)) {
+			return "";
+		}
+		return segment.valueToMatch();
+	}
+
+	private static String firstSegment(String path) {
+		int start = path.startsWith("/") ? 1 : 0;
+		int end = path.indexOf('/', start);
+		return end < 0 ? path.substring(start) : path.substring(start, end);
+	}
+}
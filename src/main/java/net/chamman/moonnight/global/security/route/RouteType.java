@@ -0,0 +1,12 @@
+package net.chamman.moonnight.global.security.route;
+
+/**
+ * 요청 경로 분류. {@link RouteClassifier}가 요청마다 한 번 정한다.
+ */
+public enum RouteType {
+	STATIC, // 정적 리소스, API 문서
+	PUBLIC_ADMIN, // 인증이 필요 없는 관리자 경로 (로그인, 회원가입 등)
+	PRIVATE_ADMIN, // 관리자 인증이 필요한 경로
+	USER_PRIVATE, // 사용자(auth 토큰) 인증이 필요한 경로
+	DEFAULT // 그 외
+}
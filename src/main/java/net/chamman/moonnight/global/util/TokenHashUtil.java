@@ -0,0 +1,26 @@
+package net.chamman.moonnight.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 로컬 캐시/인덱스 키로 사용할 해시 생성.
+ */
+public class TokenHashUtil {
+
+	/**
+	 * @param token
+	 * 
+	 * @return SHA-256 해시의 Base64(패딩 없음) 문자열
+	 */
+	public static String sha256(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 사용 불가.", e);
+		}
+	}
+}
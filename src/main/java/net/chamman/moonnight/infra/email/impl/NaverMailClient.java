@@ -5,6 +5,8 @@ import static net.chamman.moonnight.global.exception.HttpStatusCode.EMAIL_SEND_F
 import java.net.URI;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.http.HttpEntity;
@@ -17,6 +19,7 @@ import org.springframework.web.client.RestTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.config.OutboundHttpConfig;
 import net.chamman.moonnight.global.exception.infra.EmailSendException;
 import net.chamman.moonnight.global.util.LogMaskingUtil;
 import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
@@ -24,6 +27,7 @@ import net.chamman.moonnight.infra.email.EmailSender;
 import net.chamman.moonnight.infra.email.naver.NaverMailRequestDto;
 import net.chamman.moonnight.infra.email.naver.NaverMailRecipientRequestDto;
 import net.chamman.moonnight.infra.naver.NaverSignatureGenerator;
+import net.chamman.moonnight.infra.resilience.ProviderGuards;
 
 @Component
 @RequiredArgsConstructor
@@ -32,6 +36,11 @@ import net.chamman.moonnight.infra.naver.NaverSignatureGenerator;
 public class NaverMailClient implements EmailSender{
 	
 	private final NaverSignatureGenerator naverSignatureGenerator;
+	private final ProviderGuards providerGuards;
+
+	@Autowired
+	@Qualifier(OutboundHttpConfig.NAVER_MAIL)
+	private RestTemplate restTemplate;
 	
 	@Value("${naver-api.accessKey}")
 	private String accessKey;
@@ -62,28 +71,29 @@ public class NaverMailClient implements EmailSender{
 				.recipients(mails)
 				.build();
 		
-		try {
-			
-			String time = Long.toString(System.currentTimeMillis());
-			
-			// 헤더 설정
-			HttpHeaders headers = new HttpHeaders();
-			headers.setContentType(MediaType.APPLICATION_JSON);
-			headers.set("x-ncp-apigw-timestamp", time);
-			headers.set("x-ncp-iam-access-key", accessKey);
-			headers.set("x-ncp-apigw-signature-v2", naverSignatureGenerator.getNaverSignature("POST", emailSendPath, time));
-			
-			// HTTP 요청
-			RestTemplate restTemplate = new RestTemplate();
-			HttpEntity<NaverMailRequestDto> entity = new HttpEntity<>(naverMailRequestDto, headers);
-			ResponseEntity<String> response = restTemplate.exchange(new URI(emailApiUrl + emailSendPath),
-					HttpMethod.POST, entity, String.class);
-			
-			
-			return response.getStatusCode().value();
-		} catch (Exception e) {
-			throw new EmailSendException(EMAIL_SEND_FAIL,e);
-		}
+		return providerGuards.get(ProviderGuards.NAVER_MAIL).execute(() -> {
+			try {
+				
+				String time = Long.toString(System.currentTimeMillis());
+				
+				// 헤더 설정
+				HttpHeaders headers = new HttpHeaders();
+				headers.setContentType(MediaType.APPLICATION_JSON);
+				headers.set("x-ncp-apigw-timestamp", time);
+				headers.set("x-ncp-iam-access-key", accessKey);
+				headers.set("x-ncp-apigw-signature-v2", naverSignatureGenerator.getNaverSignature("POST", emailSendPath, time));
+				
+				// HTTP 요청
+				HttpEntity<NaverMailRequestDto> entity = new HttpEntity<>(naverMailRequestDto, headers);
+				ResponseEntity<String> response = restTemplate.exchange(new URI(emailApiUrl + emailSendPath),
+						HttpMethod.POST, entity, String.class);
+				
+				
+				return response.getStatusCode().value();
+			} catch (Exception e) {
+				throw new EmailSendException(EMAIL_SEND_FAIL,e);
+			}
+		}, () -> new EmailSendException(EMAIL_SEND_FAIL, "Naver Mail 호출 차단. (서킷 브레이커 열림 또는 동시 호출 초과)"));
 	}
 	
 }
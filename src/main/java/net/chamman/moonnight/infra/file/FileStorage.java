@@ -6,5 +6,6 @@ import org.springframework.web.multipart.MultipartFile;
 
 public interface FileStorage {
     String upload(MultipartFile file, String keyPrefix); // 파일 업로드
+    List<String> uploadAll(List<MultipartFile> files, String keyPrefix); // 파일들 동시 업로드. 하나라도 실패하면 올린 파일 삭제 후 실패
     void delete(List<String> filePaths);             // 파일 삭제
 }
@@ -3,69 +3,152 @@ package net.chamman.moonnight.infra.file.impl;
 import static net.chamman.moonnight.global.exception.HttpStatusCode.S3_DELETE_FAIL;
 import static net.chamman.moonnight.global.exception.HttpStatusCode.S3_UPLOAD_FAIL;
 
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.config.ExecutorConfig;
 import net.chamman.moonnight.global.exception.infra.s3.S3DeleteException;
 import net.chamman.moonnight.global.exception.infra.s3.S3UploadException;
 import net.chamman.moonnight.infra.file.FileStorage;
-import software.amazon.awssdk.core.sync.RequestBody;
+import net.chamman.moonnight.infra.resilience.ProviderGuards;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.BlockingInputStreamAsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 
+/**
+ * S3 파일 저장.
+ *
+ * 업로드는 멀티파트 요청의 InputStream(임시 파일)을 그대로 {@link S3AsyncClient}로 흘려보내 파일 전체를 힙에 올리지 않는다.
+ * 큰 파일은 클라이언트가 멀티파트 업로드로 나눈다. ({@code aws.s3.multipart.*})
+ * 여러 파일은 요청당 {@code aws.s3.upload.parallelism}개씩, 노드 전체로는 {@code aws.s3.upload.max-concurrent}개까지 동시에 올린다.
+ * 노드 전체 자리를 {@code aws.s3.upload.permit-wait-ms} 안에 얻지 못하면 업로드 실패로 처리한다.
+ * 병렬 업로드는 전용 실행기({@link ExecutorConfig#UPLOAD_EXECUTOR})에서 돌려 알림 발송 등 백그라운드 작업과 섞이지 않게 한다.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 @PropertySource("classpath:application.properties")
 public class AwsS3Client implements FileStorage{
-	
+
 	@Value("${aws.s3.bucket}")
 	private String bucket;
 	private final S3Client s3Client;
+	private final S3AsyncClient s3AsyncClient;
+	private final ProviderGuards providerGuards;
+	private final AsyncTaskExecutor uploadTaskExecutor;
+	private final int parallelism;
+	private final Semaphore uploadPermits;
+	private final long permitWaitMillis;
 
+	public AwsS3Client(S3Client s3Client, S3AsyncClient s3AsyncClient, ProviderGuards providerGuards,
+			@Qualifier(ExecutorConfig.UPLOAD_EXECUTOR) AsyncTaskExecutor uploadTaskExecutor,
+			@Value("${aws.s3.upload.parallelism:4}") int parallelism,
+			@Value("${aws.s3.upload.max-concurrent:8}") int maxConcurrent,
+			@Value("${aws.s3.upload.permit-wait-ms:10000}") long permitWaitMillis) {
+		this.s3Client = s3Client;
+		this.s3AsyncClient = s3AsyncClient;
+		this.providerGuards = providerGuards;
+		this.uploadTaskExecutor = uploadTaskExecutor;
+		this.parallelism = Math.max(1, parallelism);
+		this.uploadPermits = new Semaphore(Math.max(1, maxConcurrent));
+		this.permitWaitMillis = permitWaitMillis;
+	}
 
 	/** 단일 파일 업로드
 	 * @param file
 	 * @param keyPrefix
-	 * @throws S3UploadException {@link #uploadFile}
+	 * @throws S3UploadException {@link #upload}
 	 * @return
 	 */
 	@Override
 	public String upload(MultipartFile file, String keyPrefix) {
-		String key = keyPrefix + UUID.randomUUID() + "_" + file.getOriginalFilename(); // 고유한 파일명 생성
-		log.debug("* S3 파일 업로드 요청. Bucket: [{}], Key: [{}]", bucket, key);
+		String key = newKey(file, keyPrefix);
+		putObjectWithPermit(file, key);
+		return url(key);
+	}
+
+	/** 여러 파일 동시 업로드. 하나라도 실패하면 이미 올린 파일을 지우고 실패한다.
+	 * @param files
+	 * @param keyPrefix
+	 * @throws S3UploadException {@link #uploadAll}
+	 * @return 입력 순서대로 업로드된 파일의 S3 URL
+	 */
+	@Override
+	public List<String> uploadAll(List<MultipartFile> files, String keyPrefix) {
+		if (files == null || files.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		int size = files.size();
+		String[] keys = new String[size];
+		for (int i = 0; i < size; i++) {
+			keys[i] = newKey(files.get(i), keyPrefix);
+		}
+		// 작업 완료(Future.get) 후에 읽으므로 별도 동기화 불필요
+		boolean[] uploaded = new boolean[size];
+		AtomicInteger cursor = new AtomicInteger();
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+		Runnable worker = () -> {
+			int i;
+			while (failure.get() == null && (i = cursor.getAndIncrement()) < size) {
+				try {
+					putObjectWithPermit(files.get(i), keys[i]);
+					uploaded[i] = true;
+				} catch (RuntimeException e) {
+					failure.compareAndSet(null, e);
+				}
+			}
+		};
 
+		// 호출한 스레드도 작업자 하나로 참여
+		List<Future<?>> workers = new ArrayList<>();
 		try {
-			
-			// S3 업로드 요청 생성
-			PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-					.bucket(bucket)
-					.key(key)
-					.contentType(file.getContentType())
-					.acl("public-read")
-					.build();
-			
-			// S3에 파일 업로드
-			s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
-			
-			// 업로드된 파일의 S3 URL 반환
-			return "https://" + bucket + ".s3.amazonaws.com/" + key;
-			
-		} catch (Exception e) {
-			throw new S3UploadException(S3_UPLOAD_FAIL, e);
+			for (int w = 1; w < Math.min(parallelism, size); w++) {
+				workers.add(uploadTaskExecutor.submit(worker));
+			}
+		} catch (RuntimeException e) {
+			log.warn("* S3 업로드 작업 등록 실패. 등록된 작업자로 계속 진행. {}", e.getMessage());
 		}
+		worker.run();
+		awaitAll(workers, failure);
+
+		RuntimeException e = failure.get();
+		if (e != null) {
+			rollback(keys, uploaded);
+			throw e instanceof S3UploadException s3UploadException ? s3UploadException
+					: new S3UploadException(S3_UPLOAD_FAIL, e);
+		}
+
+		List<String> urls = new ArrayList<>(size);
+		for (String key : keys) {
+			urls.add(url(key));
+		}
+		return urls;
 	}
-	
+
 	/** 경로들의 파일 삭제
 	 * @param deleteFiles
 	 * @throws S3DeleteException {@link #deleteFiles}
@@ -80,22 +163,126 @@ public class AwsS3Client implements FileStorage{
 			log.debug("* S3 파일 삭제 요청. Bucket: [{}], Key: [{}]", bucket, s);
 		}
 
+		providerGuards.get(ProviderGuards.AWS_S3).run(() -> {
+			try {
+				// S3 Object Key 리스트 변환
+				List<ObjectIdentifier> objectIdentifiers = paths.stream()
+						.map(path -> ObjectIdentifier.builder().key(path).build())
+						.collect(Collectors.toList());
+
+				// DeleteObjectsRequest 생성
+				DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+						.bucket(bucket)
+						.delete(builder -> builder.objects(objectIdentifiers))
+						.build();
+
+				s3Client.deleteObjects(deleteRequest);
+			} catch (Exception e) {
+				throw new S3DeleteException(S3_DELETE_FAIL, e);
+			}
+		}, () -> new S3DeleteException(S3_DELETE_FAIL, "S3 삭제 호출 차단. (서킷 브레이커 열림 또는 동시 호출 초과)"));
+	}
+
+	private void putObjectWithPermit(MultipartFile file, String key) {
+		try {
+			if (!uploadPermits.tryAcquire(permitWaitMillis, TimeUnit.MILLISECONDS)) {
+				log.warn("* S3 업로드 자리 대기 시간 초과. Key: [{}], 제한: [{}ms]", key, permitWaitMillis);
+				throw new S3UploadException(S3_UPLOAD_FAIL, "S3 업로드 대기 시간 초과.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new S3UploadException(S3_UPLOAD_FAIL, "S3 업로드 대기 중 인터럽트.", e);
+		}
+		try {
+			putObject(file, key);
+		} finally {
+			uploadPermits.release();
+		}
+	}
+
+	/**
+	 * 요청 본문을 InputStream에서 바로 읽어 보낸다. 보내는 동안 호출한 스레드는 스트림 쓰기로 대기한다.
+	 */
+	private void putObject(MultipartFile file, String key) {
+		log.debug("* S3 파일 업로드 요청. Bucket: [{}], Key: [{}], Size: [{}]", bucket, key, file.getSize());
+
+		providerGuards.get(ProviderGuards.AWS_S3).run(() -> {
+			CompletableFuture<PutObjectResponse> response = null;
+			try {
+
+				// S3 업로드 요청 생성
+				PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+						.bucket(bucket)
+						.key(key)
+						.contentType(file.getContentType())
+						.contentLength(file.getSize())
+						.acl("public-read")
+						.build();
+
+				// S3에 파일 업로드
+				BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(file.getSize());
+				response = s3AsyncClient.putObject(putObjectRequest, body);
+				try (InputStream in = file.getInputStream()) {
+					body.writeInputStream(in);
+				}
+				response.join();
+
+			} catch (Exception e) {
+				if (response != null) {
+					response.cancel(true);
+				}
+				throw new S3UploadException(S3_UPLOAD_FAIL, e);
+			}
+		}, () -> new S3UploadException(S3_UPLOAD_FAIL, "S3 업로드 호출 차단. (서킷 브레이커 열림 또는 동시 호출 초과)"));
+	}
+
+	private void awaitAll(List<Future<?>> workers, AtomicReference<RuntimeException> failure) {
+		boolean interrupted = false;
+		for (Future<?> worker : workers) {
+			while (true) {
+				try {
+					worker.get();
+					break;
+				} catch (InterruptedException e) {
+					// 남은 파일은 올리지 않고, 진행 중인 업로드가 끝나면 정리한다.
+					interrupted = true;
+					failure.compareAndSet(null, new S3UploadException(S3_UPLOAD_FAIL, "S3 업로드 대기 중 인터럽트.", e));
+				} catch (ExecutionException e) {
+					failure.compareAndSet(null, new S3UploadException(S3_UPLOAD_FAIL, e));
+					break;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void rollback(String[] keys, boolean[] uploaded) {
+		List<String> uploadedKeys = new ArrayList<>();
+		for (int i = 0; i < keys.length; i++) {
+			if (uploaded[i]) {
+				uploadedKeys.add(keys[i]);
+			}
+		}
+		if (uploadedKeys.isEmpty()) {
+			return;
+		}
+		log.debug("* S3 업로드 일부 실패로 인한 롤백. 삭제 대상: [{}]", uploadedKeys);
 		try {
-			// S3 Object Key 리스트 변환
-			List<ObjectIdentifier> objectIdentifiers = paths.stream()
-					.map(path -> ObjectIdentifier.builder().key(path).build())
-					.collect(Collectors.toList());
-			
-			// DeleteObjectsRequest 생성
-			DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
-					.bucket(bucket)
-					.delete(builder -> builder.objects(objectIdentifiers))
-					.build();
-			
-			s3Client.deleteObjects(deleteRequest);
+			delete(uploadedKeys);
 		} catch (Exception e) {
-			throw new S3DeleteException(S3_DELETE_FAIL, e);
+			log.error("* S3 업로드 롤백 실패. 삭제하지 못한 Key: [{}]", uploadedKeys, e);
 		}
 	}
-	
+
+	private static String newKey(MultipartFile file, String keyPrefix) {
+		return keyPrefix + UUID.randomUUID() + "_" + file.getOriginalFilename(); // 고유한 파일명 생성
+	}
+
+	private String url(String key) {
+		// 업로드된 파일의 S3 URL 반환
+		return "https://" + bucket + ".s3.amazonaws.com/" + key;
+	}
+
 }
@@ -0,0 +1,90 @@
+package net.chamman.moonnight.infra.http;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 API 호출 지표. 제공자별 호출 수, 오류 수(예외, 5xx), 평균/최대 지연을 집계하고
+ * {@code http.outbound.metrics.log-interval-ms}마다 로그로 남긴 뒤 초기화한다.
+ */
+@Component
+@Slf4j
+public class OutboundHttpMetrics {
+
+	public record Snapshot(long calls, long errors, long avgMillis, long maxMillis) {
+	}
+
+	private static final class Stats {
+		final LongAdder calls = new LongAdder();
+		final LongAdder errors = new LongAdder();
+		final LongAdder totalNanos = new LongAdder();
+		final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+	}
+
+	private final ConcurrentHashMap<String, Stats> stats = new ConcurrentHashMap<>();
+
+	/**
+	 * @param provider 제공자 이름 (로그, 지표 구분)
+	 *
+	 * @return 호출 시간과 결과를 기록하는 인터셉터
+	 */
+	public ClientHttpRequestInterceptor interceptor(String provider) {
+		Stats providerStats = stats.computeIfAbsent(provider, p -> new Stats());
+		return (request, body, execution) -> {
+			long start = System.nanoTime();
+			boolean error = true;
+			try {
+				ClientHttpResponse response = execution.execute(request, body);
+				error = response.getStatusCode().is5xxServerError();
+				return response;
+			} finally {
+				long elapsed = System.nanoTime() - start;
+				providerStats.calls.increment();
+				providerStats.totalNanos.add(elapsed);
+				providerStats.maxNanos.accumulate(elapsed);
+				if (error) {
+					providerStats.errors.increment();
+				}
+			}
+		};
+	}
+
+	/**
+	 * @return 제공자별 현재 집계 (초기화하지 않음)
+	 */
+	public Map<String, Snapshot> snapshot() {
+		Map<String, Snapshot> result = new TreeMap<>();
+		stats.forEach((provider, s) -> {
+			long calls = s.calls.sum();
+			result.put(provider, new Snapshot(calls, s.errors.sum(),
+					calls == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(s.totalNanos.sum() / calls),
+					TimeUnit.NANOSECONDS.toMillis(s.maxNanos.get())));
+		});
+		return result;
+	}
+
+	@Scheduled(fixedDelayString = "${http.outbound.metrics.log-interval-ms:300000}")
+	public void logAndReset() {
+		stats.forEach((provider, s) -> {
+			long calls = s.calls.sumThenReset();
+			long errors = s.errors.sumThenReset();
+			long totalNanos = s.totalNanos.sumThenReset();
+			long maxNanos = s.maxNanos.getThenReset();
+			if (calls > 0) {
+				log.info("* 외부 API 호출 지표. provider: [{}], 호출: [{}], 오류: [{}], 평균: [{}ms], 최대: [{}ms]", provider, calls,
+						errors, TimeUnit.NANOSECONDS.toMillis(totalNanos / calls), TimeUnit.NANOSECONDS.toMillis(maxNanos));
+			}
+		});
+	}
+}
@@ -0,0 +1,267 @@
+package net.chamman.moonnight.infra.map;
+
+import static net.chamman.moonnight.global.exception.HttpStatusCode.ROAD_SEARCH_FAIL;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.config.ExecutorConfig;
+import net.chamman.moonnight.global.exception.infra.RoadSearchBusyException;
+import net.chamman.moonnight.global.exception.infra.RoadSearchException;
+import net.chamman.moonnight.global.util.LogMaskingUtil;
+import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
+import net.chamman.moonnight.infra.map.dto.RoadSearchApiResponseDto;
+import net.chamman.moonnight.infra.map.dto.StandardAddress;
+
+/**
+ * 우편번호-주소 일치 검증.
+ *
+ * exact, similar, 끝 번지를 뗀 주소(similar) 세 가지 검색을 시작하고,
+ * 각 검색의 첫 페이지 결과 수를 보고 나머지 페이지도 요청한다.
+ * 우편번호가 일치하는 결과가 하나라도 나오면 남은 요청을 취소하고 바로 반환한다.
+ *
+ * 검증 한 건이 동시에 보내는 요청은 {@code address.validation.parallelism}개로,
+ * 카카오 동시 호출 수({@code resilience.kakao.max-concurrent})를 넘지 않는다.
+ * 호출 수가 {@code address.validation.parallel-calls}를 넘으면 남은 페이지는 하나씩 요청한다.
+ * 동시 호출 초과로 거절된 페이지는 실패로 보지 않고 잠시 뒤 하나씩 다시 요청한다.
+ * 요청 등록과 결과 처리는 호출한 스레드 하나가 맡고, 실행기 작업은 검색 한 번만 하고 결과를 넘긴다.
+ * (작업 안에서 다시 작업을 등록하면 동시 실행 제한에 걸린 작업들이 서로의 자리를 기다리며 멈출 수 있다)
+ * 불일치는 모든 페이지를 확인한 뒤에만 반환하고,
+ * {@code address.validation.timeout-ms} 안에 끝내지 못하면 {@link RoadSearchException}을 던진다.
+ */
+@Component
+@Slf4j
+public class AddressValidationEngine {
+
+	public enum Strategy {
+		EXACT, SIMILAR, TRIMMED
+	}
+
+	/**
+	 * @param matched  일치 여부
+	 * @param strategy 일치한 검색 방법. 불일치면 null
+	 * @param calls    실제 호출한 검색 API 수
+	 * @param complete 모든 검색을 끝까지 확인했는지 여부
+	 */
+	public record Result(boolean matched, Strategy strategy, int calls, boolean complete) {
+	}
+
+	static final int PAGE_SIZE = 30;
+	// 카카오 주소 검색 최대 페이지
+	static final int MAX_PAGE = 45;
+	// 동시 호출 초과로 거절된 페이지를 다시 요청하기 전 대기
+	static final long BUSY_RETRY_MILLIS = 50;
+
+	private final MapSearch mapSearch;
+	private final AsyncTaskExecutor addressTaskExecutor;
+	private final int parallelCalls;
+	private final int parallelism;
+	private final long timeoutMillis;
+
+	public AddressValidationEngine(MapSearch mapSearch,
+			@Qualifier(ExecutorConfig.ADDRESS_EXECUTOR) AsyncTaskExecutor addressTaskExecutor,
+			@Value("${address.validation.parallel-calls:12}") int parallelCalls,
+			@Value("${address.validation.parallelism:3}") int parallelism,
+			@Value("${resilience.kakao.max-concurrent:10}") int kakaoMaxConcurrent,
+			@Value("${address.validation.timeout-ms:3000}") long timeoutMillis) {
+		this.mapSearch = mapSearch;
+		this.addressTaskExecutor = addressTaskExecutor;
+		this.parallelCalls = parallelCalls;
+		this.parallelism = Math.max(1, Math.min(parallelism, kakaoMaxConcurrent));
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * @param postcode
+	 * @param mainAddress
+	 * @throws RoadSearchException {@link #validate} 일치 결과 없이 검색 실패 또는 시간 초과
+	 * @return 검증 결과
+	 */
+	public Result validate(String postcode, String mainAddress) {
+		Validation validation = new Validation(postcode);
+
+		validation.queue.add(new PageSearch(Strategy.EXACT, mainAddress, "exact", 1, 0));
+		validation.queue.add(new PageSearch(Strategy.SIMILAR, mainAddress, "similar", 1, 0));
+		String trimmed = trim(mainAddress);
+		if (!trimmed.equals(mainAddress)) {
+			validation.queue.add(new PageSearch(Strategy.TRIMMED, trimmed, "similar", 1, 0));
+		}
+
+		try {
+			Result result = validation.run(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+			if (result == null) {
+				log.warn("* 주소 검증 시간 초과. mainAddress: [{}], 호출 수: [{}], 제한: [{}ms]",
+						LogMaskingUtil.maskAddress(mainAddress, MaskLevel.NONE), validation.calls, timeoutMillis);
+				throw new RoadSearchException(ROAD_SEARCH_FAIL, "주소 검증 시간 초과.");
+			}
+			if (!result.matched() && validation.failed) {
+				throw new RoadSearchException(ROAD_SEARCH_FAIL, "주소 검증 중 검색 실패.");
+			}
+			return result;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RoadSearchException(ROAD_SEARCH_FAIL, "주소 검증 중 인터럽트.");
+		} finally {
+			validation.cancelOutstanding();
+		}
+	}
+
+	/**
+	 * 끝의 번지를 뗀 주소. ex) "동교로 7" → "동교로"
+	 */
+	static String trim(String mainAddress) {
+		return mainAddress.replaceFirst("\\s\\d{1,4}(-\\d{1,4})?$", "");
+	}
+
+	/**
+	 * @param notBefore 이 시각(nanoTime) 이후에 요청. 0이면 바로
+	 */
+	private record PageSearch(Strategy strategy, String address, String analyzeType, int page, long notBefore) {
+
+		PageSearch page(int page) {
+			return new PageSearch(strategy, address, analyzeType, page, 0);
+		}
+	}
+
+	/**
+	 * 실행기 작업 하나의 결과. response, error 중 하나만 있다.
+	 */
+	private record Outcome(PageSearch search, RoadSearchApiResponseDto response, RuntimeException error) {
+	}
+
+	/**
+	 * 검증 한 건의 진행 상태. 호출한 스레드만 대기열과 상태를 바꾸고,
+	 * 실행기 작업은 검색 결과를 {@link #outcomes}에 넣기만 한다.
+	 */
+	private final class Validation {
+		final String postcode;
+		final ArrayDeque<PageSearch> queue = new ArrayDeque<>();
+		final BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+		final List<Future<?>> futures = new ArrayList<>();
+		int running;
+		int started;
+		int calls;
+		boolean busy;
+		boolean failed;
+
+		Validation(String postcode) {
+			this.postcode = postcode;
+		}
+
+		/**
+		 * @param deadline nanoTime 기준 제한 시각
+		 * @return 검증 결과. 제한 시각까지 끝내지 못하면 null
+		 */
+		Result run(long deadline) throws InterruptedException {
+			while (true) {
+				dispatch();
+				if (running == 0 && queue.isEmpty()) {
+					return new Result(false, null, calls, true);
+				}
+
+				long now = System.nanoTime();
+				if (deadline - now <= 0) {
+					return null;
+				}
+				long wait = deadline - now;
+				if (!queue.isEmpty() && running < limit()) {
+					// 다음 페이지를 다시 요청할 시각까지만 기다린다.
+					wait = Math.min(wait, queue.peek().notBefore() - now);
+				}
+				Outcome outcome = outcomes.poll(Math.max(0, wait), TimeUnit.NANOSECONDS);
+				if (outcome == null) {
+					continue;
+				}
+				running--;
+				Result matched = handle(outcome);
+				if (matched != null) {
+					return matched;
+				}
+			}
+		}
+
+		/**
+		 * 한도 안에서 대기열의 요청을 실행기에 넘긴다.
+		 */
+		void dispatch() {
+			while (!queue.isEmpty() && running < limit() && queue.peek().notBefore() - System.nanoTime() <= 0) {
+				PageSearch search = queue.poll();
+				started++;
+				try {
+					futures.add(addressTaskExecutor.submit(() -> outcomes.add(search(search))));
+					running++;
+				} catch (RuntimeException e) {
+					log.warn("* 주소 검색 작업 등록 실패. {}", e.getMessage());
+					failed = true;
+				}
+			}
+		}
+
+		int limit() {
+			return busy || started >= parallelCalls ? 1 : parallelism;
+		}
+
+		/**
+		 * 실행기 스레드에서 실행
+		 */
+		Outcome search(PageSearch search) {
+			try {
+				return new Outcome(search,
+						mapSearch.roadSearch(search.address(), search.analyzeType(), search.page(), PAGE_SIZE), null);
+			} catch (RuntimeException e) {
+				return new Outcome(search, null, e);
+			}
+		}
+
+		/**
+		 * @return 일치하면 결과, 아니면 null
+		 */
+		Result handle(Outcome outcome) {
+			PageSearch search = outcome.search();
+			if (outcome.error() instanceof RoadSearchBusyException) {
+				// 다른 요청들이 카카오 동시 호출 자리를 쓰고 있다. 잠시 뒤 하나씩 다시 요청한다.
+				busy = true;
+				queue.add(new PageSearch(search.strategy(), search.address(), search.analyzeType(), search.page(),
+						System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(BUSY_RETRY_MILLIS)));
+				return null;
+			}
+			calls++;
+			if (outcome.error() != null) {
+				failed = true;
+				return null;
+			}
+
+			RoadSearchApiResponseDto response = outcome.response();
+			if (response.isEmpty()) {
+				return null;
+			}
+			if (response.getStandardAddresses().stream().map(StandardAddress::zoneCode).anyMatch(postcode::equals)) {
+				return new Result(true, search.strategy(), calls, true);
+			}
+			if (search.page() == 1 && !response.isEnd()) {
+				int lastPage = Math.min(MAX_PAGE, (response.getPageableCount() + PAGE_SIZE - 1) / PAGE_SIZE);
+				for (int next = 2; next <= lastPage; next++) {
+					queue.add(search.page(next));
+				}
+			}
+			return null;
+		}
+
+		void cancelOutstanding() {
+			for (Future<?> future : futures) {
+				future.cancel(true);
+			}
+		}
+	}
+}
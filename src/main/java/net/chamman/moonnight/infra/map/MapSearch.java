@@ -4,4 +4,13 @@ import net.chamman.moonnight.infra.map.dto.RoadSearchApiResponseDto;
 
 public interface MapSearch {
 	RoadSearchApiResponseDto roadSearch(String road, String analyzeType, int page, int size);
+
+	/**
+	 * 우편번호와 주소 일치 검증.
+	 * 
+	 * @param postcode
+	 * @param mainAddress
+	 * @return 일치하면 true. 불일치는 InvalidMainAddressException
+	 */
+	boolean validateAddress(String postcode, String mainAddress);
 }
@@ -0,0 +1,29 @@
+package net.chamman.moonnight.infra.map.cache;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import net.chamman.moonnight.infra.map.dto.RoadSearchApiResponseDto;
+import net.chamman.moonnight.infra.map.dto.StandardAddress;
+
+/**
+ * 캐시에 저장하는 주소 검색 결과. 검증에 쓰는 값만 보관한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedRoadSearchResponse extends RoadSearchApiResponseDto {
+	private List<StandardAddress> standardAddresses;
+	private boolean empty;
+	private boolean end;
+	private int pageableCount;
+
+	static CachedRoadSearchResponse from(RoadSearchApiResponseDto response) {
+		return new CachedRoadSearchResponse(List.copyOf(response.getStandardAddresses()), response.isEmpty(),
+				response.isEnd(), response.getPageableCount());
+	}
+}
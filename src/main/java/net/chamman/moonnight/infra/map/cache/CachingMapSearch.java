@@ -0,0 +1,237 @@
+package net.chamman.moonnight.infra.map.cache;
+
+import static net.chamman.moonnight.global.exception.HttpStatusCode.ADDRESS_INVALID_VALUE;
+import static net.chamman.moonnight.global.exception.HttpStatusCode.ROAD_SEARCH_FAIL;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.exception.infra.InvalidMainAddressException;
+import net.chamman.moonnight.global.exception.infra.RoadSearchException;
+import net.chamman.moonnight.global.util.LogMaskingUtil;
+import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
+import net.chamman.moonnight.global.util.TokenHashUtil;
+import net.chamman.moonnight.infra.map.AddressValidationEngine;
+import net.chamman.moonnight.infra.map.MapSearch;
+import net.chamman.moonnight.infra.map.dto.RoadSearchApiResponseDto;
+import net.chamman.moonnight.infra.map.impl.DaumMapClient;
+
+/**
+ * 카카오 주소 검색 읽기 캐시. 노드 메모리(LRU) → Redis → {@link DaumMapClient} 순서로 조회한다.
+ *
+ * <ul>
+ * <li>검색 결과: 정규화한 검색어, analyzeType, page, size 기준. {@code map.cache.search-ttl-ms}</li>
+ * <li>검증 결과: 우편번호, 정규화한 주소 기준. 일치는 {@code map.cache.verdict-ttl-ms},
+ * 불일치는 {@code map.cache.negative-verdict-ttl-ms}. 검색 실패나 시간 초과로 끝까지 확인하지 못한 검증은 저장하지 않고 {@link RoadSearchException}으로 넘긴다.</li>
+ * </ul>
+ * 메모리 캐시 유지 시간은 {@code map.cache.local-ttl-ms}를 넘지 않는다.
+ * Redis 장애 시에는 메모리 캐시와 카카오 API만 사용한다.
+ * 로컬 색인에 없는 주소만 여기로 온다. ({@link net.chamman.moonnight.infra.map.index.IndexedMapSearch})
+ */
+@Component
+@Slf4j
+public class CachingMapSearch implements MapSearch {
+
+	private static final String MATCHED = "1";
+	private static final String NOT_MATCHED = "0";
+
+	public record Snapshot(long localHits, long localMisses, long localEvictions, int localSize, long redisHits,
+			long redisMisses, long redisErrors) {
+	}
+
+	/**
+	 * 캐시 종류별 메모리 캐시와 Redis 집계
+	 */
+	private static final class Tier<V> {
+		final String name;
+		final String redisPrefix;
+		final LruCache<String, V> local;
+		final LongAdder redisHits = new LongAdder();
+		final LongAdder redisMisses = new LongAdder();
+		final LongAdder redisErrors = new LongAdder();
+
+		Tier(String name, String redisPrefix, int maxEntries) {
+			this.name = name;
+			this.redisPrefix = redisPrefix;
+			this.local = new LruCache<>(maxEntries);
+		}
+
+		Snapshot snapshot(boolean reset) {
+			LruCache.Stats stats = reset ? local.statsAndReset() : local.stats();
+			return reset
+					? new Snapshot(stats.hits(), stats.misses(), stats.evictions(), stats.size(), redisHits.sumThenReset(),
+							redisMisses.sumThenReset(), redisErrors.sumThenReset())
+					: new Snapshot(stats.hits(), stats.misses(), stats.evictions(), stats.size(), redisHits.sum(),
+							redisMisses.sum(), redisErrors.sum());
+		}
+	}
+
+	private final DaumMapClient daumMapClient;
+	private final AddressValidationEngine addressValidationEngine;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Tier<RoadSearchApiResponseDto> searches;
+	private final Tier<Boolean> verdicts;
+	private final long localTtlMillis;
+	private final long searchTtlMillis;
+	private final long verdictTtlMillis;
+	private final long negativeVerdictTtlMillis;
+
+	public CachingMapSearch(DaumMapClient daumMapClient,
+			// 검증 엔진이 MapSearch(이 캐시)를 주입받으므로 지연 주입
+			@Lazy AddressValidationEngine addressValidationEngine,
+			RedisTemplate<String, String> redisTemplate,
+			@Value("${map.cache.local-max-entries:5000}") int localMaxEntries,
+			@Value("${map.cache.local-ttl-ms:600000}") long localTtlMillis,
+			@Value("${map.cache.search-ttl-ms:86400000}") long searchTtlMillis,
+			@Value("${map.cache.verdict-ttl-ms:86400000}") long verdictTtlMillis,
+			@Value("${map.cache.negative-verdict-ttl-ms:600000}") long negativeVerdictTtlMillis) {
+		this.daumMapClient = daumMapClient;
+		this.addressValidationEngine = addressValidationEngine;
+		this.redisTemplate = redisTemplate;
+		this.searches = new Tier<>("search", "map:road:", localMaxEntries);
+		this.verdicts = new Tier<>("verdict", "map:verdict:", localMaxEntries);
+		this.localTtlMillis = localTtlMillis;
+		this.searchTtlMillis = searchTtlMillis;
+		this.verdictTtlMillis = verdictTtlMillis;
+		this.negativeVerdictTtlMillis = negativeVerdictTtlMillis;
+	}
+
+	@Override
+	public RoadSearchApiResponseDto roadSearch(String road, String analyzeType, int page, int size) {
+		String key = analyzeType + "|" + page + "|" + size + "|" + normalize(road);
+
+		RoadSearchApiResponseDto cached = searches.local.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		String json = redisGet(searches, key);
+		if (json != null) {
+			try {
+				cached = objectMapper.readValue(json, CachedRoadSearchResponse.class);
+				searches.local.put(key, cached, Math.min(localTtlMillis, searchTtlMillis));
+				return cached;
+			} catch (Exception e) {
+				log.warn("* 주소 검색 캐시 역직렬화 실패. {}", e.getMessage());
+			}
+		}
+
+		CachedRoadSearchResponse response = CachedRoadSearchResponse
+				.from(daumMapClient.roadSearch(road, analyzeType, page, size));
+		searches.local.put(key, response, Math.min(localTtlMillis, searchTtlMillis));
+		try {
+			redisSet(searches, key, objectMapper.writeValueAsString(response), searchTtlMillis);
+		} catch (Exception e) {
+			log.warn("* 주소 검색 캐시 직렬화 실패. {}", e.getMessage());
+		}
+		return response;
+	}
+
+	/**
+	 * @param postcode
+	 * @param mainAddress
+	 * @throws InvalidMainAddressException {@link #validateAddress} 모든 검색을 확인했으나 일치하는 결과 없음
+	 * @throws RoadSearchException {@link #validateAddress} 검색 실패, 시간 초과 또는 검증 미완료
+	 * @return
+	 */
+	@Override
+	public boolean validateAddress(String postcode, String mainAddress) {
+		String key = postcode + "|" + normalize(mainAddress);
+
+		Boolean matched = verdicts.local.get(key);
+		if (matched == null) {
+			String value = redisGet(verdicts, key);
+			if (value != null) {
+				matched = MATCHED.equals(value);
+				verdicts.local.put(key, matched,
+						Math.min(localTtlMillis, matched ? verdictTtlMillis : negativeVerdictTtlMillis));
+			} else {
+				AddressValidationEngine.Result result = addressValidationEngine.validate(postcode, mainAddress);
+				log.debug("* 주소 검증 완료. 일치: [{}], 방법: [{}], 호출 수: [{}]", result.matched(), result.strategy(),
+						result.calls());
+				matched = result.matched();
+				if (!matched && !result.complete()) {
+					// 끝까지 확인하지 못한 검색은 저장하지도, 불일치로 판단하지도 않는다.
+					throw new RoadSearchException(ROAD_SEARCH_FAIL, "주소 검증 미완료.");
+				}
+				long ttlMillis = matched ? verdictTtlMillis : negativeVerdictTtlMillis;
+				verdicts.local.put(key, matched, Math.min(localTtlMillis, ttlMillis));
+				redisSet(verdicts, key, matched ? MATCHED : NOT_MATCHED, ttlMillis);
+			}
+		}
+
+		if (matched)
+			return true;
+
+		log.debug("* 주소 검증 불일치. mainAddress: [{}]", LogMaskingUtil.maskAddress(mainAddress, MaskLevel.NONE));
+		throw new InvalidMainAddressException(ADDRESS_INVALID_VALUE, "입력한 주소와 우편번호가 일치하지 않거나, 올바른 주소 형식이 아닙니다.");
+	}
+
+	/**
+	 * @return 캐시 종류(search, verdict)별 현재 집계 (초기화하지 않음)
+	 */
+	public Map<String, Snapshot> snapshot() {
+		Map<String, Snapshot> result = new TreeMap<>();
+		result.put(searches.name, searches.snapshot(false));
+		result.put(verdicts.name, verdicts.snapshot(false));
+		return result;
+	}
+
+	@Scheduled(fixedDelayString = "${map.cache.metrics.log-interval-ms:300000}")
+	public void logAndReset() {
+		for (Tier<?> tier : new Tier<?>[] { searches, verdicts }) {
+			Snapshot s = tier.snapshot(true);
+			if (s.localHits() + s.localMisses() > 0) {
+				log.info("* 주소 검색 캐시 지표. 종류: [{}], 메모리 적중/미스/제거: [{}/{}/{}], 크기: [{}], Redis 적중/미스/오류: [{}/{}/{}]",
+						tier.name, s.localHits(), s.localMisses(), s.localEvictions(), s.localSize(), s.redisHits(),
+						s.redisMisses(), s.redisErrors());
+			}
+		}
+	}
+
+	/**
+	 * 공백 정리. ex) " 서울  마포구 동교로 23 " → "서울 마포구 동교로 23"
+	 */
+	static String normalize(String text) {
+		return text == null ? "" : text.strip().replaceAll("\\s+", " ");
+	}
+
+	private String redisGet(Tier<?> tier, String key) {
+		try {
+			String value = redisTemplate.opsForValue().get(tier.redisPrefix + TokenHashUtil.sha256(key));
+			if (value == null) {
+				tier.redisMisses.increment();
+			} else {
+				tier.redisHits.increment();
+			}
+			return value;
+		} catch (Exception e) {
+			tier.redisErrors.increment();
+			log.debug("* 주소 검색 캐시 Redis 조회 실패. {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void redisSet(Tier<?> tier, String key, String value, long ttlMillis) {
+		try {
+			redisTemplate.opsForValue().set(tier.redisPrefix + TokenHashUtil.sha256(key), value,
+					Duration.ofMillis(ttlMillis));
+		} catch (Exception e) {
+			tier.redisErrors.increment();
+			log.debug("* 주소 검색 캐시 Redis 저장 실패. {}", e.getMessage());
+		}
+	}
+}
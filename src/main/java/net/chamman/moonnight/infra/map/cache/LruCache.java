@@ -0,0 +1,90 @@
+package net.chamman.moonnight.infra.map.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크기 제한 + TTL 메모리 캐시. 접근 순서 LinkedHashMap을 짧은 락으로 보호한다.
+ * (락 안에서는 I/O를 하지 않는다.)
+ */
+final class LruCache<K, V> {
+
+	record Stats(long hits, long misses, long evictions, int size) {
+	}
+
+	private record Entry<V>(V value, long expiresAtMillis) {
+	}
+
+	private final int maxEntries;
+	private final LinkedHashMap<K, Entry<V>> entries;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	LruCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	V get(K key) {
+		long now = System.currentTimeMillis();
+		lock.lock();
+		try {
+			Entry<V> entry = entries.get(key);
+			if (entry != null && entry.expiresAtMillis() > now) {
+				hits.increment();
+				return entry.value();
+			}
+			if (entry != null) {
+				entries.remove(key);
+			}
+		} finally {
+			lock.unlock();
+		}
+		misses.increment();
+		return null;
+	}
+
+	void put(K key, V value, long ttlMillis) {
+		Entry<V> entry = new Entry<>(value, System.currentTimeMillis() + ttlMillis);
+		lock.lock();
+		try {
+			entries.put(key, entry);
+			if (entries.size() > maxEntries) {
+				Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+				eldest.next();
+				eldest.remove();
+				evictions.increment();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	Stats statsAndReset() {
+		int size;
+		lock.lock();
+		try {
+			size = entries.size();
+		} finally {
+			lock.unlock();
+		}
+		return new Stats(hits.sumThenReset(), misses.sumThenReset(), evictions.sumThenReset(), size);
+	}
+
+	Stats stats() {
+		int size;
+		lock.lock();
+		try {
+			size = entries.size();
+		} finally {
+			lock.unlock();
+		}
+		return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+	}
+}
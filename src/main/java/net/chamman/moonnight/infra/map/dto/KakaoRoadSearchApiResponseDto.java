@@ -27,6 +27,11 @@ public class KakaoRoadSearchApiResponseDto extends RoadSearchApiResponseDto {
 		return meta.isEnd(); // true시 마지막 페이지
 	}
 
+	@Override
+	public int getPageableCount() {
+		return meta.getPageableCount();
+	}
+
 	@Override
 	public List<StandardAddress> getStandardAddresses() {
 		if (isEmpty()) 
@@ -6,4 +6,6 @@ public abstract class RoadSearchApiResponseDto {
     public abstract List<StandardAddress> getStandardAddresses();
 	public abstract boolean isEmpty();
 	public abstract boolean isEnd();
+	/** 조회 가능한 전체 결과 수 (페이지 수 계산용) */
+	public abstract int getPageableCount();
 }
@@ -3,10 +3,10 @@ package net.chamman.moonnight.infra.map.impl;
 import static net.chamman.moonnight.global.exception.HttpStatusCode.ADDRESS_INVALID_VALUE;
 import static net.chamman.moonnight.global.exception.HttpStatusCode.ROAD_SEARCH_FAIL;
 
-import java.util.List;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -18,14 +18,17 @@ import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.config.OutboundHttpConfig;
 import net.chamman.moonnight.global.exception.infra.InvalidMainAddressException;
+import net.chamman.moonnight.global.exception.infra.RoadSearchBusyException;
 import net.chamman.moonnight.global.exception.infra.RoadSearchException;
 import net.chamman.moonnight.global.util.LogMaskingUtil;
 import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
+import net.chamman.moonnight.infra.map.AddressValidationEngine;
 import net.chamman.moonnight.infra.map.MapSearch;
 import net.chamman.moonnight.infra.map.dto.KakaoRoadSearchApiResponseDto;
 import net.chamman.moonnight.infra.map.dto.RoadSearchApiResponseDto;
-import net.chamman.moonnight.infra.map.dto.StandardAddress;
+import net.chamman.moonnight.infra.resilience.ProviderGuards;
 
 @Component
 @Slf4j
@@ -38,79 +41,73 @@ public class DaumMapClient implements MapSearch {
 	private String kakaoApiRestApiKey;
 
 	@Autowired
+	@Qualifier(OutboundHttpConfig.KAKAO)
 	private RestTemplate restTemplate;
-
-	private static final int MAX_SIZE = 30;
+	@Autowired
+	private ProviderGuards providerGuards;
+	// 검증 엔진이 MapSearch를 주입받으므로 지연 주입
+	@Autowired
+	@Lazy
+	private AddressValidationEngine addressValidationEngine;
 
 	@Override
 	public RoadSearchApiResponseDto roadSearch(String road, String analyzeType, int page, int size) {
-		try {
-			UriComponents uriComponents = UriComponentsBuilder.fromUriString(baseUrl).queryParam("query", road)
-					.queryParam("analyze_type", analyzeType).queryParam("page", page).queryParam("size", size).build();
-
-			log.debug("* 카카오 주소 검색 요청. road: [{}], analyzeType: [{}], page: [{}], size: [{}]",
-					LogMaskingUtil.maskAddress(road, MaskLevel.NONE), analyzeType, page, size);
-
-			HttpHeaders headers = new HttpHeaders();
-			headers.add("Authorization", "KakaoAK " + kakaoApiRestApiKey);
-
-			HttpEntity<String> entity = new HttpEntity<>(headers);
-			ResponseEntity<KakaoRoadSearchApiResponseDto> response = restTemplate.exchange(uriComponents.toUriString(),
-					HttpMethod.GET, entity, KakaoRoadSearchApiResponseDto.class);
-
-			KakaoRoadSearchApiResponseDto body = response.getBody();
-
-			if (body == null) {
-				throw new RoadSearchException(ROAD_SEARCH_FAIL, "카카오 주소 검색 api 응답 body가 null입니다.");
+		return providerGuards.get(ProviderGuards.KAKAO).execute(() -> {
+			try {
+				UriComponents uriComponents = UriComponentsBuilder.fromUriString(baseUrl).queryParam("query", road)
+						.queryParam("analyze_type", analyzeType).queryParam("page", page).queryParam("size", size).build();
+
+				log.debug("* 카카오 주소 검색 요청. road: [{}], analyzeType: [{}], page: [{}], size: [{}]",
+						LogMaskingUtil.maskAddress(road, MaskLevel.NONE), analyzeType, page, size);
+
+				HttpHeaders headers = new HttpHeaders();
+				headers.add("Authorization", "KakaoAK " + kakaoApiRestApiKey);
+
+				HttpEntity<String> entity = new HttpEntity<>(headers);
+				ResponseEntity<KakaoRoadSearchApiResponseDto> response = restTemplate.exchange(uriComponents.toUriString(),
+						HttpMethod.GET, entity, KakaoRoadSearchApiResponseDto.class);
+
+				KakaoRoadSearchApiResponseDto body = response.getBody();
+
+				if (body == null) {
+					throw new RoadSearchException(ROAD_SEARCH_FAIL, "카카오 주소 검색 api 응답 body가 null입니다.");
+				}
+				
+				log.debug("* 카카오 주소 검색 성공: [{}]", body);
+				return body;
+			} catch (Exception e) {
+				if (Thread.currentThread().isInterrupted()) {
+					log.debug("* 카카오 주소 검색 취소. road: [{}], analyzeType: [{}], page: [{}]",
+							LogMaskingUtil.maskAddress(road, MaskLevel.NONE), analyzeType, page);
+					throw new RoadSearchException(ROAD_SEARCH_FAIL, "카카오 주소 검색 취소");
+				}
+				log.error("* 카카오 주소 검색 실패. road: [{}], analyzeType: [{}], page: [{}], size: [{}]", road, analyzeType, page,
+						size, e);
+				throw new RoadSearchException(ROAD_SEARCH_FAIL, "카카오 주소 검색 api 도중 익셉션 발생", e);
 			}
-			
-			log.debug("* 카카오 주소 검색 성공: [{}]", body);
-			return body;
-		} catch (Exception e) {
-			log.error("* 카카오 주소 검색 실패. road: [{}], analyzeType: [{}], page: [{}], size: [{}]", road, analyzeType, page,
-					size, e);
-			throw new RoadSearchException(ROAD_SEARCH_FAIL, "카카오 주소 검색 api 도중 익셉션 발생");
-		}
-	}
-
-	private boolean isPostcodeInSearchResult(String postcode, String address, String analyzeType) {
-		int page = 1;
-
-		while (true) {
-			RoadSearchApiResponseDto roadSearchApiResponseDto = roadSearch(address, analyzeType, page, MAX_SIZE);
-
-			if (roadSearchApiResponseDto.isEmpty()) {
-				return false;
-			}
-
-			List<StandardAddress> standardAddresses = roadSearchApiResponseDto.getStandardAddresses();
-
-			boolean match = standardAddresses.stream().map(StandardAddress::zoneCode).anyMatch(postcode::equals);
-			if (match) return true;
-
-			if (roadSearchApiResponseDto.isEnd()) {
-				return false;
-			}
-
-			page++;
-		}
+		}, () -> new RoadSearchBusyException(ROAD_SEARCH_FAIL, "카카오 주소 검색 동시 호출 초과."),
+				() -> new RoadSearchException(ROAD_SEARCH_FAIL, "카카오 주소 검색 호출 차단. (서킷 브레이커 열림)"));
 	}
 
+	/** 우편번호-주소 일치 검증. 검색 방법들을 동시에 실행한다. {@link AddressValidationEngine}
+	 * @param postcode
+	 * @param mainAddress
+	 * @throws InvalidMainAddressException {@link #validateAddress} 모든 검색을 확인했으나 일치하는 결과 없음
+	 * @throws RoadSearchException {@link #validateAddress} 검색 실패, 시간 초과 또는 검증 미완료
+	 * @return
+	 */
+	@Override
 	public boolean validateAddress(String postcode, String mainAddress) {
 		log.debug("* 주소 검증 시작. mainAddress: [{}]", LogMaskingUtil.maskAddress(mainAddress, MaskLevel.NONE));
 
-		// 1차: exact 시도
-		if (isPostcodeInSearchResult(postcode, mainAddress, "exact"))
-			return true;
-
-		// 2차: similar 시도
-		if (isPostcodeInSearchResult(postcode, mainAddress, "similar"))
-			return true;
-
-		// 3차: mainAddress가 길거나 숫자로 끝나는 경우 제거해서 다시 시도
-		String fallbackAddress = mainAddress.replaceFirst("\\s\\d{1,4}(-\\d{1,4})?$", "");  // ex) "동교로 7" → "동교로"
-		if (isPostcodeInSearchResult(postcode, fallbackAddress, "similar"))
+		AddressValidationEngine.Result result = addressValidationEngine.validate(postcode, mainAddress);
+		log.debug("* 주소 검증 완료. 일치: [{}], 방법: [{}], 호출 수: [{}]", result.matched(), result.strategy(), result.calls());
+		if (result.matched())
 			return true;
+		if (!result.complete()) {
+			// 끝까지 확인하지 못한 검색은 불일치로 판단하지 않는다.
+			throw new RoadSearchException(ROAD_SEARCH_FAIL, "주소 검증 미완료.");
+		}
 
 		throw new InvalidMainAddressException(ADDRESS_INVALID_VALUE, "입력한 주소와 우편번호가 일치하지 않거나, 올바른 주소 형식이 아닙니다.");
 	}
@@ -0,0 +1,289 @@
+package net.chamman.moonnight.infra.map.index;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 도로명주소 색인 파일 읽기. 파일은 {@link AddressIndexBuilder}로 만든다.
+ *
+ * 키는 "시도 시군구 도로명 건물번호"(ex. "서울 마포구 동교로 23", "경기 성남시 분당구 판교역로 235"), 값은 우편번호 목록이다.
+ * 같은 도로명, 건물번호가 여러 지역에 있으므로 지역을 키에 넣는다. 시도는 줄임말({@link #sido})로 맞춘다.
+ * 키는 UTF-8 바이트 순으로 정렬해 {@value #BLOCK_SIZE}개씩 블록으로 묶고, 블록 안에서는 앞 키와 겹치는
+ * 앞부분을 빼고 저장한다. (front coding. 도로명 앞부분을 공유하는 트라이와 같은 효과)
+ *
+ * <pre>
+ * [헤더 32byte] magic, version, 키 수, 블록 수, 블록 색인 위치
+ * [블록들]      키마다 varint(공유 길이) varint(나머지 길이) 나머지 UTF-8, varint(우편번호 수) 우편번호(차이값 varint)...
+ * [블록 색인]   블록별 시작 위치 int
+ * </pre>
+ * 파일은 메모리 매핑만 하고 힙에 올리지 않는다. 조회는 절대 위치 읽기만 하므로 여러 스레드에서 함께 쓸 수 있다.
+ */
+public final class AddressIndex {
+
+	static final int MAGIC = 0x4D4E4149; // "MNAI"
+	static final int VERSION = 2;
+	static final int HEADER_SIZE = 32;
+	static final int BLOCK_SIZE = 16;
+	static final int MAX_KEY_BYTES = 512;
+
+	// 도로명(…로, …길) + 건물번호. 마지막 일치를 사용한다.
+	private static final Pattern ROAD_ADDRESS = Pattern
+			.compile("([0-9A-Za-z가-힣·.]+(?:로|길))\\s*(?:지하\\s*)?(\\d{1,5}(?:-\\d{1,5})?)(?=\\s|,|$)");
+
+	// 시도 정식 명칭 → 줄임말 (주소 검색 결과와 사용자 입력에 쓰이는 형태)
+	private static final Map<String, String> SIDO = Map.ofEntries(
+			Map.entry("서울특별시", "서울"), Map.entry("부산광역시", "부산"), Map.entry("대구광역시", "대구"),
+			Map.entry("인천광역시", "인천"), Map.entry("광주광역시", "광주"), Map.entry("대전광역시", "대전"),
+			Map.entry("울산광역시", "울산"), Map.entry("세종특별자치시", "세종"), Map.entry("경기도", "경기"),
+			Map.entry("강원도", "강원"), Map.entry("강원특별자치도", "강원"), Map.entry("충청북도", "충북"),
+			Map.entry("충청남도", "충남"), Map.entry("전라북도", "전북"), Map.entry("전북특별자치도", "전북"),
+			Map.entry("전라남도", "전남"), Map.entry("경상북도", "경북"), Map.entry("경상남도", "경남"),
+			Map.entry("제주특별자치도", "제주"));
+	private static final Set<String> SIDO_SHORT = Set.copyOf(SIDO.values());
+
+	private final MappedByteBuffer buffer;
+	private final int keyCount;
+	private final int blockCount;
+	private final int blockIndexOffset;
+
+	private AddressIndex(MappedByteBuffer buffer) {
+		this.buffer = buffer;
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IllegalStateException("도로명주소 색인 파일 형식 이상.");
+		}
+		this.keyCount = buffer.getInt(8);
+		this.blockCount = buffer.getInt(12);
+		this.blockIndexOffset = (int) buffer.getLong(16);
+	}
+
+	/**
+	 * @param path 색인 파일
+	 * @return 메모리 매핑한 색인
+	 * @throws IOException
+	 */
+	public static AddressIndex open(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			buffer.order(ByteOrder.BIG_ENDIAN);
+			return new AddressIndex(buffer);
+		}
+	}
+
+	public int size() {
+		return keyCount;
+	}
+
+	/**
+	 * @param key {@link #keyOf}로 만든 키
+	 * @return 우편번호 목록. 키가 없으면 null
+	 */
+	public int[] postcodes(String key) {
+		byte[] target = key.getBytes(StandardCharsets.UTF_8);
+		int block = floorBlock(target);
+		if (block < 0) {
+			return null;
+		}
+
+		Cursor cursor = new Cursor(blockStart(block));
+		byte[] current = new byte[MAX_KEY_BYTES];
+		int end = Math.min(BLOCK_SIZE, keyCount - block * BLOCK_SIZE);
+		for (int i = 0; i < end; i++) {
+			int length = cursor.readKey(current);
+			int cmp = Arrays.compareUnsigned(current, 0, length, target, 0, target.length);
+			if (cmp == 0) {
+				return cursor.readPostcodes();
+			}
+			if (cmp > 0) {
+				return null;
+			}
+			cursor.skipPostcodes();
+		}
+		return null;
+	}
+
+	/**
+	 * @param prefix 정규화한 검색어 앞부분 (ex. "서울 마포구 동교로")
+	 * @param limit
+	 * @return prefix로 시작하는 키, 정렬 순
+	 */
+	public List<String> prefix(String prefix, int limit) {
+		List<String> result = new ArrayList<>();
+		if (keyCount == 0 || limit <= 0) {
+			return result;
+		}
+		byte[] target = prefix.getBytes(StandardCharsets.UTF_8);
+		int block = Math.max(0, floorBlock(target));
+
+		byte[] current = new byte[MAX_KEY_BYTES];
+		for (; block < blockCount; block++) {
+			Cursor cursor = new Cursor(blockStart(block));
+			int end = Math.min(BLOCK_SIZE, keyCount - block * BLOCK_SIZE);
+			for (int i = 0; i < end; i++) {
+				int length = cursor.readKey(current);
+				cursor.skipPostcodes();
+				if (startsWith(current, length, target)) {
+					result.add(new String(current, 0, length, StandardCharsets.UTF_8));
+					if (result.size() >= limit) {
+						return result;
+					}
+				} else if (Arrays.compareUnsigned(current, 0, length, target, 0, target.length) > 0) {
+					return result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 주소 문자열에서 색인 키 추출. ex) "서울특별시 마포구 동교로 23 (동교동)" → "서울 마포구 동교로 23"
+	 *
+	 * 도로명 앞의 첫 단어를 시도로, 그 뒤의 시, 군, 구 단어들을 시군구로 본다. 읍, 면은 키에 넣지 않는다.
+	 *
+	 * @param address
+	 * @return 키. 시도로 시작하는 도로명 + 건물번호 형식이 아니면 null
+	 */
+	public static String keyOf(String address) {
+		if (address == null) {
+			return null;
+		}
+		String normalized = address.replaceAll("\\([^)]*\\)", " ").replaceAll("\\s+", " ").strip();
+		Matcher matcher = ROAD_ADDRESS.matcher(normalized);
+		int start = -1;
+		String roadName = null;
+		String buildingNumber = null;
+		while (matcher.find()) {
+			start = matcher.start();
+			roadName = matcher.group(1);
+			buildingNumber = matcher.group(2);
+		}
+		if (start <= 0) {
+			return null;
+		}
+
+		String[] words = normalized.substring(0, start).strip().split(" ");
+		String sido = sido(words[0]);
+		if (sido == null) {
+			return null;
+		}
+		StringBuilder sigungu = new StringBuilder();
+		for (int i = 1; i < words.length && isSigungu(words[i]); i++) {
+			sigungu.append(sigungu.isEmpty() ? "" : " ").append(words[i]);
+		}
+		return key(sido, sigungu.toString(), roadName, buildingNumber);
+	}
+
+	/**
+	 * @param sido     시도 줄임말
+	 * @param sigungu  시군구. 없으면(세종) 빈 문자열
+	 * @param roadName
+	 * @param buildingNumber
+	 */
+	static String key(String sido, String sigungu, String roadName, String buildingNumber) {
+		return sigungu.isEmpty() ? sido + " " + roadName + " " + buildingNumber
+				: sido + " " + sigungu + " " + roadName + " " + buildingNumber;
+	}
+
+	/**
+	 * @param name 시도 정식 명칭 또는 줄임말
+	 * @return 줄임말. 시도가 아니면 null
+	 */
+	static String sido(String name) {
+		if (SIDO_SHORT.contains(name)) {
+			return name;
+		}
+		return SIDO.get(name);
+	}
+
+	private static boolean isSigungu(String word) {
+		return word.length() >= 2 && (word.endsWith("시") || word.endsWith("군") || word.endsWith("구"));
+	}
+
+	/**
+	 * @return target보다 작거나 같은 첫 키를 가진 마지막 블록. 없으면 -1
+	 */
+	private int floorBlock(byte[] target) {
+		int low = 0;
+		int high = blockCount - 1;
+		int found = -1;
+		byte[] first = new byte[MAX_KEY_BYTES];
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int length = new Cursor(blockStart(mid)).readKey(first);
+			if (Arrays.compareUnsigned(first, 0, length, target, 0, target.length) <= 0) {
+				found = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return found;
+	}
+
+	private int blockStart(int block) {
+		return buffer.getInt(blockIndexOffset + block * Integer.BYTES);
+	}
+
+	private static boolean startsWith(byte[] key, int length, byte[] prefix) {
+		return length >= prefix.length && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+	}
+
+	/**
+	 * 블록 안 순차 읽기. 공유 앞부분은 이전 키가 담긴 배열을 그대로 쓴다.
+	 */
+	private final class Cursor {
+		private int position;
+
+		Cursor(int position) {
+			this.position = position;
+		}
+
+		int readKey(byte[] key) {
+			int shared = readVarInt();
+			int suffix = readVarInt();
+			buffer.get(position, key, shared, suffix);
+			position += suffix;
+			return shared + suffix;
+		}
+
+		int[] readPostcodes() {
+			int[] postcodes = new int[readVarInt()];
+			int previous = 0;
+			for (int i = 0; i < postcodes.length; i++) {
+				previous += readVarInt();
+				postcodes[i] = previous;
+			}
+			return postcodes;
+		}
+
+		void skipPostcodes() {
+			int count = readVarInt();
+			for (int i = 0; i < count; i++) {
+				readVarInt();
+			}
+		}
+
+		private int readVarInt() {
+			int value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer.get(position++);
+				value |= (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return value;
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package net.chamman.moonnight.infra.map.index;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도로명주소 공개 자료(도로명주소 한글, '|' 구분 txt)로 {@link AddressIndex} 파일 생성.
+ *
+ * <pre>
+ * java -cp moonnight.jar net.chamman.moonnight.infra.map.index.AddressIndexBuilder [--charset=MS949] {출력 파일} {입력 파일 또는 폴더}...
+ * </pre>
+ * 사용하는 열(0부터): 시도명 {@value #COL_SIDO}, 시군구명 {@value #COL_SIGUNGU}, 도로명 {@value #COL_ROAD_NAME}, 건물본번 {@value #COL_MAIN_NUMBER},
+ * 건물부번 {@value #COL_SUB_NUMBER}, 기초구역번호(우편번호) {@value #COL_POSTCODE}.
+ * 임시 파일에 쓴 뒤 이름을 바꾸므로 서비스 중인 색인 파일을 그대로 교체할 수 있다.
+ */
+@Slf4j
+public class AddressIndexBuilder {
+
+	static final int COL_SIDO = 2;
+	static final int COL_SIGUNGU = 3;
+	static final int COL_ROAD_NAME = 10;
+	static final int COL_MAIN_NUMBER = 12;
+	static final int COL_SUB_NUMBER = 13;
+	static final int COL_POSTCODE = 16;
+
+	private final Map<String, TreeSet<Integer>> postings = new HashMap<>();
+	private long skipped;
+
+	public static void main(String[] args) throws IOException {
+		Charset charset = Charset.forName("MS949");
+		List<String> paths = new ArrayList<>();
+		for (String arg : args) {
+			if (arg.startsWith("--charset=")) {
+				charset = Charset.forName(arg.substring("--charset=".length()));
+			} else {
+				paths.add(arg);
+			}
+		}
+		if (paths.size() < 2) {
+			System.err.println("usage: AddressIndexBuilder [--charset=MS949] <output> <input>...");
+			System.exit(1);
+		}
+
+		AddressIndexBuilder builder = new AddressIndexBuilder();
+		for (String input : paths.subList(1, paths.size())) {
+			builder.addAll(Path.of(input), charset);
+		}
+		builder.write(Path.of(paths.get(0)));
+	}
+
+	/**
+	 * @param input   파일 또는 폴더(.txt 파일 전부)
+	 * @param charset 입력 인코딩
+	 * @throws IOException
+	 */
+	public void addAll(Path input, Charset charset) throws IOException {
+		if (Files.isDirectory(input)) {
+			try (Stream<Path> files = Files.list(input)) {
+				for (Path file : files.filter(f -> f.toString().endsWith(".txt")).sorted().toList()) {
+					addAll(file, charset);
+				}
+			}
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(input, charset)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				addLine(line);
+			}
+		}
+		log.info("* 도로명주소 자료 읽음. 파일: [{}], 누적 키 수: [{}]", input.getFileName(), postings.size());
+	}
+
+	void addLine(String line) {
+		String[] columns = line.split("\\|", -1);
+		if (columns.length <= COL_POSTCODE) {
+			skipped++;
+			return;
+		}
+		String sido = AddressIndex.sido(columns[COL_SIDO].strip());
+		String sigungu = columns[COL_SIGUNGU].strip();
+		String roadName = columns[COL_ROAD_NAME].strip();
+		String mainNumber = columns[COL_MAIN_NUMBER].strip();
+		String subNumber = columns[COL_SUB_NUMBER].strip();
+		String postcode = columns[COL_POSTCODE].strip();
+		if (sido == null || roadName.isEmpty() || mainNumber.isEmpty() || !postcode.matches("\\d{5}")) {
+			skipped++;
+			return;
+		}
+		add(sido, sigungu, roadName, subNumber.isEmpty() || "0".equals(subNumber) ? mainNumber : mainNumber + "-" + subNumber,
+				Integer.parseInt(postcode));
+	}
+
+	/**
+	 * @param sido           시도 줄임말 (ex. "서울")
+	 * @param sigungu        시군구 (ex. "마포구", "성남시 분당구"). 없으면 빈 문자열
+	 * @param roadName
+	 * @param buildingNumber
+	 * @param postcode
+	 */
+	public void add(String sido, String sigungu, String roadName, String buildingNumber, int postcode) {
+		postings.computeIfAbsent(AddressIndex.key(sido, sigungu.strip().replaceAll("\\s+", " "),
+				roadName.replaceAll("\\s+", ""), buildingNumber), k -> new TreeSet<>()).add(postcode);
+	}
+
+	/**
+	 * @param output 색인 파일
+	 * @throws IOException
+	 */
+	public void write(Path output) throws IOException {
+		byte[][] keys = postings.keySet().stream()
+				.map(key -> key.getBytes(StandardCharsets.UTF_8))
+				.filter(key -> key.length < AddressIndex.MAX_KEY_BYTES)
+				.sorted(Arrays::compareUnsigned)
+				.toArray(byte[][]::new);
+		int blockCount = (keys.length + AddressIndex.BLOCK_SIZE - 1) / AddressIndex.BLOCK_SIZE;
+
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		ByteBuffer blockIndex = ByteBuffer.allocate(blockCount * Integer.BYTES);
+		byte[] previous = new byte[0];
+		for (int i = 0; i < keys.length; i++) {
+			byte[] key = keys[i];
+			int shared = 0;
+			if (i % AddressIndex.BLOCK_SIZE == 0) {
+				blockIndex.putInt(AddressIndex.HEADER_SIZE + body.size());
+			} else {
+				shared = Arrays.mismatch(previous, key);
+				shared = shared < 0 ? key.length : Math.min(shared, key.length);
+			}
+			writeVarInt(body, shared);
+			writeVarInt(body, key.length - shared);
+			body.write(key, shared, key.length - shared);
+
+			TreeSet<Integer> postcodes = postings.get(new String(key, StandardCharsets.UTF_8));
+			writeVarInt(body, postcodes.size());
+			int last = 0;
+			for (int postcode : postcodes) {
+				writeVarInt(body, postcode - last);
+				last = postcode;
+			}
+			previous = key;
+		}
+
+		long blockIndexOffset = AddressIndex.HEADER_SIZE + (long) body.size();
+		if (blockIndexOffset + blockIndex.capacity() > Integer.MAX_VALUE) {
+			throw new IllegalStateException("도로명주소 색인 크기 초과.");
+		}
+		ByteBuffer header = ByteBuffer.allocate(AddressIndex.HEADER_SIZE);
+		header.putInt(AddressIndex.MAGIC).putInt(AddressIndex.VERSION).putInt(keys.length).putInt(blockCount)
+				.putLong(blockIndexOffset);
+
+		Path temp = output.resolveSibling(output.getFileName() + ".tmp");
+		try (OutputStream out = Files.newOutputStream(temp)) {
+			out.write(header.array());
+			body.writeTo(out);
+			out.write(blockIndex.array());
+		}
+		Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		log.info("* 도로명주소 색인 생성. 파일: [{}], 키 수: [{}], 크기: [{}byte], 건너뛴 행: [{}]", output, keys.length,
+				Files.size(output), skipped);
+	}
+
+	private static void writeVarInt(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+}
@@ -0,0 +1,133 @@
+package net.chamman.moonnight.infra.map.index;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.exception.infra.InvalidMainAddressException;
+import net.chamman.moonnight.global.exception.infra.RoadSearchException;
+import net.chamman.moonnight.global.util.LogMaskingUtil;
+import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
+import net.chamman.moonnight.infra.map.MapSearch;
+import net.chamman.moonnight.infra.map.cache.CachingMapSearch;
+import net.chamman.moonnight.infra.map.dto.RoadSearchApiResponseDto;
+
+/**
+ * 로컬 도로명주소 색인({@link AddressIndex})을 먼저 보는 주소 검증.
+ *
+ * 주소에서 "시도 시군구 도로명 건물번호"를 뽑아 색인에 있고 우편번호가 일치하면 바로 답한다.
+ * 색인에 없거나, 우편번호가 다르거나(색인 자료 갱신 전 변경 등), 색인이 없으면 {@link CachingMapSearch}(카카오)로 넘긴다.
+ * 색인 파일은 {@code map.index.path}. 비어 있거나 열 수 없으면 색인 없이 동작한다.
+ */
+@Primary
+@Component
+@Slf4j
+public class IndexedMapSearch implements MapSearch {
+
+	private final CachingMapSearch delegate;
+	private final AddressIndex addressIndex;
+
+	private final LongAdder indexHits = new LongAdder();
+	private final LongAdder indexMisses = new LongAdder();
+	private final LongAdder indexMismatches = new LongAdder();
+
+	public IndexedMapSearch(CachingMapSearch delegate, @Value("${map.index.path:}") String indexPath) {
+		this.delegate = delegate;
+		this.addressIndex = open(indexPath);
+	}
+
+	@Override
+	public RoadSearchApiResponseDto roadSearch(String road, String analyzeType, int page, int size) {
+		return delegate.roadSearch(road, analyzeType, page, size);
+	}
+
+	/**
+	 * @param postcode
+	 * @param mainAddress
+	 * @throws InvalidMainAddressException {@link #validateAddress} 카카오 검색 결과 일치하는 주소 없음
+	 * @throws RoadSearchException {@link #validateAddress} 색인으로 확인하지 못했고 카카오 검색 실패
+	 * @return
+	 */
+	@Override
+	public boolean validateAddress(String postcode, String mainAddress) {
+		int[] postcodes = lookup(mainAddress);
+		if (postcodes == null) {
+			indexMisses.increment();
+			return delegate.validateAddress(postcode, mainAddress);
+		}
+
+		if (postcode != null && postcode.matches("\\d{5}")) {
+			int target = Integer.parseInt(postcode);
+			for (int candidate : postcodes) {
+				if (candidate == target) {
+					indexHits.increment();
+					return true;
+				}
+			}
+		}
+		indexMismatches.increment();
+		log.debug("* 색인 우편번호 불일치. 카카오로 확인. mainAddress: [{}]",
+				LogMaskingUtil.maskAddress(mainAddress, MaskLevel.NONE));
+		return delegate.validateAddress(postcode, mainAddress);
+	}
+
+	/**
+	 * 키 앞부분으로 "시도 시군구 도로명 건물번호" 검색. 색인이 없으면 빈 목록.
+	 *
+	 * @param prefix ex) "서울 마포구 동교로"
+	 * @param limit
+	 * @return
+	 */
+	public List<String> searchPrefix(String prefix, int limit) {
+		if (addressIndex == null || prefix == null || prefix.isBlank()) {
+			return List.of();
+		}
+		return addressIndex.prefix(prefix.strip().replaceAll("\\s+", " "), limit);
+	}
+
+	public long getIndexHits() {
+		return indexHits.sum();
+	}
+
+	public long getIndexMisses() {
+		return indexMisses.sum();
+	}
+
+	public long getIndexMismatches() {
+		return indexMismatches.sum();
+	}
+
+	private int[] lookup(String mainAddress) {
+		if (addressIndex == null) {
+			return null;
+		}
+		String key = AddressIndex.keyOf(mainAddress);
+		return key == null ? null : addressIndex.postcodes(key);
+	}
+
+	private static AddressIndex open(String indexPath) {
+		if (indexPath == null || indexPath.isBlank()) {
+			log.info("* 도로명주소 색인 미설정. 카카오 주소 검색만 사용.");
+			return null;
+		}
+		Path path = Path.of(indexPath);
+		if (!Files.isReadable(path)) {
+			log.warn("* 도로명주소 색인 파일 없음. 카카오 주소 검색만 사용. path: [{}]", path);
+			return null;
+		}
+		try {
+			AddressIndex index = AddressIndex.open(path);
+			log.info("* 도로명주소 색인 매핑. path: [{}], 키 수: [{}]", path, index.size());
+			return index;
+		} catch (Exception e) {
+			log.error("* 도로명주소 색인 열기 실패. 카카오 주소 검색만 사용. path: [{}]", path, e);
+			return null;
+		}
+	}
+}
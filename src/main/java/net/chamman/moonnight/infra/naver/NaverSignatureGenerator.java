@@ -1,25 +1,45 @@
 package net.chamman.moonnight.infra.naver;
 
-import java.io.UnsupportedEncodingException;
-import java.security.NoSuchAlgorithmException;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Component;
 
+/**
+ * 네이버 클라우드 API 요청 서명(HmacSHA256).
+ *
+ * 키를 초기화한 Mac을 한 번 만들어 두고 호출마다 clone해서 사용한다.
+ * (Mac.getInstance, init 생략. 스레드 수와 무관하게 인스턴스가 늘지 않아 가상 스레드에서도 동일)
+ */
 @Component
 @PropertySource("classpath:application.properties")
 public class NaverSignatureGenerator {
 	
-	@Value("${naver-api.accessKey}")
-	private String accessKey;
+	private static final String ALGORITHM = "HmacSHA256";
 	
-	@Value("${naver-api.secretKey}")
-	private String secretKey;
+	private final String accessKey;
+	private final SecretKeySpec signingKey;
+	private final Mac prototype;
+	
+	public NaverSignatureGenerator(
+			@Value("${naver-api.accessKey}") String accessKey,
+			@Value("${naver-api.secretKey}") String secretKey) {
+		this.accessKey = accessKey;
+		this.signingKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+		try {
+			this.prototype = Mac.getInstance(ALGORITHM);
+			this.prototype.init(signingKey);
+		} catch (Exception e) {
+			throw new IllegalStateException("* 네이버 API 서명 키 초기화 실패.", e);
+		}
+	}
 	
-	public String getNaverSignature(String method, String url, String time) throws UnsupportedEncodingException, NoSuchAlgorithmException, java.security.InvalidKeyException {
+	public String getNaverSignature(String method, String url, String time) {
 		
 		String message = new StringBuilder()
 				.append(method)
@@ -31,14 +51,22 @@ public class NaverSignatureGenerator {
 				.append(accessKey)
 				.toString();
 		
-		SecretKeySpec signingKey = new SecretKeySpec(secretKey.getBytes("UTF-8"), "HmacSHA256");
-		Mac mac = Mac.getInstance("HmacSHA256");
-		mac.init(signingKey);
-		
-		byte[] rawHmac = mac.doFinal(message.getBytes("UTF-8"));
-		String encodeBase64String = Base64.getEncoder().encodeToString(rawHmac);
-		
-		return encodeBase64String;
+		byte[] rawHmac = newMac().doFinal(message.getBytes(StandardCharsets.UTF_8));
+		return Base64.getEncoder().encodeToString(rawHmac);
 	}
 	
+	private Mac newMac() {
+		try {
+			return (Mac) prototype.clone();
+		} catch (CloneNotSupportedException e) {
+			// clone을 지원하지 않는 provider
+			try {
+				Mac mac = Mac.getInstance(ALGORITHM, prototype.getProvider());
+				mac.init(signingKey);
+				return mac;
+			} catch (Exception ex) {
+				throw new IllegalStateException("* 네이버 API 서명 생성 실패.", ex);
+			}
+		}
+	}
 }
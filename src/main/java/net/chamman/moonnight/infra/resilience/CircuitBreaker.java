@@ -0,0 +1,169 @@
+package net.chamman.moonnight.infra.resilience;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연속 실패 기반 서킷 브레이커.
+ *
+ * <ul>
+ * <li>CLOSED: 모두 통과. 연속 실패가 {@code failureThreshold}에 이르면 OPEN.</li>
+ * <li>OPEN: {@code openMillis} 동안 바로 거절. 시간이 지나면 HALF_OPEN.</li>
+ * <li>HALF_OPEN: 시험 호출을 {@code halfOpenProbes}개까지만 통과. 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN.</li>
+ * </ul>
+ * 상태, 전환 시각, 연속 실패 수, 시험 호출 수를 하나의 불변 객체로 묶어 CAS로 바꾸므로
+ * 락 없이도 상태와 카운터가 어긋나지 않는다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private record Phase(State state, long since, int failures, int probesIssued, int probesSucceeded) {
+
+		static Phase of(State state, long since) {
+			return new Phase(state, since, 0, 0, 0);
+		}
+	}
+
+	private final String name;
+	private final int failureThreshold;
+	private final long openMillis;
+	private final int halfOpenProbes;
+	private final LongSupplier clock;
+
+	private final AtomicReference<Phase> phase;
+
+	public CircuitBreaker(String name, int failureThreshold, long openMillis, int halfOpenProbes) {
+		this(name, failureThreshold, openMillis, halfOpenProbes, System::currentTimeMillis);
+	}
+
+	CircuitBreaker(String name, int failureThreshold, long openMillis, int halfOpenProbes, LongSupplier clock) {
+		this.name = name;
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.openMillis = openMillis;
+		this.halfOpenProbes = Math.max(1, halfOpenProbes);
+		this.clock = clock;
+		this.phase = new AtomicReference<>(Phase.of(State.CLOSED, clock.getAsLong()));
+	}
+
+	/**
+	 * 호출 허용 여부. true를 받은 호출은 반드시 {@link #onSuccess}, {@link #onFailure}, {@link #onIgnored} 중 하나로 결과를 알려야 한다.
+	 *
+	 * @return 호출 가능하면 true
+	 */
+	public boolean tryAcquire() {
+		while (true) {
+			Phase current = phase.get();
+			Phase next;
+			switch (current.state()) {
+			case CLOSED:
+				return true;
+			case OPEN:
+				long now = clock.getAsLong();
+				if (now - current.since() < openMillis) {
+					return false;
+				}
+				// HALF_OPEN 전환과 첫 시험 호출을 한 번에
+				next = new Phase(State.HALF_OPEN, now, 0, 1, 0);
+				break;
+			default:
+				if (current.probesIssued() >= halfOpenProbes) {
+					return false;
+				}
+				next = new Phase(State.HALF_OPEN, current.since(), 0, current.probesIssued() + 1,
+						current.probesSucceeded());
+			}
+			if (swap(current, next)) {
+				return true;
+			}
+		}
+	}
+
+	public void onSuccess() {
+		while (true) {
+			Phase current = phase.get();
+			Phase next;
+			switch (current.state()) {
+			case CLOSED:
+				if (current.failures() == 0) {
+					return;
+				}
+				next = Phase.of(State.CLOSED, current.since());
+				break;
+			case HALF_OPEN:
+				int succeeded = current.probesSucceeded() + 1;
+				next = succeeded >= halfOpenProbes ? Phase.of(State.CLOSED, clock.getAsLong())
+						: new Phase(State.HALF_OPEN, current.since(), 0, current.probesIssued(), succeeded);
+				break;
+			default:
+				// 열리기 전에 시작한 호출의 늦은 성공
+				return;
+			}
+			if (swap(current, next)) {
+				return;
+			}
+		}
+	}
+
+	public void onFailure() {
+		while (true) {
+			Phase current = phase.get();
+			Phase next;
+			switch (current.state()) {
+			case CLOSED:
+				int failures = current.failures() + 1;
+				next = failures >= failureThreshold ? Phase.of(State.OPEN, clock.getAsLong())
+						: new Phase(State.CLOSED, current.since(), failures, 0, 0);
+				break;
+			case HALF_OPEN:
+				next = Phase.of(State.OPEN, clock.getAsLong());
+				break;
+			default:
+				return;
+			}
+			if (swap(current, next)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 결과 없이 허가 반납. (호출 취소 등) 실패로 세지 않고 시험 호출 자리만 돌려준다.
+	 */
+	public void onIgnored() {
+		while (true) {
+			Phase current = phase.get();
+			if (current.state() != State.HALF_OPEN || current.probesIssued() == 0) {
+				return;
+			}
+			Phase next = new Phase(State.HALF_OPEN, current.since(), 0, current.probesIssued() - 1,
+					current.probesSucceeded());
+			if (swap(current, next)) {
+				return;
+			}
+		}
+	}
+
+	public State getState() {
+		return phase.get().state();
+	}
+
+	private boolean swap(Phase from, Phase to) {
+		if (!phase.compareAndSet(from, to)) {
+			return false;
+		}
+		if (from.state() != to.state()) {
+			if (to.state() == State.OPEN) {
+				log.warn("* 서킷 브레이커 열림. provider: [{}], 이전 상태: [{}], {}ms 동안 호출 차단.", name, from.state(), openMillis);
+			} else {
+				log.info("* 서킷 브레이커 상태 변경. provider: [{}], [{}] → [{}]", name, from.state(), to.state());
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,169 @@
+package net.chamman.moonnight.infra.resilience;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+/**
+ * 외부 제공자 호출 격리. 동시 호출 수 제한(벌크헤드)과 {@link CircuitBreaker}를 함께 건다.
+ *
+ * 벌크헤드 자리가 없거나 브레이커가 열려 있으면 제공자를 호출하지 않고 바로
+ * 호출한 쪽이 넘긴 예외(제공자별 기존 {@code HttpStatusCode} 예외)를 던진다.
+ *
+ * 브레이커에는 제공자 장애({@link #isProviderFailure})만 실패로 센다.
+ * 4xx 응답이나 호출 전후의 로컬 오류는 제공자 상태와 무관하므로 세지 않는다.
+ */
+public class ProviderGuard {
+
+	public record Snapshot(CircuitBreaker.State state, int inFlight, long calls, long failures, long bulkheadRejected,
+			long circuitRejected) {
+	}
+
+	private final String name;
+	private final Semaphore bulkhead;
+	private final int maxConcurrent;
+	private final long maxWaitMillis;
+	private final CircuitBreaker circuitBreaker;
+	private final Predicate<Throwable> failurePredicate;
+
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder bulkheadRejected = new LongAdder();
+	private final LongAdder circuitRejected = new LongAdder();
+
+	public ProviderGuard(String name, int maxConcurrent, long maxWaitMillis, CircuitBreaker circuitBreaker) {
+		this(name, maxConcurrent, maxWaitMillis, circuitBreaker, ProviderGuard::isProviderFailure);
+	}
+
+	public ProviderGuard(String name, int maxConcurrent, long maxWaitMillis, CircuitBreaker circuitBreaker,
+			Predicate<Throwable> failurePredicate) {
+		this.name = name;
+		this.maxConcurrent = maxConcurrent;
+		this.bulkhead = new Semaphore(maxConcurrent);
+		this.maxWaitMillis = maxWaitMillis;
+		this.circuitBreaker = circuitBreaker;
+		this.failurePredicate = failurePredicate;
+	}
+
+	/**
+	 * @param call     제공자 호출
+	 * @param rejected 호출하지 못했을 때 던질 예외
+	 *
+	 * @return call 결과
+	 */
+	public <T> T execute(Supplier<T> call, Supplier<? extends RuntimeException> rejected) {
+		return execute(call, rejected, rejected);
+	}
+
+	/**
+	 * 거절 사유별로 다른 예외를 던진다. 동시 호출 초과는 잠시 뒤 다시 시도할 수 있는 거절이다.
+	 *
+	 * @param call         제공자 호출
+	 * @param bulkheadFull 동시 호출 수 초과로 호출하지 못했을 때 던질 예외
+	 * @param circuitOpen  브레이커가 열려 호출하지 못했을 때 던질 예외
+	 *
+	 * @return call 결과
+	 */
+	public <T> T execute(Supplier<T> call, Supplier<? extends RuntimeException> bulkheadFull,
+			Supplier<? extends RuntimeException> circuitOpen) {
+		if (!acquirePermit()) {
+			bulkheadRejected.increment();
+			throw bulkheadFull.get();
+		}
+		if (!circuitBreaker.tryAcquire()) {
+			bulkhead.release();
+			circuitRejected.increment();
+			throw circuitOpen.get();
+		}
+
+		calls.increment();
+		try {
+			T result = call.get();
+			circuitBreaker.onSuccess();
+			return result;
+		} catch (RuntimeException e) {
+			if (Thread.currentThread().isInterrupted() || !failurePredicate.test(e)) {
+				// 호출한 쪽이 취소했거나 제공자 장애가 아닌 경우
+				circuitBreaker.onIgnored();
+			} else {
+				failures.increment();
+				circuitBreaker.onFailure();
+			}
+			throw e;
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	public void run(Runnable call, Supplier<? extends RuntimeException> rejected) {
+		execute(() -> {
+			call.run();
+			return null;
+		}, rejected);
+	}
+
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Snapshot snapshot() {
+		return new Snapshot(circuitBreaker.getState(), maxConcurrent - bulkhead.availablePermits(), calls.sum(),
+				failures.sum(), bulkheadRejected.sum(), circuitRejected.sum());
+	}
+
+	Snapshot snapshotAndReset() {
+		return new Snapshot(circuitBreaker.getState(), maxConcurrent - bulkhead.availablePermits(), calls.sumThenReset(),
+				failures.sumThenReset(), bulkheadRejected.sumThenReset(), circuitRejected.sumThenReset());
+	}
+
+	/**
+	 * 제공자 장애 여부. 원인 예외를 따라가며 판단한다.
+	 * <ul>
+	 * <li>5xx 응답: 장애</li>
+	 * <li>연결 실패, 타임아웃 등 I/O 오류: 장애</li>
+	 * <li>4xx 응답, 그 밖의 로컬 오류: 장애 아님</li>
+	 * </ul>
+	 */
+	public static boolean isProviderFailure(Throwable e) {
+		for (int depth = 0; e != null && depth < 10; e = e.getCause(), depth++) {
+			if (e instanceof RestClientResponseException response) {
+				return response.getStatusCode().is5xxServerError();
+			}
+			if (e instanceof SdkServiceException service) {
+				return service.statusCode() >= 500;
+			}
+			if (e instanceof ResourceAccessException || e instanceof IOException || e instanceof TimeoutException
+					|| e instanceof ApiCallTimeoutException || e instanceof ApiCallAttemptTimeoutException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean acquirePermit() {
+		if (maxWaitMillis <= 0) {
+			return bulkhead.tryAcquire();
+		}
+		try {
+			return bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package net.chamman.moonnight.infra.resilience;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 제공자별 {@link ProviderGuard}.
+ *
+ * 설정은 제공자 이름별로 읽고 없으면 기본값을 쓴다.
+ * <pre>
+ * resilience.{provider}.max-concurrent=10
+ * resilience.{provider}.max-wait-ms=0
+ * resilience.{provider}.failure-threshold=5
+ * resilience.{provider}.open-ms=30000
+ * resilience.{provider}.half-open-probes=1
+ * </pre>
+ * 브레이커 상태와 거절 수는 {@link #snapshot()}으로 조회하고
+ * {@code resilience.metrics.log-interval-ms}마다 로그로 남긴 뒤 초기화한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProviderGuards {
+
+	public static final String NAVER_SMS = "naver-sms";
+	public static final String NAVER_MAIL = "naver-mail";
+	public static final String KAKAO = "kakao";
+	public static final String AWS_S3 = "aws-s3";
+
+	private final Environment environment;
+	private final ConcurrentHashMap<String, ProviderGuard> guards = new ConcurrentHashMap<>();
+
+	public ProviderGuard get(String provider) {
+		return guards.computeIfAbsent(provider, this::create);
+	}
+
+	/**
+	 * @return 제공자별 현재 상태 (초기화하지 않음)
+	 */
+	public Map<String, ProviderGuard.Snapshot> snapshot() {
+		Map<String, ProviderGuard.Snapshot> result = new TreeMap<>();
+		guards.forEach((provider, guard) -> result.put(provider, guard.snapshot()));
+		return result;
+	}
+
+	@Scheduled(fixedDelayString = "${resilience.metrics.log-interval-ms:300000}")
+	public void logAndReset() {
+		guards.forEach((provider, guard) -> {
+			ProviderGuard.Snapshot s = guard.snapshotAndReset();
+			if (s.calls() > 0 || s.bulkheadRejected() > 0 || s.circuitRejected() > 0
+					|| s.state() != CircuitBreaker.State.CLOSED) {
+				log.info("* 외부 제공자 격리 지표. provider: [{}], 브레이커: [{}], 진행 중: [{}], 호출: [{}], 실패: [{}], 동시 호출 초과 거절: [{}], 브레이커 거절: [{}]",
+						provider, s.state(), s.inFlight(), s.calls(), s.failures(), s.bulkheadRejected(),
+						s.circuitRejected());
+			}
+		});
+	}
+
+	private ProviderGuard create(String provider) {
+		String prefix = "resilience." + provider + ".";
+		CircuitBreaker circuitBreaker = new CircuitBreaker(provider,
+				environment.getProperty(prefix + "failure-threshold", Integer.class, 5),
+				environment.getProperty(prefix + "open-ms", Long.class, 30000L),
+				environment.getProperty(prefix + "half-open-probes", Integer.class, 1));
+		return new ProviderGuard(provider,
+				environment.getProperty(prefix + "max-concurrent", Integer.class, 10),
+				environment.getProperty(prefix + "max-wait-ms", Long.class, 0L),
+				circuitBreaker);
+	}
+}
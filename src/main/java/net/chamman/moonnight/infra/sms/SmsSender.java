@@ -1,5 +1,22 @@
 package net.chamman.moonnight.infra.sms;
 
+import java.util.List;
+
 public interface SmsSender {
+
+	/** 한 번의 발송 요청에 담을 수 있는 최대 수신자 수 */
+	int MAX_BATCH_SIZE = 100;
+
+	record SmsMessage(String recipientPhone, String message) {
+	}
+
 	int sendSms(String recipientPhone, String message);
+
+	/**
+	 * 여러 수신자에게 각각의 내용으로 한 번에 발송. 최대 {@link #MAX_BATCH_SIZE}건.
+	 * 
+	 * @param messages
+	 * @return 발송 요청 Response Status Code
+	 */
+	int sendSmsBatch(List<SmsMessage> messages);
 }
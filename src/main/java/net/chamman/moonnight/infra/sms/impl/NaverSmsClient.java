@@ -5,6 +5,8 @@ import static net.chamman.moonnight.global.exception.HttpStatusCode.SMS_SEND_FAI
 import java.net.URI;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.http.HttpEntity;
@@ -17,10 +19,12 @@ import org.springframework.web.client.RestTemplate;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.config.OutboundHttpConfig;
 import net.chamman.moonnight.global.exception.infra.SmsSendException;
 import net.chamman.moonnight.global.util.LogMaskingUtil;
 import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
 import net.chamman.moonnight.infra.naver.NaverSignatureGenerator;
+import net.chamman.moonnight.infra.resilience.ProviderGuards;
 import net.chamman.moonnight.infra.sms.SmsSender;
 import net.chamman.moonnight.infra.sms.naver.NaverSmsRequestDto;
 import net.chamman.moonnight.infra.sms.naver.NaverSmsRecipientRequestDto;
@@ -32,6 +36,11 @@ import net.chamman.moonnight.infra.sms.naver.NaverSmsRecipientRequestDto;
 public class NaverSmsClient implements SmsSender{
 	
 	private final NaverSignatureGenerator naverSignatureGenerator;
+	private final ProviderGuards providerGuards;
+
+	@Autowired
+	@Qualifier(OutboundHttpConfig.NAVER_SMS)
+	private RestTemplate restTemplate;
 	
 	@Value("${naver-api.accessKey}")
 	private String accessKey;
@@ -64,37 +73,58 @@ public class NaverSmsClient implements SmsSender{
 				);
 
 		NaverSmsRecipientRequestDto naverSmsRecipientRequestDto = new NaverSmsRecipientRequestDto(recipientPhone.replaceAll("[^0-9]", ""),message);
-		List<NaverSmsRecipientRequestDto> messages = List.of(naverSmsRecipientRequestDto);
-		
+		return send(message, List.of(naverSmsRecipientRequestDto));
+	}
+
+	/** 네이버 API 문자 일괄 발송 요청. 수신자별 내용은 messages[].content로 보낸다.
+	 * @param messages
+	 * @throws SmsSendException {@link #sendSmsBatch}
+	 * @return 문자 발송 요청 Response Status Code
+	 */
+	@Override
+	public int sendSmsBatch(List<SmsMessage> messages) {
+		if (messages.isEmpty() || messages.size() > MAX_BATCH_SIZE) {
+			throw new IllegalArgumentException("문자 일괄 발송 수신자 수 이상. size: " + messages.size());
+		}
+		log.debug("* Naver SMS 일괄 발송 요청. 수신자 수: [{}]", messages.size());
+
+		List<NaverSmsRecipientRequestDto> recipients = messages.stream()
+				.map(m -> new NaverSmsRecipientRequestDto(m.recipientPhone().replaceAll("[^0-9]", ""), m.message()))
+				.toList();
+		return send(messages.get(0).message(), recipients);
+	}
+
+	private int send(String defaultContent, List<NaverSmsRecipientRequestDto> messages) {
 		NaverSmsRequestDto naverSmsRequestDto = NaverSmsRequestDto.builder()
 				.type("SMS")
 				.contentType("COMM")
 				.countryCode("82")
 				.from(senderPhone)
-				.content(message)
+				.content(defaultContent)
 				.messages(messages)
 				.build();
 		
-		try {
-			String time = Long.toString(System.currentTimeMillis());
-			
-			// 헤더 설정
-			HttpHeaders headers = new HttpHeaders();
-			headers.setContentType(MediaType.APPLICATION_JSON);
-			headers.set("x-ncp-apigw-timestamp", time);
-			headers.set("x-ncp-iam-access-key", accessKey);
-			headers.set("x-ncp-apigw-signature-v2", naverSignatureGenerator.getNaverSignature("POST", smsSendPath, time));
-			
-			// HTTP 요청
-			RestTemplate restTemplate = new RestTemplate();
-			HttpEntity<NaverSmsRequestDto> entity = new HttpEntity<>(naverSmsRequestDto, headers);
-			ResponseEntity<String> response = restTemplate.postForEntity(new URI(smsApiUrl + smsSendPath),
-					entity, String.class);
-			
-			return response.getStatusCode().value();
-		} catch (Exception e) {
-			throw new SmsSendException(SMS_SEND_FAIL, e);
-		}
+		return providerGuards.get(ProviderGuards.NAVER_SMS).execute(() -> {
+			try {
+				String time = Long.toString(System.currentTimeMillis());
+				
+				// 헤더 설정
+				HttpHeaders headers = new HttpHeaders();
+				headers.setContentType(MediaType.APPLICATION_JSON);
+				headers.set("x-ncp-apigw-timestamp", time);
+				headers.set("x-ncp-iam-access-key", accessKey);
+				headers.set("x-ncp-apigw-signature-v2", naverSignatureGenerator.getNaverSignature("POST", smsSendPath, time));
+				
+				// HTTP 요청
+				HttpEntity<NaverSmsRequestDto> entity = new HttpEntity<>(naverSmsRequestDto, headers);
+				ResponseEntity<String> response = restTemplate.postForEntity(new URI(smsApiUrl + smsSendPath),
+						entity, String.class);
+				
+				return response.getStatusCode().value();
+			} catch (Exception e) {
+				throw new SmsSendException(SMS_SEND_FAIL, e);
+			}
+		}, () -> new SmsSendException(SMS_SEND_FAIL, "Naver SMS 호출 차단. (서킷 브레이커 열림 또는 동시 호출 초과)"));
 	}
 	
 }
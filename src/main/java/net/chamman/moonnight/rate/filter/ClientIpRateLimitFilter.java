@@ -0,0 +1,144 @@
+package net.chamman.moonnight.rate.filter;
+
+import static net.chamman.moonnight.global.exception.HttpStatusCode.IP_BLOCKED;
+import static net.chamman.moonnight.global.exception.HttpStatusCode.TOO_MANY_REQUEST;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.context.RequestContext;
+import net.chamman.moonnight.global.exception.HttpStatusCode;
+import net.chamman.moonnight.global.util.ApiResponseFactory;
+import net.chamman.moonnight.global.util.LogMaskingUtil;
+import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
+import net.chamman.moonnight.rate.limiter.RateLimitService;
+
+/**
+ * Spring Security 체인, multipart 파싱, 검증보다 먼저 실행되는 IP 기반 조기 차단 필터.
+ * 
+ * <ol>
+ * <li>허용 목록(CIDR)에 포함되면 통과</li>
+ * <li>차단 목록(CIDR)에 포함되면 403</li>
+ * <li>{@code REQUEST_CLIENT_IP}를 소비하는 경로({@code rate-limit.ip.guarded-paths})의 쓰기 요청이고
+ * 이미 제한 중이면 429</li>
+ * </ol>
+ * 429는 {@code REQUEST_CLIENT_IP}를 함께 검사하는 서비스(견적 등록, 인증번호 발송, 질문 등록)의 경로에만 적용한다.
+ * 관리자 로그인 등 이 정책을 쓰지 않는 요청은 막지 않는다.
+ * 요청 body를 읽지 않고 응답하며 연결을 닫으므로, 대량 업로드 요청이 메모리에 버퍼링되지 않는다. 
+ * 횟수 소비는 기존처럼 서비스의 {@link RateLimitService} check 메서드에서만 한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class ClientIpRateLimitFilter extends OncePerRequestFilter {
+
+	private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+	private final RateLimitService rateLimitService;
+	private final ApiResponseFactory apiResponseFactory;
+	private final ObjectMapper objectMapper;
+	private final IpPrefixTrie allowlist = new IpPrefixTrie();
+	private final IpPrefixTrie blocklist = new IpPrefixTrie();
+	private final List<PathPattern> guardedPaths = new ArrayList<>();
+
+	public ClientIpRateLimitFilter(RateLimitService rateLimitService, ApiResponseFactory apiResponseFactory,
+			ObjectMapper objectMapper,
+			@Value("${rate-limit.ip.allowlist:}") String[] allowlist,
+			@Value("${rate-limit.ip.blocklist:}") String[] blocklist,
+			@Value("${rate-limit.ip.guarded-paths:/api/estimate/public/register/**,/api/verify/public/sms,/api/verify/public/email,/api/question/register}") String[] guardedPaths) {
+		this.rateLimitService = rateLimitService;
+		this.apiResponseFactory = apiResponseFactory;
+		this.objectMapper = objectMapper;
+		addAll(this.allowlist, allowlist);
+		addAll(this.blocklist, blocklist);
+		PathPatternParser parser = new PathPatternParser();
+		for (String path : guardedPaths) {
+			if (path != null && !path.isBlank()) {
+				this.guardedPaths.add(parser.parse(path.strip()));
+			}
+		}
+		log.info("* IP 조기 차단 필터 등록. allowlist: [{}]개, blocklist: [{}]개", this.allowlist.size(), this.blocklist.size());
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain)
+			throws ServletException, IOException {
+
+		String clientIp = RequestContext.of(req).clientIp();
+
+		if (allowlist.contains(clientIp)) {
+			filterChain.doFilter(req, res);
+			return;
+		}
+
+		if (blocklist.contains(clientIp)) {
+			log.info("* 차단 IP 요청 거부. clientIp: [{}], uri: [{}]", LogMaskingUtil.maskIp(clientIp, MaskLevel.MEDIUM),
+					req.getRequestURI());
+			reject(res, IP_BLOCKED);
+			return;
+		}
+
+		if (!SAFE_METHODS.contains(req.getMethod()) && isGuarded(req.getRequestURI())
+				&& rateLimitService.isClientIpThrottled(clientIp)) {
+			log.info("* 요청 횟수 초과 IP 조기 거부. clientIp: [{}], uri: [{}]", LogMaskingUtil.maskIp(clientIp, MaskLevel.MEDIUM),
+					req.getRequestURI());
+			reject(res, TOO_MANY_REQUEST);
+			return;
+		}
+
+		filterChain.doFilter(req, res);
+	}
+
+	/**
+	 * PathPattern은 디코딩한 세그먼트로 비교하므로 %인코딩 경로도 MVC 매핑과 같게 판단한다.
+	 */
+	private boolean isGuarded(String uri) {
+		PathContainer path = PathContainer.parsePath(uri);
+		for (PathPattern pattern : guardedPaths) {
+			if (pattern.matches(path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void reject(HttpServletResponse res, HttpStatusCode httpStatusCode) throws IOException {
+		res.setStatus(httpStatusCode.getStatus());
+		// 남은 요청 body를 읽어 버리지 않도록 연결 종료
+		res.setHeader(HttpHeaders.CONNECTION, "close");
+		res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		res.setCharacterEncoding("UTF-8");
+		res.getWriter().write(objectMapper.writeValueAsString(apiResponseFactory.error(httpStatusCode)));
+	}
+
+	private static void addAll(IpPrefixTrie trie, String[] cidrs) {
+		if (cidrs == null) {
+			return;
+		}
+		for (String cidr : cidrs) {
+			if (cidr != null && !cidr.isBlank()) {
+				trie.add(cidr);
+			}
+		}
+	}
+}
@@ -0,0 +1,179 @@
+package net.chamman.moonnight.rate.filter;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * CIDR 목록 포함 여부를 판별하는 이진 prefix trie.
+ * 
+ * IPv4는 IPv4-mapped IPv6(::ffff:a.b.c.d)로 변환해 IPv6와 같은 128비트 trie에 저장한다. 
+ * 노드는 배열 인덱스로만 표현하므로 CIDR 수가 많아도 객체 할당이 없고, 조회는 최대 128단계다.
+ * 빌드 이후에는 읽기 전용으로 사용한다. (스레드 안전하지 않은 add)
+ */
+public final class IpPrefixTrie {
+
+	private static final int IPV4_MAPPED_OFFSET = 96;
+
+	private int[] zero = new int[64];
+	private int[] one = new int[64];
+	private final BitSet terminal = new BitSet();
+	private int size = 1; // 0번은 루트
+	private int prefixCount = 0;
+
+	/**
+	 * @param cidr "10.0.0.0/8", "2001:db8::/32", 단일 IP
+	 * 
+	 * @throws IllegalArgumentException 형식 이상
+	 */
+	public void add(String cidr) {
+		String trimmed = cidr.trim();
+		int slash = trimmed.indexOf('/');
+		String address = slash < 0 ? trimmed : trimmed.substring(0, slash);
+
+		byte[] bytes = toBytes(address);
+		if (bytes == null) {
+			throw new IllegalArgumentException("* 올바르지 않은 CIDR: " + cidr);
+		}
+		boolean ipv4 = address.indexOf(':') < 0;
+		int maxLength = ipv4 ? 32 : 128;
+		int length = slash < 0 ? maxLength : Integer.parseInt(trimmed.substring(slash + 1));
+		if (length < 0 || length > maxLength) {
+			throw new IllegalArgumentException("* 올바르지 않은 CIDR prefix 길이: " + cidr);
+		}
+		if (ipv4) {
+			length += IPV4_MAPPED_OFFSET;
+		}
+
+		int node = 0;
+		for (int i = 0; i < length; i++) {
+			if (terminal.get(node)) {
+				return; // 더 넓은 prefix가 이미 있음
+			}
+			int[] children = bit(bytes, i) ? one : zero;
+			if (children[node] == 0) {
+				children = ensureCapacity(children == one);
+				children[node] = size++;
+			}
+			node = children[node];
+		}
+		terminal.set(node);
+		prefixCount++;
+	}
+
+	/**
+	 * @param ip 클라이언트 IP. 형식이 잘못됐으면 false
+	 * 
+	 * @return 등록된 CIDR 중 하나라도 포함하는지
+	 */
+	public boolean contains(String ip) {
+		if (prefixCount == 0 || ip == null) {
+			return false;
+		}
+		byte[] bytes = toBytes(ip.trim());
+		if (bytes == null) {
+			return false;
+		}
+
+		int node = 0;
+		for (int i = 0; i < 128; i++) {
+			if (terminal.get(node)) {
+				return true;
+			}
+			node = bit(bytes, i) ? one[node] : zero[node];
+			if (node == 0) {
+				return false;
+			}
+		}
+		return terminal.get(node);
+	}
+
+	public boolean isEmpty() {
+		return prefixCount == 0;
+	}
+
+	public int size() {
+		return prefixCount;
+	}
+
+	private int[] ensureCapacity(boolean forOne) {
+		if (size >= zero.length) {
+			zero = Arrays.copyOf(zero, zero.length * 2);
+			one = Arrays.copyOf(one, one.length * 2);
+		}
+		return forOne ? one : zero;
+	}
+
+	private static boolean bit(byte[] bytes, int index) {
+		return (bytes[index >>> 3] & (0x80 >>> (index & 7))) != 0;
+	}
+
+	/**
+	 * IP 리터럴을 16바이트로 변환. 헤더 값이 들어오므로 DNS 조회가 일어나지 않도록 
+	 * IPv4는 직접 파싱하고, IPv6는 허용 문자만 있을 때 리터럴로만 해석한다.
+	 */
+	static byte[] toBytes(String ip) {
+		if (ip == null || ip.isEmpty()) {
+			return null;
+		}
+		if (ip.indexOf(':') < 0) {
+			return parseIpv4(ip);
+		}
+
+		int zone = ip.indexOf('%');
+		String literal = zone < 0 ? ip : ip.substring(0, zone);
+		if (literal.startsWith("[") && literal.endsWith("]")) {
+			literal = literal.substring(1, literal.length() - 1);
+		}
+		for (int i = 0; i < literal.length(); i++) {
+			char c = literal.charAt(i);
+			boolean valid = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || c == ':'
+					|| c == '.';
+			if (!valid) {
+				return null;
+			}
+		}
+		try {
+			InetAddress address = InetAddress.getByName(literal);
+			if (address instanceof Inet4Address) {
+				return mapIpv4(address.getAddress());
+			}
+			return address.getAddress();
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private static byte[] parseIpv4(String ip) {
+		byte[] v4 = new byte[4];
+		int octet = 0;
+		int value = -1;
+		for (int i = 0; i <= ip.length(); i++) {
+			char c = i < ip.length() ? ip.charAt(i) : '.';
+			if (c == '.') {
+				if (value < 0 || octet > 3) {
+					return null;
+				}
+				v4[octet++] = (byte) value;
+				value = -1;
+			} else if (c >= '0' && c <= '9') {
+				value = (value < 0 ? 0 : value * 10) + (c - '0');
+				if (value > 255) {
+					return null;
+				}
+			} else {
+				return null;
+			}
+		}
+		return octet == 4 ? mapIpv4(v4) : null;
+	}
+
+	private static byte[] mapIpv4(byte[] v4) {
+		byte[] mapped = new byte[16];
+		mapped[10] = (byte) 0xff;
+		mapped[11] = (byte) 0xff;
+		System.arraycopy(v4, 0, mapped, 12, 4);
+		return mapped;
+	}
+}
@@ -0,0 +1,38 @@
+package net.chamman.moonnight.rate.limiter;
+
+import java.util.List;
+
+/**
+ * 요청 횟수 제한 조회 결과
+ * 
+ * @param allowed          요청 허용 여부
+ * @param remaining        윈도우 내 남은 요청 횟수
+ * @param resetAfterMillis 가장 오래된 요청이 윈도우에서 빠질 때까지 남은 시간(ms)
+ */
+public record RateLimitResult(boolean allowed, long remaining, long resetAfterMillis) {
+
+	/**
+	 * 여러 정책 결과를 하나로 합친다. 
+	 * 하나라도 거부면 거부, 남은 횟수는 가장 적은 정책 기준, 리셋 시간은 그 중 가장 긴 값.
+	 * 
+	 * @param results
+	 * 
+	 * @return 합쳐진 결과
+	 */
+	public static RateLimitResult combine(List<RateLimitResult> results) {
+		boolean allowed = true;
+		long remaining = Long.MAX_VALUE;
+		long resetAfterMillis = 0;
+
+		for (RateLimitResult result : results) {
+			allowed &= result.allowed();
+			if (result.remaining() < remaining) {
+				remaining = result.remaining();
+				resetAfterMillis = result.resetAfterMillis();
+			} else if (result.remaining() == remaining) {
+				resetAfterMillis = Math.max(resetAfterMillis, result.resetAfterMillis());
+			}
+		}
+		return new RateLimitResult(allowed, results.isEmpty() ? 0 : remaining, resetAfterMillis);
+	}
+}
@@ -1,5 +1,8 @@
 package net.chamman.moonnight.rate.limiter;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -7,6 +10,11 @@ import lombok.extern.slf4j.Slf4j;
 import net.chamman.moonnight.global.util.LogMaskingUtil;
 import net.chamman.moonnight.global.util.LogMaskingUtil.MaskLevel;
 
+/**
+ * 요청 횟수 제한 체크. 
+ * 각 check 메서드는 해당 정책과 {@link RateLimitKeyGenerator#REQUEST_CLIENT_IP}를 
+ * Redis 한 번 호출로 함께 검사하며, 하나라도 초과하면 어느 쪽에도 기록되지 않는다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -14,42 +22,40 @@ public class RateLimitService {
 
     private final RateLimiter rateLimiter;
 
-    public void checkVerificationCodeRequest(String recipient) {
-    	log.debug("* 인증 코드 요청 횟수 체크: [{}]", LogMaskingUtil.maskRecipient(recipient, MaskLevel.MEDIUM));
-    	rateLimiter.isAllowed(
-            RateLimitKeyGenerator.VERIFICATION_CODE_REQUEST.key(recipient),
-            RateLimitKeyGenerator.VERIFICATION_CODE_REQUEST.getMaxRequest(),
-            RateLimitKeyGenerator.VERIFICATION_CODE_REQUEST.getTimeoutMinutes()
-        );
+    public void checkVerificationCodeRequest(String recipient, String clientIp) {
+    	log.debug("* 인증 코드 요청 횟수 체크: [{}], clientIp: [{}]", LogMaskingUtil.maskRecipient(recipient, MaskLevel.MEDIUM),
+    			LogMaskingUtil.maskIp(clientIp, MaskLevel.MEDIUM));
+
+    	rateLimiter.isAllowedAll(withClientIp(RateLimitKeyGenerator.VERIFICATION_CODE_REQUEST, recipient, clientIp));
     }
 
     public void checkEstimateRegister(String clientIp) {
     	log.debug("* 견적서 등록 요청 횟수 체크 clientIp: [{}]",LogMaskingUtil.maskIp(clientIp, MaskLevel.MEDIUM));
 
-    	rateLimiter.isAllowed(
-            RateLimitKeyGenerator.ESTIMATE_REGISTER.key(clientIp),
-            RateLimitKeyGenerator.ESTIMATE_REGISTER.getMaxRequest(),
-            RateLimitKeyGenerator.ESTIMATE_REGISTER.getTimeoutMinutes()
-        );
+    	rateLimiter.isAllowedAll(withClientIp(RateLimitKeyGenerator.ESTIMATE_REGISTER, clientIp, clientIp));
     }
     
     public void checkQuestionRegister(String clientIp) {
     	log.debug("* 질문 등록 요청 횟수 체크 clientIp: [{}]",LogMaskingUtil.maskIp(clientIp, MaskLevel.MEDIUM));
 
-    	rateLimiter.isAllowed(
-            RateLimitKeyGenerator.QUESTION_REGISTER.key(clientIp),
-            RateLimitKeyGenerator.QUESTION_REGISTER.getMaxRequest(),
-            RateLimitKeyGenerator.QUESTION_REGISTER.getTimeoutMinutes()
-        );
+    	rateLimiter.isAllowedAll(withClientIp(RateLimitKeyGenerator.QUESTION_REGISTER, clientIp, clientIp));
     }
     
-    public void checkRequestClientIp(String clientIp) {
-    	log.debug("* 요청 횟수 체크 clientIp: [{}]",LogMaskingUtil.maskIp(clientIp, MaskLevel.MEDIUM));
-
-    	rateLimiter.isAllowed(
-            RateLimitKeyGenerator.REQUEST_CLIENT_IP.key(clientIp),
-            RateLimitKeyGenerator.REQUEST_CLIENT_IP.getMaxRequest(),
-            RateLimitKeyGenerator.REQUEST_CLIENT_IP.getTimeoutMinutes()
-        );
+    /**
+     * 횟수 소비 없이 clientIp가 이미 제한 중인지 확인. (Redis 호출 없음)
+     * 
+     * @param clientIp
+     * 
+     * @return 제한 중 여부
+     */
+    public boolean isClientIpThrottled(String clientIp) {
+    	return rateLimiter.isThrottled(RateLimitKeyGenerator.REQUEST_CLIENT_IP.key(clientIp));
+    }
+
+    private Map<RateLimitKeyGenerator, String> withClientIp(RateLimitKeyGenerator policy, String id, String clientIp) {
+    	Map<RateLimitKeyGenerator, String> policies = new EnumMap<>(RateLimitKeyGenerator.class);
+    	policies.put(policy, id);
+    	policies.put(RateLimitKeyGenerator.REQUEST_CLIENT_IP, clientIp);
+    	return policies;
     }
 }
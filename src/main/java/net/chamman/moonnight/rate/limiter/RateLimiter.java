@@ -1,5 +1,58 @@
 package net.chamman.moonnight.rate.limiter;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 public interface RateLimiter {
     boolean isAllowed(String key, int maxCount, int timeoutMinutes);
+
+    /**
+     * 예외 없이 요청 횟수 제한 결과만 반환
+     * 
+     * @param key
+     * @param maxCount
+     * @param timeoutMinutes
+     * 
+     * @return 허용 여부, 남은 횟수, 리셋까지 남은 시간
+     */
+    RateLimitResult tryAcquire(String key, int maxCount, int timeoutMinutes);
+
+    /**
+     * 여러 정책을 한 번에 검사. 하나라도 초과하면 요청 전체를 거부한다.
+     * 
+     * @param policies 정책별 식별값 (clientIp, recipient 등)
+     * 
+     * @throws TooManyRequestsException 요청 횟수 초과
+     * 
+     * @return 허용 여부
+     */
+    boolean isAllowedAll(Map<RateLimitKeyGenerator, String> policies);
+
+    /**
+     * 여러 정책을 한 번에 검사한 결과 반환. 
+     * 기본 구현은 정책별로 순차 호출하므로 all-or-nothing이 보장되지 않는다.
+     * 
+     * @param policies 정책별 식별값 (clientIp, recipient 등)
+     * 
+     * @return 합쳐진 결과 {@link RateLimitResult#combine}
+     */
+    default RateLimitResult tryAcquireAll(Map<RateLimitKeyGenerator, String> policies) {
+        List<RateLimitResult> results = new ArrayList<>(policies.size());
+        policies.forEach((policy, id) -> results
+                .add(tryAcquire(policy.key(id), policy.getMaxRequest(), policy.getTimeoutMinutes())));
+        return RateLimitResult.combine(results);
+    }
+
+    /**
+     * 횟수를 소비하지 않고 현재 제한 중인 키인지 확인. 
+     * 로컬에서 알 수 있는 정보만 사용하며, 알 수 없는 구현은 false.
+     * 
+     * @param key
+     * 
+     * @return 제한 중 여부
+     */
+    default boolean isThrottled(String key) {
+        return false;
+    }
 }
@@ -0,0 +1,149 @@
+package net.chamman.moonnight.rate.limiter.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link TwoTierRateLimiter}의 키 하나에 대한 로컬 상태. 모든 연산은 CAS 기반으로 락을 잡지 않는다.
+ * 
+ * <ul>
+ * <li>토큰 버킷: 이 노드만의 요청량 기준 (용량 maxCount, 윈도우 동안 maxCount 충전). 
+ * 비어있으면 전역으로도 이미 초과이므로 Redis 없이 거부하고, Redis 장애 시에는 이 값만으로 제한한다.</li>
+ * <li>임대분: Redis에서 미리 받아둔 허용 횟수. 남아있는 동안은 Redis 호출 없이 허용한다.</li>
+ * <li>거부 캐시: Redis가 거부한 키는 리셋 시각까지 Redis 호출 없이 거부한다.</li>
+ * </ul>
+ */
+final class LocalRateLimitBucket {
+
+	private record TokenState(double tokens, long refilledAtNanos) {
+	}
+
+	private final int capacity;
+	private final long windowMillis;
+	private final double tokensPerNano;
+
+	private final AtomicReference<TokenState> tokenState;
+	private final AtomicInteger leased = new AtomicInteger();
+	private volatile long leaseExpiresAt;
+	private volatile long deniedUntil;
+	private volatile long lastRemaining = -1;
+	private volatile long lastAccess;
+
+	LocalRateLimitBucket(int capacity, long windowMillis, long nowMillis) {
+		this.capacity = capacity;
+		this.windowMillis = windowMillis;
+		this.tokensPerNano = (double) capacity / TimeUnit.MILLISECONDS.toNanos(windowMillis);
+		this.tokenState = new AtomicReference<>(new TokenState(capacity, System.nanoTime()));
+		this.lastAccess = nowMillis;
+	}
+
+	/** 토큰 하나 사용. 부족하면 false */
+	boolean tryConsumeToken(long nowNanos) {
+		while (true) {
+			TokenState current = tokenState.get();
+			double tokens = refilled(current, nowNanos);
+			if (tokens < 1) {
+				return false;
+			}
+			if (tokenState.compareAndSet(current, new TokenState(tokens - 1, Math.max(nowNanos, current.refilledAtNanos())))) {
+				return true;
+			}
+		}
+	}
+
+	/** 다른 정책 거부로 취소된 요청의 토큰 반환 */
+	void refundToken() {
+		while (true) {
+			TokenState current = tokenState.get();
+			TokenState next = new TokenState(Math.min(capacity, current.tokens() + 1), current.refilledAtNanos());
+			if (tokenState.compareAndSet(current, next)) {
+				return;
+			}
+		}
+	}
+
+	/** 다음 토큰이 생길 때까지 남은 시간(ms) */
+	long millisUntilToken(long nowNanos) {
+		double missing = 1 - refilled(tokenState.get(), nowNanos);
+		if (missing <= 0) {
+			return 0;
+		}
+		return TimeUnit.NANOSECONDS.toMillis((long) Math.ceil(missing / tokensPerNano));
+	}
+
+	/** 임대분 하나 사용. 없거나 만료됐으면 false */
+	boolean tryTakeLease(long nowMillis) {
+		if (nowMillis >= leaseExpiresAt) {
+			leased.set(0);
+			return false;
+		}
+		while (true) {
+			int current = leased.get();
+			if (current <= 0) {
+				return false;
+			}
+			if (leased.compareAndSet(current, current - 1)) {
+				return true;
+			}
+		}
+	}
+
+	void refundLease() {
+		leased.incrementAndGet();
+	}
+
+	/**
+	 * Redis 응답 반영
+	 * 
+	 * @param allowed          전체 정책 허용 여부
+	 * @param remaining        Redis 기준 남은 횟수
+	 * @param resetAfterMillis 리셋까지 남은 시간
+	 * @param granted          부여 받은 횟수 (이번 요청분 1 포함)
+	 * @param nowMillis
+	 */
+	void sync(boolean allowed, long remaining, long resetAfterMillis, int granted, long nowMillis) {
+		this.lastRemaining = remaining;
+		if (allowed) {
+			if (granted > 1) {
+				// 임대분은 Redis 기록과 함께 윈도우가 지나면 사라진다.
+				this.leaseExpiresAt = nowMillis + windowMillis;
+				leased.addAndGet(granted - 1);
+			}
+		} else if (remaining <= 0) {
+			this.deniedUntil = nowMillis + resetAfterMillis;
+		}
+	}
+
+	/**
+	 * 다음 Redis 동기화 때 요청할 횟수. 남은 횟수를 모르거나 임계치에 가까우면 1개씩만 받는다.
+	 */
+	int nextLeaseSize(int maxLease) {
+		long remaining = lastRemaining;
+		if (remaining < 0) {
+			return 1;
+		}
+		return (int) Math.max(1, Math.min(maxLease, remaining / 2));
+	}
+
+	long estimatedRemaining() {
+		return Math.max(0, lastRemaining) + leased.get();
+	}
+
+	long getDeniedUntil() {
+		return deniedUntil;
+	}
+
+	void touch(long nowMillis) {
+		this.lastAccess = nowMillis;
+	}
+
+	boolean isIdle(long nowMillis) {
+		return nowMillis - lastAccess > windowMillis;
+	}
+
+	private double refilled(TokenState state, long nowNanos) {
+		long elapsed = Math.max(0, nowNanos - state.refilledAtNanos());
+		return Math.min(capacity, state.tokens() + elapsed * tokensPerNano);
+	}
+}
@@ -2,6 +2,7 @@ package net.chamman.moonnight.rate.limiter.impl;
 
 import static net.chamman.moonnight.global.exception.HttpStatusCode.TOO_MANY_REQUEST;
 
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.redis.core.RedisTemplate;
@@ -12,8 +13,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.chamman.moonnight.global.context.CustomRequestContextHolder;
 import net.chamman.moonnight.global.exception.TooManyRequestsException;
+import net.chamman.moonnight.rate.limiter.RateLimitKeyGenerator;
+import net.chamman.moonnight.rate.limiter.RateLimitResult;
 import net.chamman.moonnight.rate.limiter.RateLimiter;
 
+/**
+ * 고정 윈도우(INCR + EXPIRE) 방식. 
+ * 기본 구현은 {@link RedisSlidingWindowRateLimiter}.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +30,30 @@ public class RedisRateLimiter implements RateLimiter {
 
 	@Override
 	public boolean isAllowed(String key, int maxCount, int timeoutMinutes) {
+		RateLimitResult result = tryAcquire(key, maxCount, timeoutMinutes);
+
+		if (!result.allowed()) {
+			String clientIp = CustomRequestContextHolder.getClientIp();
+			log.info("* TooManyRequestsException발생. clientIp: [{}]", clientIp);
+			throw new TooManyRequestsException(TOO_MANY_REQUEST, "요청 횟수 초과.");
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean isAllowedAll(Map<RateLimitKeyGenerator, String> policies) {
+		if (!tryAcquireAll(policies).allowed()) {
+			String clientIp = CustomRequestContextHolder.getClientIp();
+			log.info("* TooManyRequestsException발생. clientIp: [{}], policies: [{}]", clientIp, policies.keySet());
+			throw new TooManyRequestsException(TOO_MANY_REQUEST, "요청 횟수 초과.");
+		}
+
+		return true;
+	}
+
+	@Override
+	public RateLimitResult tryAcquire(String key, int maxCount, int timeoutMinutes) {
 		ValueOperations<String, String> ops = redisTemplate.opsForValue();
 		Long reqCount = ops.increment(key, 1);
 		log.debug("* Limit 조회. key: [{}], reqCount: [{}], maxCount: [{}], timeoutMinutes: [{}]", key, reqCount, maxCount, timeoutMinutes);
@@ -31,14 +62,10 @@ public class RedisRateLimiter implements RateLimiter {
 			redisTemplate.expire(key, timeoutMinutes, TimeUnit.MINUTES);
 		}
 
-		if (reqCount > maxCount) {
-			String clientIp = CustomRequestContextHolder.getClientIp();
-			log.info("* TooManyRequestsException발생. clientIp: [{}]", clientIp);
-			throw new TooManyRequestsException(TOO_MANY_REQUEST, "요청 횟수 초과.");
-		}
-
+		Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+		long resetAfterMillis = (ttl != null && ttl > 0) ? ttl : TimeUnit.MINUTES.toMillis(timeoutMinutes);
 
-		return true;
+		return new RateLimitResult(reqCount <= maxCount, Math.max(0, maxCount - reqCount), resetAfterMillis);
 	}
 
 }
@@ -0,0 +1,167 @@
+package net.chamman.moonnight.rate.limiter.impl;
+
+import static net.chamman.moonnight.global.exception.HttpStatusCode.TOO_MANY_REQUEST;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.context.CustomRequestContextHolder;
+import net.chamman.moonnight.global.exception.TooManyRequestsException;
+import net.chamman.moonnight.rate.limiter.RateLimitKeyGenerator;
+import net.chamman.moonnight.rate.limiter.RateLimitResult;
+import net.chamman.moonnight.rate.limiter.RateLimiter;
+
+/**
+ * Lua 스크립트 기반 슬라이딩 윈도우 로그 방식.
+ * 
+ * 조회, 기록, 만료 설정을 하나의 EVALSHA로 원자적으로 처리하므로 TTL 누락이 없고, 
+ * 윈도우 경계에서 제한의 2배까지 허용되는 고정 윈도우 문제가 없다.
+ * 여러 정책도 같은 스크립트 한 번으로 all-or-nothing 검사한다.
+ */
+@Component
+@Slf4j
+public class RedisSlidingWindowRateLimiter implements RateLimiter {
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisScript<List<Long>> slidingWindowScript;
+
+	/**
+	 * 스크립트에 넘길 정책 하나
+	 * 
+	 * @param key          제한 키
+	 * @param maxCount     윈도우 내 최대 요청 횟수
+	 * @param windowMillis 윈도우 길이(ms)
+	 * @param cost         요청할 횟수. 남은 횟수가 부족하면 남은 만큼만 부여된다.
+	 */
+	public record Quota(String key, int maxCount, long windowMillis, int cost) {
+	}
+
+	/**
+	 * 정책 하나에 대한 스크립트 응답
+	 * 
+	 * @param allowed          전체 정책 허용 여부
+	 * @param remaining        부여 후 남은 횟수
+	 * @param resetAfterMillis 리셋까지 남은 시간(ms)
+	 * @param granted          실제 부여된 횟수
+	 */
+	public record Grant(boolean allowed, long remaining, long resetAfterMillis, int granted) {
+
+		public RateLimitResult toResult() {
+			return new RateLimitResult(allowed, remaining, resetAfterMillis);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public RedisSlidingWindowRateLimiter(RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+
+		DefaultRedisScript script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("redis/sliding_window_rate_limit.lua"));
+		script.setResultType(List.class);
+		this.slidingWindowScript = script;
+	}
+
+	@Override
+	public boolean isAllowed(String key, int maxCount, int timeoutMinutes) {
+		RateLimitResult result = tryAcquire(key, maxCount, timeoutMinutes);
+
+		if (!result.allowed()) {
+			throwTooManyRequests(result);
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean isAllowedAll(Map<RateLimitKeyGenerator, String> policies) {
+		RateLimitResult result = tryAcquireAll(policies);
+
+		if (!result.allowed()) {
+			throwTooManyRequests(result);
+		}
+
+		return true;
+	}
+
+	@Override
+	public RateLimitResult tryAcquire(String key, int maxCount, int timeoutMinutes) {
+		Quota quota = new Quota(key, maxCount, TimeUnit.MINUTES.toMillis(timeoutMinutes), 1);
+
+		RateLimitResult rateLimitResult = acquire(List.of(quota)).get(0).toResult();
+		log.debug("* Limit 조회. key: [{}], allowed: [{}], remaining: [{}], maxCount: [{}], timeoutMinutes: [{}]", key,
+				rateLimitResult.allowed(), rateLimitResult.remaining(), maxCount, timeoutMinutes);
+
+		return rateLimitResult;
+	}
+
+	@Override
+	public RateLimitResult tryAcquireAll(Map<RateLimitKeyGenerator, String> policies) {
+		List<Quota> quotas = new ArrayList<>(policies.size());
+		policies.forEach((policy, id) -> quotas.add(new Quota(policy.key(id), policy.getMaxRequest(),
+				TimeUnit.MINUTES.toMillis(policy.getTimeoutMinutes()), 1)));
+
+		List<RateLimitResult> results = acquire(quotas).stream().map(Grant::toResult).toList();
+		RateLimitResult combined = RateLimitResult.combine(results);
+		log.debug("* Limit 일괄 조회. policies: [{}], allowed: [{}], remaining: [{}]", policies.keySet(),
+				combined.allowed(), combined.remaining());
+
+		return combined;
+	}
+
+	/**
+	 * 여러 정책을 스크립트 한 번으로 검사하고 정책별 부여 결과 반환.
+	 * RedisTemplate.execute는 EVALSHA 우선 시도 후 NOSCRIPT일 때만 EVAL
+	 * 
+	 * @param quotas
+	 * 
+	 * @return quotas와 같은 순서의 정책별 결과
+	 */
+	public List<Grant> acquire(List<Quota> quotas) {
+		List<String> keys = new ArrayList<>(quotas.size());
+		Object[] args = new Object[quotas.size() * 3 + 1];
+		args[0] = UUID.randomUUID().toString();
+
+		for (int i = 0; i < quotas.size(); i++) {
+			Quota quota = quotas.get(i);
+			keys.add(quota.key());
+			args[i * 3 + 1] = String.valueOf(quota.maxCount());
+			args[i * 3 + 2] = String.valueOf(quota.windowMillis());
+			args[i * 3 + 3] = String.valueOf(Math.max(1, quota.cost()));
+		}
+
+		List<Long> result = redisTemplate.execute(slidingWindowScript, keys, args);
+
+		List<Grant> grants = new ArrayList<>(quotas.size());
+		for (int i = 0; i < quotas.size(); i++) {
+			grants.add(toGrant(result, i, quotas.get(i).windowMillis()));
+		}
+		return grants;
+	}
+
+	static Grant toGrant(List<Long> result, int index, long windowMillis) {
+		int offset = 1 + index * 3;
+		if (result == null || result.size() < offset + 3) {
+			throw new IllegalStateException("* 요청 횟수 제한 스크립트 응답 이상. result: " + result);
+		}
+		return new Grant(result.get(0) == 1L, Math.max(0, result.get(offset)),
+				Math.min(windowMillis, Math.max(0, result.get(offset + 1))), result.get(offset + 2).intValue());
+	}
+
+	private void throwTooManyRequests(RateLimitResult result) {
+		String clientIp = CustomRequestContextHolder.getClientIp();
+		log.info("* TooManyRequestsException발생. clientIp: [{}], resetAfterMillis: [{}]", clientIp,
+				result.resetAfterMillis());
+		throw new TooManyRequestsException(TOO_MANY_REQUEST, "요청 횟수 초과.");
+	}
+
+}
@@ -0,0 +1,230 @@
+package net.chamman.moonnight.rate.limiter.impl;
+
+import static net.chamman.moonnight.global.exception.HttpStatusCode.TOO_MANY_REQUEST;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.chamman.moonnight.global.context.CustomRequestContextHolder;
+import net.chamman.moonnight.global.exception.TooManyRequestsException;
+import net.chamman.moonnight.rate.limiter.RateLimitKeyGenerator;
+import net.chamman.moonnight.rate.limiter.RateLimitResult;
+import net.chamman.moonnight.rate.limiter.RateLimiter;
+import net.chamman.moonnight.rate.limiter.impl.RedisSlidingWindowRateLimiter.Grant;
+import net.chamman.moonnight.rate.limiter.impl.RedisSlidingWindowRateLimiter.Quota;
+
+/**
+ * 로컬 토큰 버킷 + Redis 슬라이딩 윈도우 2단계 요청 횟수 제한.
+ * 
+ * <ol>
+ * <li>Redis가 거부한 키는 리셋 시각까지 로컬에서 바로 거부</li>
+ * <li>이 노드의 토큰 버킷이 비었으면 전역으로도 초과이므로 로컬에서 바로 거부</li>
+ * <li>Redis에서 미리 임대 받은 횟수가 남아있으면 로컬에서 바로 허용</li>
+ * <li>그 외(임대분 소진, 임계치 근처)에만 Redis와 동기화하며 다음 임대분을 함께 받는다.</li>
+ * </ol>
+ * Redis 장애 시에는 노드별 토큰 버킷만으로 근사 제한을 유지한다.
+ */
+@Component
+@Primary
+@Slf4j
+public class TwoTierRateLimiter implements RateLimiter {
+
+	private record Policy(String key, int maxCount, long windowMillis) {
+	}
+
+	private final RedisSlidingWindowRateLimiter redisRateLimiter;
+	private final int maxKeys;
+	private final int maxLease;
+
+	private final ConcurrentHashMap<String, LocalRateLimitBucket> buckets = new ConcurrentHashMap<>();
+	private final AtomicBoolean evicting = new AtomicBoolean();
+
+	public TwoTierRateLimiter(RedisSlidingWindowRateLimiter redisRateLimiter,
+			@Value("${rate-limit.local.max-keys:100000}") int maxKeys,
+			@Value("${rate-limit.local.max-lease:5}") int maxLease) {
+		this.redisRateLimiter = redisRateLimiter;
+		this.maxKeys = maxKeys;
+		this.maxLease = maxLease;
+	}
+
+	@Override
+	public boolean isAllowed(String key, int maxCount, int timeoutMinutes) {
+		RateLimitResult result = tryAcquire(key, maxCount, timeoutMinutes);
+
+		if (!result.allowed()) {
+			throwTooManyRequests(result);
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean isAllowedAll(Map<RateLimitKeyGenerator, String> policies) {
+		RateLimitResult result = tryAcquireAll(policies);
+
+		if (!result.allowed()) {
+			throwTooManyRequests(result);
+		}
+
+		return true;
+	}
+
+	@Override
+	public RateLimitResult tryAcquire(String key, int maxCount, int timeoutMinutes) {
+		return acquire(List.of(new Policy(key, maxCount, TimeUnit.MINUTES.toMillis(timeoutMinutes))));
+	}
+
+	@Override
+	public RateLimitResult tryAcquireAll(Map<RateLimitKeyGenerator, String> policies) {
+		List<Policy> list = new ArrayList<>(policies.size());
+		policies.forEach((policy, id) -> list.add(new Policy(policy.key(id), policy.getMaxRequest(),
+				TimeUnit.MINUTES.toMillis(policy.getTimeoutMinutes()))));
+		return acquire(list);
+	}
+
+	@Override
+	public boolean isThrottled(String key) {
+		LocalRateLimitBucket bucket = buckets.get(key);
+		if (bucket == null) {
+			return false;
+		}
+		return bucket.getDeniedUntil() > System.currentTimeMillis() || bucket.millisUntilToken(System.nanoTime()) > 0;
+	}
+
+	private RateLimitResult acquire(List<Policy> policies) {
+		long now = System.currentTimeMillis();
+		long nowNanos = System.nanoTime();
+
+		List<LocalRateLimitBucket> local = new ArrayList<>(policies.size());
+		for (Policy policy : policies) {
+			LocalRateLimitBucket bucket = bucketOf(policy, now);
+			long deniedUntil = bucket.getDeniedUntil();
+			// 1. Redis가 거부한 키
+			if (deniedUntil > now) {
+				log.debug("* Limit 로컬 거부(캐시). key: [{}]", policy.key());
+				return new RateLimitResult(false, 0, deniedUntil - now);
+			}
+			local.add(bucket);
+		}
+
+		// 2. 이 노드만으로 이미 초과
+		for (int i = 0; i < local.size(); i++) {
+			if (!local.get(i).tryConsumeToken(nowNanos)) {
+				for (int j = 0; j < i; j++) {
+					local.get(j).refundToken();
+				}
+				log.debug("* Limit 로컬 거부(토큰 부족). key: [{}]", policies.get(i).key());
+				return new RateLimitResult(false, 0, local.get(i).millisUntilToken(nowNanos));
+			}
+		}
+
+		// 3. 임대분으로 허용 가능한지
+		List<Integer> needSync = new ArrayList<>();
+		List<LocalRateLimitBucket> leaseTaken = new ArrayList<>();
+		for (int i = 0; i < local.size(); i++) {
+			if (local.get(i).tryTakeLease(now)) {
+				leaseTaken.add(local.get(i));
+			} else {
+				needSync.add(i);
+			}
+		}
+		if (needSync.isEmpty()) {
+			return localAllowed(local);
+		}
+
+		// 4. Redis 동기화
+		List<Quota> quotas = new ArrayList<>(needSync.size());
+		for (int i : needSync) {
+			Policy policy = policies.get(i);
+			quotas.add(new Quota(policy.key(), policy.maxCount(), policy.windowMillis(),
+					local.get(i).nextLeaseSize(maxLease)));
+		}
+
+		List<Grant> grants;
+		try {
+			grants = redisRateLimiter.acquire(quotas);
+		} catch (DataAccessException e) {
+			log.warn("* Redis 요청 횟수 제한 실패. 로컬 토큰 버킷 기준으로 허용. keys: [{}], e: [{}]",
+					quotas.stream().map(Quota::key).toList(), e.getMessage());
+			return localAllowed(local);
+		}
+
+		List<RateLimitResult> results = new ArrayList<>(grants.size());
+		for (int i = 0; i < grants.size(); i++) {
+			Grant grant = grants.get(i);
+			local.get(needSync.get(i)).sync(grant.allowed(), grant.remaining(), grant.resetAfterMillis(),
+					grant.granted(), now);
+			results.add(grant.toResult());
+		}
+
+		RateLimitResult combined = RateLimitResult.combine(results);
+		if (!combined.allowed()) {
+			leaseTaken.forEach(LocalRateLimitBucket::refundLease);
+			local.forEach(LocalRateLimitBucket::refundToken);
+		}
+		log.debug("* Limit Redis 동기화. keys: [{}], allowed: [{}], remaining: [{}]",
+				quotas.stream().map(Quota::key).toList(), combined.allowed(), combined.remaining());
+
+		return combined;
+	}
+
+	private RateLimitResult localAllowed(List<LocalRateLimitBucket> local) {
+		long remaining = local.stream().mapToLong(LocalRateLimitBucket::estimatedRemaining).min().orElse(0);
+		return new RateLimitResult(true, remaining, 0);
+	}
+
+	private LocalRateLimitBucket bucketOf(Policy policy, long now) {
+		LocalRateLimitBucket bucket = buckets.get(policy.key());
+		if (bucket == null) {
+			bucket = buckets.computeIfAbsent(policy.key(),
+					k -> new LocalRateLimitBucket(policy.maxCount(), policy.windowMillis(), now));
+			if (buckets.size() > maxKeys) {
+				evict(now);
+			}
+		}
+		bucket.touch(now);
+		return bucket;
+	}
+
+	/**
+	 * 윈도우 이상 사용되지 않은 키부터 정리하고, 그래도 넘치면 임의 순서로 정리. 
+	 * 정리된 키는 다음 요청 때 Redis 기준으로 다시 시작하므로 정확도에는 영향이 없다.
+	 */
+	private void evict(long now) {
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			buckets.values().removeIf(bucket -> bucket.isIdle(now));
+
+			int target = maxKeys - maxKeys / 10;
+			Iterator<String> it = buckets.keySet().iterator();
+			while (buckets.size() > target && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+			log.debug("* 로컬 요청 횟수 제한 키 정리. size: [{}]", buckets.size());
+		} finally {
+			evicting.set(false);
+		}
+	}
+
+	private void throwTooManyRequests(RateLimitResult result) {
+		String clientIp = CustomRequestContextHolder.getClientIp();
+		log.info("* TooManyRequestsException발생. clientIp: [{}], resetAfterMillis: [{}]", clientIp,
+				result.resetAfterMillis());
+		throw new TooManyRequestsException(TOO_MANY_REQUEST, "요청 횟수 초과.");
+	}
+
+}
@@ -0,0 +1,6 @@
+-- 값이 일치할 때만 삭제 (자신이 잡은 락만 해제)
+-- KEYS[1]: key, ARGV[1]: expected value
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,14 @@
+-- 여러 토큰 원자적 조회 후 삭제 (all-or-nothing)
+-- KEYS[i] : i번째 토큰 키
+-- 반환    : 모두 있으면 {value_1, ..., value_n} 후 전부 삭제
+--           하나라도 없으면 {없는 키의 index}, 삭제하지 않음
+local values = {}
+for i, key in ipairs(KEYS) do
+    local value = redis.call('GET', key)
+    if not value then
+        return { i }
+    end
+    values[i] = value
+end
+redis.call('DEL', unpack(KEYS))
+return values
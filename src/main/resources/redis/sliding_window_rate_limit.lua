@@ -0,0 +1,65 @@
+-- 슬라이딩 윈도우 로그 방식 요청 횟수 제한 (다중 정책, all-or-nothing)
+-- KEYS[i]      : i번째 정책의 제한 키
+-- ARGV[1]      : 동일 ms 요청 구분용 멤버 suffix
+-- ARGV[3i - 1] : i번째 정책의 윈도우 내 최대 요청 횟수
+-- ARGV[3i]     : i번째 정책의 윈도우 길이 (ms)
+-- ARGV[3i + 1] : i번째 정책에서 요청할 횟수 (로컬 임대분 포함, 1 이상)
+-- return       : { 전체 허용 여부(1/0), 1번 남은 횟수, 1번 리셋까지 남은 시간(ms), 1번 부여 횟수, 2번 남은 횟수, ... }
+-- 하나라도 남은 횟수가 없으면 어떤 키에도 기록하지 않는다. 
+-- 남은 횟수가 요청 횟수보다 적으면 남은 만큼만 부여한다.
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local member = now .. '-' .. ARGV[1]
+
+local counts = {}
+local allowed = 1
+
+for i = 1, #KEYS do
+	local key = KEYS[i]
+	local limit = tonumber(ARGV[3 * i - 1])
+	local window = tonumber(ARGV[3 * i])
+
+	-- 기존 고정 윈도우(INCR) 방식의 String 키가 남아있으면 정리
+	local keyType = redis.call('TYPE', key).ok
+	if keyType ~= 'zset' and keyType ~= 'none' then
+		redis.call('DEL', key)
+	end
+
+	redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+	counts[i] = redis.call('ZCARD', key)
+	if counts[i] >= limit then
+		allowed = 0
+	end
+end
+
+local result = { allowed }
+
+for i = 1, #KEYS do
+	local key = KEYS[i]
+	local limit = tonumber(ARGV[3 * i - 1])
+	local window = tonumber(ARGV[3 * i])
+	local cost = tonumber(ARGV[3 * i + 1])
+
+	local granted = 0
+	if allowed == 1 then
+		granted = math.min(cost, limit - counts[i])
+		for j = 1, granted do
+			redis.call('ZADD', key, now, member .. '-' .. j)
+		end
+		counts[i] = counts[i] + granted
+	end
+	redis.call('PEXPIRE', key, window)
+
+	local resetAfter = window
+	local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+	if oldest[2] then
+		resetAfter = tonumber(oldest[2]) + window - now
+	end
+
+	result[#result + 1] = limit - counts[i]
+	result[#result + 1] = resetAfter
+	result[#result + 1] = granted
+end
+
+return result
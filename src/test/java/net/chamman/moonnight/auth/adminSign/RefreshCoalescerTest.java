@@ -0,0 +1,78 @@
+package net.chamman.moonnight.auth.adminSign;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import net.chamman.moonnight.auth.crypto.AesProvider;
+
+class RefreshCoalescerTest {
+
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+	private final RefreshCoalescer coalescer = new RefreshCoalescer(redisTemplate,
+			new AesProvider("test-aes-secret-0123456789"), 3000, 10000);
+
+	@Test
+	void 동시_재발급은_한번만_실행() throws Exception {
+		// Redis 장애여도 노드 내 합치기는 동작
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Map<String, String>>> results = new ArrayList<>();
+			results.add(executor.submit(() -> coalescer.refresh("refresh-token", () -> {
+				calls.incrementAndGet();
+				started.countDown();
+				await(release);
+				return Map.of("accessToken", "a2", "refreshToken", "r2");
+			})));
+			started.await();
+			for (int i = 0; i < 7; i++) {
+				results.add(executor.submit(() -> coalescer.refresh("refresh-token", () -> {
+					calls.incrementAndGet();
+					return Map.of("accessToken", "other", "refreshToken", "other");
+				})));
+			}
+			Thread.sleep(100);
+			release.countDown();
+
+			for (Future<Map<String, String>> result : results) {
+				assertEquals("a2", result.get().get("accessToken"));
+			}
+			assertEquals(1, calls.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
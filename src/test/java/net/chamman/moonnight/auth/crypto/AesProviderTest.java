@@ -0,0 +1,79 @@
+package net.chamman.moonnight.auth.crypto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+import net.chamman.moonnight.global.exception.crypto.DecryptException;
+
+class AesProviderTest {
+
+	private static final String SECRET = "test-aes-secret-0123456789";
+	private static final String KEY_V1 = Base64.getEncoder().encodeToString(new byte[32]);
+	private static final String KEY_V2 = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+
+	@Test
+	void 암호화_복호화() {
+		AesProvider aesProvider = new AesProvider(SECRET);
+
+		String encrypted = aesProvider.encrypt("010-1234-5678");
+
+		assertTrue(encrypted.startsWith("v1:"));
+		assertEquals("010-1234-5678", aesProvider.decrypt(encrypted));
+	}
+
+	@Test
+	void 이전_CBC_암호문_복호화() throws Exception {
+		byte[] iv = new byte[16];
+		Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+		cipher.init(Cipher.ENCRYPT_MODE,
+				new SecretKeySpec(SECRET.substring(0, 16).getBytes(StandardCharsets.UTF_8), "AES"),
+				new IvParameterSpec(iv));
+		byte[] encrypted = cipher.doFinal("관리자".getBytes(StandardCharsets.UTF_8));
+		byte[] combined = new byte[iv.length + encrypted.length];
+		System.arraycopy(encrypted, 0, combined, iv.length, encrypted.length);
+
+		assertEquals("관리자", new AesProvider(SECRET).decrypt(Base64.getEncoder().encodeToString(combined)));
+	}
+
+	@Test
+	void 키_교체_후_이전_버전_복호화() {
+		AesProvider before = new AesProvider(SECRET, "v1:" + KEY_V1, "v1");
+		AesProvider after = new AesProvider(SECRET, "v1:" + KEY_V1 + ",v2:" + KEY_V2, "v2");
+
+		String old = before.encrypt("admin@example.com");
+
+		assertEquals("admin@example.com", after.decrypt(old));
+		assertTrue(after.encrypt("x").startsWith("v2:"));
+		assertThrows(DecryptException.class, () -> before.decrypt(after.encrypt("x")));
+	}
+
+	@Test
+	void 이전_형식_쓰기_설정이면_이전_노드가_읽는_CBC_형식으로_암호화() throws Exception {
+		AesProvider aesProvider = new AesProvider(SECRET, "", "", true);
+
+		String encrypted = aesProvider.encrypt("010-1234-5678");
+
+		assertTrue(encrypted.indexOf(':') < 0);
+		assertEquals("010-1234-5678", aesProvider.decrypt(encrypted));
+		assertEquals("010-1234-5678", new AesProvider(SECRET).decrypt(encrypted));
+
+		// 이전 노드의 복호화 (base64(iv + CBC 암호문))
+		byte[] decoded = Base64.getDecoder().decode(encrypted);
+		Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+		cipher.init(Cipher.DECRYPT_MODE,
+				new SecretKeySpec(SECRET.substring(0, 16).getBytes(StandardCharsets.UTF_8), "AES"),
+				new IvParameterSpec(decoded, 0, 16));
+		assertEquals("010-1234-5678",
+				new String(cipher.doFinal(decoded, 16, decoded.length - 16), StandardCharsets.UTF_8));
+	}
+}
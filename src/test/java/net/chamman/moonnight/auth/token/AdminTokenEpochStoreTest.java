@@ -0,0 +1,63 @@
+package net.chamman.moonnight.auth.token;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AdminTokenEpochStoreTest {
+
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+	private final AdminTokenEpochStore store = new AdminTokenEpochStore(redisTemplate, 60_000);
+
+	@AfterEach
+	void clear() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void 트랜잭션_안에서는_커밋_후에_세대_증가() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.increment("jwt:epoch:1")).thenReturn(1L);
+		TransactionSynchronizationManager.initSynchronization();
+
+		store.bumpAfterCommit(1);
+		verify(valueOperations, never()).increment("jwt:epoch:1");
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(valueOperations).increment("jwt:epoch:1");
+	}
+
+	@Test
+	void 롤백되면_세대_유지() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		store.bumpAfterCommit(1);
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		verify(redisTemplate, never()).opsForValue();
+	}
+
+	@Test
+	void 트랜잭션_밖에서는_즉시_세대_증가() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.increment("jwt:epoch:1")).thenReturn(1L);
+
+		store.bumpAfterCommit(1);
+
+		verify(valueOperations).increment("jwt:epoch:1");
+	}
+}
@@ -0,0 +1,81 @@
+package net.chamman.moonnight.auth.token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import net.chamman.moonnight.auth.crypto.AesProvider;
+import net.chamman.moonnight.auth.crypto.JwtEnvelopeCipher;
+import net.chamman.moonnight.global.exception.jwt.ValidateJwtException;
+
+class JwtProviderTest {
+
+	private static final String AES_SECRET = "test-aes-secret-0123456789";
+	private static final String ACCESS_SECRET = "test-access-secret-0123456789-0123456789";
+	private static final String REFRESH_SECRET = "test-refresh-secret-0123456789-012345678";
+	private static final String AUTH_SECRET = "test-auth-secret-0123456789-0123456789ab";
+
+	private final AesProvider aesProvider = new AesProvider(AES_SECRET);
+	private final JwtProvider jwtProvider = new JwtProvider(aesProvider, new JwtEnvelopeCipher(AES_SECRET, "", ""),
+			ACCESS_SECRET, REFRESH_SECRET, AUTH_SECRET);
+
+	@Test
+	void envelope_액세스토큰_발급_검증() {
+		String accessToken = jwtProvider
+				.createSignToken(7, List.of("ROLE_ADMIN"), Map.of("email", "admin@example.com", "name", "관리자"))
+				.get("accessToken");
+
+		Map<String, Object> claims = jwtProvider.validateAccessToken(accessToken);
+
+		assertEquals("7", claims.get("subject"));
+		assertEquals("admin@example.com", claims.get("email"));
+		assertEquals("관리자", claims.get("name"));
+		assertEquals(List.of("ROLE_ADMIN"), claims.get("roles"));
+		assertFalse(claims.containsKey("enc"));
+	}
+
+	@Test
+	void 이전_claim별_암호화_토큰도_검증() {
+		String legacyToken = Jwts.builder()
+				.setSubject(aesProvider.encrypt("7"))
+				.setIssuedAt(new Date())
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.signWith(Keys.hmacShaKeyFor(ACCESS_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+				.claim("email", aesProvider.encrypt("admin@example.com"))
+				.claim("roles", List.of("ROLE_ADMIN"))
+				.compact();
+
+		Map<String, Object> claims = jwtProvider.validateAccessToken(legacyToken);
+
+		assertEquals("7", claims.get("subject"));
+		assertEquals("admin@example.com", claims.get("email"));
+	}
+
+	@Test
+	void 다른_종류_토큰의_envelope는_복호화_불가() {
+		String authToken = jwtProvider.createAuthToken("3", "010-1234-5678");
+		assertEquals("010-1234-5678", jwtProvider.validateAuthToken(authToken).get("recipient"));
+
+		// auth 토큰 payload를 access 키로 다시 서명해도 AAD가 달라 실패
+		String[] parts = authToken.split("\\.");
+		String body = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+		String forged = Jwts.builder()
+				.setHeaderParam("kid", "k1")
+				.setPayload(body)
+				.signWith(Keys.hmacShaKeyFor(ACCESS_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+				.compact();
+
+		assertThrows(ValidateJwtException.class, () -> jwtProvider.validateAccessToken(forged));
+	}
+}
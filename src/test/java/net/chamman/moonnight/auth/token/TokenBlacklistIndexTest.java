@@ -0,0 +1,99 @@
+package net.chamman.moonnight.auth.token;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import net.chamman.moonnight.global.util.TokenHashUtil;
+
+class TokenBlacklistIndexTest {
+
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+	private final TokenBlacklistIndex index = new TokenBlacklistIndex(redisTemplate);
+
+	@Test
+	void 첫_동기화_전에는_항상_Redis_조회() {
+		assertTrue(index.mightContain("token-a"));
+	}
+
+	@Test
+	void 동기화_후_없는_토큰은_미스_추가하면_적중_제거하면_미스() {
+		scan(List.of());
+		index.resync();
+
+		assertFalse(index.mightContain("token-a"));
+
+		index.add("token-a", 60_000);
+		assertTrue(index.mightContain("token-a"));
+
+		index.remove("token-a");
+		assertFalse(index.mightContain("token-a"));
+	}
+
+	@Test
+	void SCAN으로_Redis_키를_반영하고_사라진_키는_제거() {
+		scan(List.of(TokenProvider.TokenType.JWT_BLACKLIST.getPrefix() + "token-a"));
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(60_000L));
+		index.resync();
+		assertTrue(index.mightContain("token-a"));
+
+		scan(List.of());
+		index.resync();
+		assertFalse(index.mightContain("token-a"));
+	}
+
+	@Test
+	void 다른_노드의_메시지를_반영() {
+		scan(List.of());
+		index.resync();
+
+		String key = TokenHashUtil.sha256("token-a");
+		index.onMessage(message("+" + key + " " + (System.currentTimeMillis() + 60_000)), null);
+		assertTrue(index.mightContain("token-a"));
+
+		index.onMessage(message("-" + key), null);
+		assertFalse(index.mightContain("token-a"));
+	}
+
+	@Test
+	void 동기화_실패시_Redis_직접_조회로_전환() {
+		scan(List.of());
+		index.resync();
+		assertFalse(index.mightContain("token-a"));
+
+		when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new RedisConnectionFailureException("down"));
+		index.resync();
+		assertTrue(index.mightContain("token-a"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void scan(List<String> keys) {
+		Cursor<String> cursor = mock(Cursor.class);
+		doAnswer(invocation -> {
+			keys.forEach(invocation.<Consumer<String>>getArgument(0));
+			return null;
+		}).when(cursor).forEachRemaining(any());
+		when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(TokenBlacklistIndex.CHANNEL.getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,173 @@
+package net.chamman.moonnight.auth.token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import net.chamman.moonnight.auth.crypto.AesProvider;
+import net.chamman.moonnight.auth.crypto.Encryptable;
+import net.chamman.moonnight.auth.token.TokenProvider.ConsumedTokens;
+import net.chamman.moonnight.auth.token.TokenProvider.TokenType;
+import net.chamman.moonnight.auth.token.codec.BinaryTokenPayloadCodec;
+import net.chamman.moonnight.auth.token.dto.AdminSignUpTokenDto;
+import net.chamman.moonnight.auth.token.dto.VerificationPhoneTokenDto;
+import net.chamman.moonnight.global.exception.token.IllegalTokenException;
+import net.chamman.moonnight.global.exception.token.NoSuchTokenException;
+import net.chamman.moonnight.global.security.principal.VerifiedTokenCache;
+
+/**
+ * Redis가 없는 환경이므로 GETDEL과 redis/getdel_all.lua의 응답 형식을 메모리 저장소로 흉내 낸다.
+ */
+class TokenProviderTest {
+
+	// Redis 키 -> 저장 값
+	private final Map<String, byte[]> store = new ConcurrentHashMap<>();
+	private final BinaryTokenPayloadCodec codec = new BinaryTokenPayloadCodec(
+			new AesProvider("test-aes-secret-0123456789"), false);
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+	private final TokenProvider tokenProvider = new TokenProvider(redisTemplate, new VerifiedTokenCache(10),
+			new TokenBlacklistIndex(redisTemplate), codec);
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+		when(stringCommands.getDel(any(byte[].class)))
+				.thenAnswer(invocation -> store.remove(new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8)));
+		RedisConnection connection = mock(RedisConnection.class);
+		when(connection.stringCommands()).thenReturn(stringCommands);
+		when(redisTemplate.execute(any(RedisCallback.class)))
+				.thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+
+		when(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+				anyList()))
+				.thenAnswer(invocation -> getDelAll(invocation.<List<String>>getArgument(3)));
+	}
+
+	@Test
+	void 토큰_사용_후_재사용하면_없는_토큰() {
+		save(TokenType.VERIFICATION_PHONE, "token-a", new VerificationPhoneTokenDto("12", "01012345678"));
+
+		VerificationPhoneTokenDto dto = tokenProvider.consumeDecryptedTokenDto(TokenType.VERIFICATION_PHONE, "token-a");
+
+		assertEquals("01012345678", dto.getPhone());
+		assertThrows(NoSuchTokenException.class,
+				() -> tokenProvider.consumeDecryptedTokenDto(TokenType.VERIFICATION_PHONE, "token-a"));
+		assertThrows(IllegalTokenException.class,
+				() -> tokenProvider.consumeDecryptedTokenDto(TokenType.VERIFICATION_PHONE, " "));
+	}
+
+	@Test
+	void 동시에_같은_토큰을_사용하면_한번만_성공() throws Exception {
+		save(TokenType.VERIFICATION_PHONE, "token-a", new VerificationPhoneTokenDto("12", "01012345678"));
+
+		int threads = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					try {
+						tokenProvider.consumeDecryptedTokenDto(TokenType.VERIFICATION_PHONE, "token-a");
+						return true;
+					} catch (NoSuchTokenException e) {
+						return false;
+					}
+				}));
+			}
+			start.countDown();
+
+			int succeeded = 0;
+			for (Future<Boolean> result : results) {
+				succeeded += result.get() ? 1 : 0;
+			}
+			assertEquals(1, succeeded);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void 일괄_사용은_모두_있으면_전부_삭제() {
+		save(TokenType.VERIFICATION_PHONE, "token-a", new VerificationPhoneTokenDto("12", "01012345678"));
+		save(TokenType.ACCESS_SIGNUP, "token-b", new AdminSignUpTokenDto("admin@example.com", "비밀번호!"));
+
+		Map<TokenType, String> tokens = new LinkedHashMap<>();
+		tokens.put(TokenType.VERIFICATION_PHONE, "token-a");
+		tokens.put(TokenType.ACCESS_SIGNUP, "token-b");
+		ConsumedTokens consumed = tokenProvider.consumeDecryptedTokenDtos(tokens);
+
+		VerificationPhoneTokenDto phone = consumed.get(TokenType.VERIFICATION_PHONE);
+		AdminSignUpTokenDto signUp = consumed.get(TokenType.ACCESS_SIGNUP);
+		assertEquals("01012345678", phone.getPhone());
+		assertEquals("admin@example.com", signUp.getEmail());
+		assertTrue(store.isEmpty());
+	}
+
+	@Test
+	void 일괄_사용은_하나라도_없으면_삭제하지_않음() {
+		save(TokenType.VERIFICATION_PHONE, "token-a", new VerificationPhoneTokenDto("12", "01012345678"));
+
+		Map<TokenType, String> tokens = new LinkedHashMap<>();
+		tokens.put(TokenType.VERIFICATION_PHONE, "token-a");
+		tokens.put(TokenType.ACCESS_SIGNUP, "token-b");
+
+		NoSuchTokenException e = assertThrows(NoSuchTokenException.class,
+				() -> tokenProvider.consumeDecryptedTokenDtos(tokens));
+		assertTrue(e.getMessage().contains(TokenType.ACCESS_SIGNUP.name()));
+		assertEquals(1, store.size());
+	}
+
+	@Test
+	void 일괄_사용_스크립트_존재() {
+		assertTrue(new ClassPathResource("redis/getdel_all.lua").exists());
+	}
+
+	private <T extends Encryptable<T>> void save(TokenType tokenType, String token, T dto) {
+		store.put(tokenType.getPrefix() + token, codec.encode(tokenType, dto));
+	}
+
+	/**
+	 * getdel_all.lua와 같은 응답. 모두 있으면 값 목록 후 삭제, 하나라도 없으면 {없는 키의 index(1부터)}
+	 */
+	private synchronized List<Object> getDelAll(List<String> keys) {
+		List<Object> values = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			byte[] value = store.get(keys.get(i));
+			if (value == null) {
+				return List.of((long) (i + 1));
+			}
+			values.add(value);
+		}
+		keys.forEach(store::remove);
+		return values;
+	}
+}
@@ -0,0 +1,56 @@
+package net.chamman.moonnight.auth.token.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import net.chamman.moonnight.auth.crypto.AesProvider;
+import net.chamman.moonnight.auth.token.TokenProvider.TokenType;
+import net.chamman.moonnight.auth.token.dto.AdminSignUpTokenDto;
+import net.chamman.moonnight.auth.token.dto.VerificationPhoneTokenDto;
+import net.chamman.moonnight.global.exception.crypto.DecryptException;
+
+class BinaryTokenPayloadCodecTest {
+
+	private final AesProvider aesProvider = new AesProvider("test-aes-secret-0123456789");
+	private final BinaryTokenPayloadCodec codec = new BinaryTokenPayloadCodec(aesProvider, false);
+
+	@Test
+	void 바이너리_저장_후_복원() {
+		byte[] stored = codec.encode(TokenType.ACCESS_SIGNUP, new AdminSignUpTokenDto("admin@example.com", "비밀번호!"));
+
+		AdminSignUpTokenDto dto = codec.decode(TokenType.ACCESS_SIGNUP, stored);
+
+		assertEquals("admin@example.com", dto.getEmail());
+		assertEquals("비밀번호!", dto.getRawPassword());
+	}
+
+	@Test
+	void null_필드_유지() {
+		byte[] stored = codec.encode(TokenType.VERIFICATION_PHONE, new VerificationPhoneTokenDto("12", null));
+
+		VerificationPhoneTokenDto dto = codec.decode(TokenType.VERIFICATION_PHONE, stored);
+
+		assertEquals("12", dto.getVerificationId());
+		assertNull(dto.getPhone());
+	}
+
+	@Test
+	void 이전_JSON_형식_읽기() {
+		byte[] legacy = new JsonTokenPayloadCodec(aesProvider).encode(TokenType.VERIFICATION_PHONE,
+				new VerificationPhoneTokenDto("12", "010-1234-5678"));
+
+		VerificationPhoneTokenDto dto = codec.decode(TokenType.VERIFICATION_PHONE, legacy);
+
+		assertEquals("010-1234-5678", dto.getPhone());
+	}
+
+	@Test
+	void 다른_TokenType으로_읽으면_실패() {
+		byte[] stored = codec.encode(TokenType.VERIFICATION_PHONE, new VerificationPhoneTokenDto("12", "010-1234-5678"));
+
+		assertThrows(DecryptException.class, () -> codec.decode(TokenType.VERIFICATION_EMAIL, stored));
+	}
+}
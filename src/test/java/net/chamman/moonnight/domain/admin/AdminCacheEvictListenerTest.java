@@ -0,0 +1,53 @@
+package net.chamman.moonnight.domain.admin;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AdminCacheEvictListenerTest {
+
+	private final AdminStatusCache adminStatusCache = mock(AdminStatusCache.class);
+	private final AdminCacheEvictListener listener = new AdminCacheEvictListener(adminStatusCache);
+	private final Admin admin = Admin.builder().adminId(1).build();
+
+	@AfterEach
+	void clear() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void 트랜잭션_안에서는_커밋_후에_제거() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		listener.onChange(admin);
+		verify(adminStatusCache, never()).evict(1);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(adminStatusCache).evict(1);
+	}
+
+	@Test
+	void 롤백되면_제거하지_않음() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		listener.onChange(admin);
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		verify(adminStatusCache, never()).evict(1);
+	}
+
+	@Test
+	void 트랜잭션_밖에서는_즉시_제거() {
+		listener.onChange(admin);
+
+		verify(adminStatusCache).evict(1);
+	}
+}
@@ -0,0 +1,71 @@
+package net.chamman.moonnight.domain.admin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import net.chamman.moonnight.domain.admin.Admin.AdminStatus;
+
+class AdminStatusCacheTest {
+
+	private final AdminRepository adminRepository = mock(AdminRepository.class);
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+	private final AdminStatusCache cache = new AdminStatusCache(adminRepository, redisTemplate, 60_000);
+
+	@Test
+	void 캐시_적중시_DB_조회_안함() {
+		when(adminRepository.findAdminStatusByAdminId(1)).thenReturn(Optional.of(AdminStatus.ACTIVE));
+
+		assertEquals(AdminStatus.ACTIVE, cache.getStatus(1));
+		assertEquals(AdminStatus.ACTIVE, cache.getStatus(1));
+
+		verify(adminRepository, times(1)).findAdminStatusByAdminId(1);
+	}
+
+	@Test
+	void 제거_후_다시_조회() {
+		when(adminRepository.findAdminStatusByAdminId(1)).thenReturn(Optional.of(AdminStatus.ACTIVE))
+				.thenReturn(Optional.of(AdminStatus.STOP));
+		cache.getStatus(1);
+
+		cache.evict(1);
+
+		assertEquals(AdminStatus.STOP, cache.getStatus(1));
+		verify(redisTemplate).convertAndSend(AdminStatusCache.CHANNEL, "1");
+	}
+
+	@Test
+	void 조회_중_제거되면_조회한_값을_캐시하지_않음() {
+		// 이전 값을 읽은 직후 다른 트랜잭션이 커밋하고 제거
+		when(adminRepository.findAdminStatusByAdminId(1)).thenAnswer(invocation -> {
+			cache.evict(1);
+			return Optional.of(AdminStatus.ACTIVE);
+		}).thenReturn(Optional.of(AdminStatus.STOP));
+
+		assertEquals(AdminStatus.ACTIVE, cache.getStatus(1));
+
+		assertEquals(AdminStatus.STOP, cache.getStatus(1));
+	}
+
+	@Test
+	void 다른_노드의_제거_메시지_반영() {
+		when(adminRepository.findAdminStatusByAdminId(1)).thenReturn(Optional.of(AdminStatus.ACTIVE))
+				.thenReturn(Optional.of(AdminStatus.STOP));
+		cache.getStatus(1);
+
+		cache.onMessage(new DefaultMessage(AdminStatusCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+				"1".getBytes(StandardCharsets.UTF_8)), null);
+
+		assertEquals(AdminStatus.STOP, cache.getStatus(1));
+	}
+}
@@ -0,0 +1,67 @@
+package net.chamman.moonnight.global.aop;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+
+import net.chamman.moonnight.domain.admin.AdminService;
+import net.chamman.moonnight.global.exception.ForbiddenException;
+
+class AdminAuthAspectTest {
+
+	private final AdminService adminService = mock(AdminService.class);
+	private final AdminAuthAspect aspect = new AdminAuthAspect(adminService);
+
+	@Test
+	void adminId_위치는_메서드별로_한번만_계산() throws Exception {
+		MethodSignature signature = signature(Target.class.getMethod("withAdminId", String.class, int.class),
+				new String[] { "title", "adminId" }, new Class<?>[] { String.class, int.class });
+
+		aspect.verifyAdmin(joinPoint(signature, "제목", 7), null);
+		aspect.verifyAdmin(joinPoint(signature, "제목", 8), null);
+
+		verify(adminService).validateActiveAdmin(7);
+		verify(adminService).validateActiveAdmin(8);
+		verify(signature, times(1)).getParameterNames();
+	}
+
+	@Test
+	void adminId_파라미터가_없으면_거부() throws Exception {
+		MethodSignature signature = signature(Target.class.getMethod("withoutAdminId", int.class),
+				new String[] { "questionId" }, new Class<?>[] { int.class });
+
+		assertThrows(ForbiddenException.class, () -> aspect.verifyAdmin(joinPoint(signature, 1), null));
+	}
+
+	private static MethodSignature signature(Method method, String[] names, Class<?>[] types) {
+		MethodSignature signature = mock(MethodSignature.class);
+		when(signature.getMethod()).thenReturn(method);
+		when(signature.getParameterNames()).thenReturn(names);
+		when(signature.getParameterTypes()).thenReturn(types);
+		return signature;
+	}
+
+	private static JoinPoint joinPoint(MethodSignature signature, Object... args) {
+		JoinPoint joinPoint = mock(JoinPoint.class);
+		when(joinPoint.getSignature()).thenReturn(signature);
+		when(joinPoint.getArgs()).thenReturn(args);
+		return joinPoint;
+	}
+
+	static class Target {
+
+		public void withAdminId(String title, int adminId) {
+		}
+
+		public void withoutAdminId(int questionId) {
+		}
+	}
+}
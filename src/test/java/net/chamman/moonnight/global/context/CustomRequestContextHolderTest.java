@@ -0,0 +1,50 @@
+package net.chamman.moonnight.global.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+class CustomRequestContextHolderTest {
+
+	@Test
+	void X_Client_Type_판별() {
+		assertTrue(RequestContext.isMobileClientType("mobile"));
+		assertTrue(RequestContext.isMobileClientType(" Mobile-iOS "));
+		assertFalse(RequestContext.isMobileClientType("web"));
+		assertFalse(RequestContext.isMobileClientType("not-mobile"));
+		assertFalse(RequestContext.isMobileClientType(null));
+	}
+
+	@Test
+	void 실행_범위_동안만_바인딩() throws Exception {
+		RequestContext outer = new RequestContext("10.0.0.1", false);
+		RequestContext inner = new RequestContext("10.0.0.2", true);
+
+		CustomRequestContextHolder.runWith(outer, () -> {
+			CustomRequestContextHolder.runWith(inner, () -> assertEquals("10.0.0.2", CustomRequestContextHolder.getClientIp()));
+			assertEquals("10.0.0.1", CustomRequestContextHolder.getClientIp());
+		});
+		assertNull(CustomRequestContextHolder.get());
+		assertFalse(CustomRequestContextHolder.isMobileApp());
+	}
+
+	@Test
+	void wrap으로_다른_스레드에_전달() throws Exception {
+		ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+		try {
+			RequestContext context = new RequestContext("10.0.0.3", true);
+			String[] seen = new String[1];
+			CustomRequestContextHolder.runWith(context, () -> executor.submit(
+					CustomRequestContextHolder.wrap(() -> seen[0] = CustomRequestContextHolder.getClientIp())).get());
+			assertEquals("10.0.0.3", seen[0]);
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
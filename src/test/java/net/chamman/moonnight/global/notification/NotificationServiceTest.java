@@ -0,0 +1,94 @@
+package net.chamman.moonnight.global.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.Charset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import net.chamman.moonnight.infra.email.EmailSender;
+import net.chamman.moonnight.infra.sms.SmsSender;
+
+class NotificationServiceTest {
+
+	private final SmsSender smsSender = mock(SmsSender.class);
+	private final EmailSender emailSender = mock(EmailSender.class);
+	private NotificationService notificationService;
+
+	@BeforeEach
+	void setUp() {
+		notificationService = new NotificationService(smsSender, emailSender, new TaskExecutorAdapter(Runnable::run),
+				10, 600_000, 6, 30);
+		ReflectionTestUtils.setField(notificationService, "adminPhone", "01000000000");
+		ReflectionTestUtils.setField(notificationService, "adminEmail", "admin@example.com");
+		when(smsSender.sendSms(anyString(), anyString())).thenReturn(202);
+		when(emailSender.sendEmail(anyString(), anyString(), anyString())).thenReturn(200);
+	}
+
+	@Test
+	void 같은_알람은_한_건으로_합쳐_발송() {
+		for (int i = 0; i < 50; i++) {
+			notificationService.sendAdminAlert("S3 오류");
+		}
+		notificationService.flush();
+
+		// 큐 크기 10 초과분은 누락 건수로 요약
+		verify(smsSender, times(1)).sendSms(eq("01000000000"), anyString());
+		verify(emailSender, times(1)).sendEmail(eq("admin@example.com"), anyString(),
+				eq("[서버 알람 1종 10건]\n- 10건: S3 오류\n- 큐 초과로 누락: 40건"));
+	}
+
+	@Test
+	void 최근_보낸_알람만_반복되면_문자_생략() {
+		notificationService.sendAdminAlert("S3 오류");
+		notificationService.flush();
+		notificationService.sendAdminAlert("S3 오류");
+		notificationService.flush();
+
+		verify(smsSender, times(1)).sendSms(anyString(), anyString());
+		verify(emailSender, times(2)).sendEmail(anyString(), anyString(), eq("S3 오류"));
+	}
+
+	@Test
+	void 알람이_없으면_발송하지_않음() {
+		notificationService.flush();
+
+		verify(smsSender, never()).sendSms(anyString(), anyString());
+		verify(emailSender, never()).sendEmail(anyString(), anyString(), anyString());
+	}
+
+	@Test
+	void 한글_문자는_EUC_KR_80바이트로_자름() {
+		notificationService.sendAdminAlert("S3 이미지 롤백 중 심각한 오류 발생! 삭제 대상 경로를 확인하고 수동으로 정리해야 합니다. 견적 번호 확인 필요");
+		notificationService.flush();
+
+		ArgumentCaptor<String> sms = ArgumentCaptor.forClass(String.class);
+		verify(smsSender).sendSms(eq("01000000000"), sms.capture());
+		int bytes = sms.getValue().getBytes(Charset.forName("EUC-KR")).length;
+		assertTrue(bytes <= 80 && bytes >= 79, "bytes: " + bytes);
+	}
+
+	@Test
+	void 바이트_한도_안이면_그대로_두고_글자_중간에서_자르지_않음() {
+		assertEquals("짧은 알람", NotificationService.truncateSms("짧은 알람"));
+
+		// 한글 41자 = 82바이트 -> 40자
+		String hangul = "가".repeat(41);
+		assertEquals("가".repeat(40), NotificationService.truncateSms(hangul));
+
+		// 1바이트 + 한글: 79바이트 뒤 한글은 들어가지 않음
+		assertEquals("a" + "가".repeat(39), NotificationService.truncateSms("a" + "가".repeat(40)));
+	}
+}
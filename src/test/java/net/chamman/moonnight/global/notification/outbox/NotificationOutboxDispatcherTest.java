@@ -0,0 +1,122 @@
+package net.chamman.moonnight.global.notification.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import net.chamman.moonnight.global.notification.outbox.NotificationOutbox.Channel;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutbox.OutboxStatus;
+import net.chamman.moonnight.infra.email.EmailSender;
+import net.chamman.moonnight.infra.sms.SmsSender;
+
+/**
+ * 임베디드 DB가 없어 저장소는 대체 객체로 두고, 선점 조건(최대 시도, 배치 크기)이 조회에 전달되는지와
+ * 선점된 행의 상태 변화를 확인한다.
+ */
+class NotificationOutboxDispatcherTest {
+
+	private static final int BATCH_SIZE = 2;
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final NotificationOutboxRepository repository = mock(NotificationOutboxRepository.class);
+	private final SmsSender smsSender = mock(SmsSender.class);
+	private final List<Runnable> submitted = new ArrayList<>();
+
+	@Test
+	void 선점시_시도_횟수_증가_후_발송() {
+		NotificationOutbox outbox = outbox(OutboxStatus.PENDING, 0);
+		when(repository.findDispatchable(any(), any(), anyInt(), any())).thenReturn(List.of(outbox))
+				.thenReturn(List.of());
+		when(smsSender.sendSmsBatch(anyList())).thenReturn(202);
+
+		dispatcher(Runnable::run).wakeUp();
+
+		assertEquals(OutboxStatus.SENT, outbox.getOutboxStatus());
+		assertEquals(1, outbox.getAttempts());
+		verify(repository).findDispatchable(any(), any(), eq(MAX_ATTEMPTS), eq(PageRequest.ofSize(BATCH_SIZE)));
+	}
+
+	@Test
+	void lease_만료로_다시_선점된_행도_시도_횟수_증가() {
+		// 이전 노드가 선점 후 결과를 기록하지 못한 행
+		NotificationOutbox outbox = outbox(OutboxStatus.SENDING, 1);
+		when(repository.findDispatchable(any(), any(), anyInt(), any())).thenReturn(List.of(outbox))
+				.thenReturn(List.of());
+		when(smsSender.sendSmsBatch(anyList())).thenReturn(500);
+
+		dispatcher(Runnable::run).wakeUp();
+
+		assertEquals(2, outbox.getAttempts());
+		assertEquals(OutboxStatus.PENDING, outbox.getOutboxStatus());
+		verify(repository).failExpiredLeases(any(), eq(MAX_ATTEMPTS));
+	}
+
+	@Test
+	void 마지막_시도가_실패하면_최종_실패() {
+		NotificationOutbox outbox = outbox(OutboxStatus.PENDING, MAX_ATTEMPTS - 1);
+		when(repository.findDispatchable(any(), any(), anyInt(), any())).thenReturn(List.of(outbox))
+				.thenReturn(List.of());
+		when(smsSender.sendSmsBatch(anyList())).thenReturn(500);
+
+		dispatcher(Runnable::run).wakeUp();
+
+		assertEquals(MAX_ATTEMPTS, outbox.getAttempts());
+		assertEquals(OutboxStatus.FAILED, outbox.getOutboxStatus());
+	}
+
+	@Test
+	void 가득_찬_배치면_다음_배치_조회() {
+		when(repository.findDispatchable(any(), any(), anyInt(), any())).thenReturn(
+				List.of(outbox(OutboxStatus.PENDING, 0), outbox(OutboxStatus.PENDING, 0)))
+				.thenReturn(List.of(outbox(OutboxStatus.PENDING, 0)));
+		when(smsSender.sendSmsBatch(anyList())).thenReturn(202);
+
+		dispatcher(Runnable::run).wakeUp();
+
+		verify(repository, times(2)).findDispatchable(any(), any(), anyInt(), any());
+		verify(smsSender, times(2)).sendSmsBatch(anyList());
+	}
+
+	@Test
+	void 주기_확인은_실행기에서_발송() {
+		when(repository.findDispatchable(any(), any(), anyInt(), any())).thenReturn(List.of());
+
+		NotificationOutboxDispatcher dispatcher = dispatcher(submitted::add);
+		dispatcher.poll();
+
+		verify(repository, never()).findDispatchable(any(), any(), anyInt(), any());
+		assertEquals(1, submitted.size());
+
+		submitted.get(0).run();
+		verify(repository).findDispatchable(any(), any(), anyInt(), any());
+	}
+
+	private NotificationOutboxDispatcher dispatcher(Executor executor) {
+		return new NotificationOutboxDispatcher(repository, smsSender, mock(EmailSender.class),
+				mock(PlatformTransactionManager.class), new TaskExecutorAdapter(executor), BATCH_SIZE, MAX_ATTEMPTS,
+				60_000, 10_000, 60_000);
+	}
+
+	private static NotificationOutbox outbox(OutboxStatus outboxStatus, int attempts) {
+		return NotificationOutbox.builder().channel(Channel.SMS).recipient("01012345678").content("안내")
+				.idempotencyKey("estimate-info:1:sms").outboxStatus(outboxStatus).attempts(attempts)
+				.nextAttemptAt(LocalDateTime.now()).build();
+	}
+}
@@ -0,0 +1,72 @@
+package net.chamman.moonnight.global.notification.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import net.chamman.moonnight.global.notification.outbox.NotificationOutbox.Channel;
+import net.chamman.moonnight.global.notification.outbox.NotificationOutbox.OutboxStatus;
+
+class NotificationOutboxTest {
+
+	private static final Duration BASE = Duration.ofSeconds(10);
+	private static final Duration MAX = Duration.ofSeconds(60);
+
+	private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+	@Test
+	void 실패시_지수_백오프로_재시도_예약() {
+		NotificationOutbox outbox = pending();
+
+		outbox.claim(now.plusMinutes(1));
+		assertTrue(outbox.markFailed(now, "timeout", BASE, MAX, 5));
+		assertEquals(now.plusSeconds(10), outbox.getNextAttemptAt());
+
+		outbox.claim(now.plusMinutes(1));
+		assertTrue(outbox.markFailed(now, "timeout", BASE, MAX, 5));
+		assertEquals(now.plusSeconds(20), outbox.getNextAttemptAt());
+
+		outbox.claim(now.plusMinutes(1));
+		assertTrue(outbox.markFailed(now, "timeout", BASE, MAX, 5));
+		outbox.claim(now.plusMinutes(1));
+		assertTrue(outbox.markFailed(now, "timeout", BASE, MAX, 5));
+		assertEquals(now.plusSeconds(60), outbox.getNextAttemptAt());
+		assertEquals(OutboxStatus.PENDING, outbox.getOutboxStatus());
+	}
+
+	@Test
+	void 최대_시도_후_최종_실패() {
+		NotificationOutbox outbox = pending();
+
+		outbox.claim(now.plusMinutes(1));
+		assertTrue(outbox.markFailed(now, "500", BASE, MAX, 2));
+		outbox.claim(now.plusMinutes(1));
+		assertFalse(outbox.markFailed(now, "500", BASE, MAX, 2));
+		assertEquals(OutboxStatus.FAILED, outbox.getOutboxStatus());
+		assertEquals(2, outbox.getAttempts());
+	}
+
+	@Test
+	void 선점할_때마다_시도_횟수_증가() {
+		NotificationOutbox outbox = pending();
+
+		outbox.claim(now.plusMinutes(1));
+		assertEquals(OutboxStatus.SENDING, outbox.getOutboxStatus());
+		assertEquals(now.plusMinutes(1), outbox.getNextAttemptAt());
+		assertEquals(1, outbox.getAttempts());
+
+		// lease 만료 후 재선점
+		outbox.claim(now.plusMinutes(2));
+		assertEquals(2, outbox.getAttempts());
+	}
+
+	private NotificationOutbox pending() {
+		return NotificationOutbox.builder().channel(Channel.SMS).recipient("01012345678").content("안내")
+				.idempotencyKey("estimate-info:1:sms").outboxStatus(OutboxStatus.PENDING).nextAttemptAt(now).build();
+	}
+}
@@ -0,0 +1,64 @@
+package net.chamman.moonnight.global.security.principal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+class VerifiedTokenCacheTest {
+
+	private final VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+	@Test
+	void 저장한_토큰은_적중하고_없는_토큰은_미스() {
+		UserDetails details = user("admin");
+		cache.put("token-a", details, later());
+
+		assertSame(details, cache.get("token-a", UserDetails.class));
+		assertNull(cache.get("token-b", UserDetails.class));
+	}
+
+	@Test
+	void 무효화된_토큰은_미스() {
+		cache.put("token-a", user("admin"), later());
+
+		cache.invalidate("token-a");
+
+		assertNull(cache.get("token-a", UserDetails.class));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void 만료된_토큰은_저장하지_않고_타입이_다르면_미스() {
+		cache.put("expired", user("admin"), System.currentTimeMillis() - 1);
+		cache.put("token-a", user("admin"), later());
+
+		assertNull(cache.get("expired", UserDetails.class));
+		assertNull(cache.get("token-a", OtherDetails.class));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void 최대_크기를_넘으면_정리() {
+		for (int i = 0; i < 11; i++) {
+			cache.put("token-" + i, user("admin" + i), later());
+		}
+
+		assertTrue(cache.size() <= 10);
+	}
+
+	private static UserDetails user(String username) {
+		return User.withUsername(username).password("").authorities("ROLE_ADMIN").build();
+	}
+
+	private static long later() {
+		return System.currentTimeMillis() + 60_000;
+	}
+
+	private interface OtherDetails extends UserDetails {
+	}
+}
@@ -0,0 +1,60 @@
+package net.chamman.moonnight.global.security.route;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import jakarta.servlet.DispatcherType;
+
+class RouteClassifierTest {
+
+	private final RouteClassifier routeClassifier = new RouteClassifier();
+
+	@Test
+	void SecurityFilterChain_순서대로_분류() {
+		assertEquals(RouteType.STATIC, routeClassifier.classify("/css/admin/main.css"));
+		assertEquals(RouteType.STATIC, routeClassifier.classify("/favicon.ico"));
+		assertEquals(RouteType.STATIC, routeClassifier.classify("/.well-known/security.txt"));
+
+		assertEquals(RouteType.PUBLIC_ADMIN, routeClassifier.classify("/admin/signIn"));
+		assertEquals(RouteType.PUBLIC_ADMIN, routeClassifier.classify("/api/admin/public/find/pw/by/phone"));
+
+		assertEquals(RouteType.PRIVATE_ADMIN, routeClassifier.classify("/admin"));
+		assertEquals(RouteType.PRIVATE_ADMIN, routeClassifier.classify("/admin/estimate/list"));
+		assertEquals(RouteType.PRIVATE_ADMIN, routeClassifier.classify("/api/admin/estimate/private/1"));
+
+		assertEquals(RouteType.USER_PRIVATE, routeClassifier.classify("/api/estimate/private/auth"));
+
+		assertEquals(RouteType.DEFAULT, routeClassifier.classify("/"));
+		assertEquals(RouteType.DEFAULT, routeClassifier.classify("/api/estimate/public/register"));
+	}
+
+	@Test
+	void FORWARD_ERROR_디스패치는_다시_분류() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/estimate/private/1");
+		assertEquals(RouteType.PRIVATE_ADMIN, routeClassifier.classify(request));
+
+		// 같은 요청 객체로 에러 페이지 디스패치
+		request.setDispatcherType(DispatcherType.ERROR);
+		request.setRequestURI("/error");
+		assertEquals(RouteType.DEFAULT, routeClassifier.classify(request));
+
+		request.setDispatcherType(DispatcherType.FORWARD);
+		request.setRequestURI("/admin/signIn");
+		assertEquals(RouteType.PUBLIC_ADMIN, routeClassifier.classify(request));
+	}
+
+	@Test
+	void 퍼센트_인코딩한_경로도_디코딩한_경로로_분류() {
+		assertEquals(RouteType.PRIVATE_ADMIN, routeClassifier.classify("/%61dmin/estimate"));
+		assertEquals(RouteType.PRIVATE_ADMIN, routeClassifier.classify("/%61pi/admin/estimate"));
+		assertEquals(RouteType.PRIVATE_ADMIN, routeClassifier.classify("/%61pi/admin/estimate/private/1"));
+		assertEquals(RouteType.PRIVATE_ADMIN, routeClassifier.classify("/api/%61dmin/estimate/private/1"));
+		assertEquals(RouteType.PRIVATE_ADMIN, routeClassifier.classify("/admin;jsessionid=1/estimate"));
+		assertEquals(RouteType.PUBLIC_ADMIN, routeClassifier.classify("/%61dmin/signIn"));
+
+		assertEquals(RouteType.USER_PRIVATE, routeClassifier.classify("/%61pi/estimate/private/auth"));
+		assertEquals(RouteType.USER_PRIVATE, routeClassifier.classify("/api/estimate/%70rivate/auth"));
+	}
+}
@@ -0,0 +1,116 @@
+package net.chamman.moonnight.infra.file.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import net.chamman.moonnight.global.exception.infra.s3.S3UploadException;
+import net.chamman.moonnight.infra.resilience.ProviderGuards;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+class AwsS3ClientTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final S3Client s3Client = mock(S3Client.class);
+	private final S3AsyncClient s3AsyncClient = mock(S3AsyncClient.class);
+	private final AwsS3Client awsS3Client = new AwsS3Client(s3Client, s3AsyncClient,
+			new ProviderGuards(new MockEnvironment()), new TaskExecutorAdapter(executor), 3, 8, 10_000);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void 여러_파일을_스트림으로_올리고_입력_순서대로_URL을_반환한다() {
+		givenPutObject();
+
+		List<String> urls = awsS3Client.uploadAll(List.of(file("a.jpg"), file("b.jpg"), file("c.jpg"), file("d.jpg")),
+				"estimateImages/1/");
+
+		assertEquals(4, urls.size());
+		assertTrue(urls.get(0).endsWith("_a.jpg"));
+		assertTrue(urls.get(3).endsWith("_d.jpg"));
+		verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+	}
+
+	@Test
+	void 하나라도_실패하면_올린_파일을_지우고_실패한다() {
+		givenPutObject();
+
+		assertThrows(S3UploadException.class, () -> awsS3Client
+				.uploadAll(List.of(file("a.jpg"), file("bad.jpg"), file("c.jpg")), "estimateImages/1/"));
+
+		ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+		verify(s3Client).deleteObjects(captor.capture());
+		List<String> deleted = captor.getValue().delete().objects().stream().map(ObjectIdentifier::key).toList();
+		assertTrue(deleted.stream().noneMatch(key -> key.endsWith("_bad.jpg")));
+		assertTrue(deleted.stream().allMatch(key -> key.startsWith("estimateImages/1/")));
+	}
+
+	@Test
+	void 노드_전체_업로드_자리를_기다리다_시간이_지나면_실패한다() throws Exception {
+		CompletableFuture<PutObjectResponse> slow = new CompletableFuture<>();
+		when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+			AsyncRequestBody body = invocation.getArgument(1);
+			return body.subscribe(buffer -> {
+			}).thenCompose(done -> slow);
+		});
+		AwsS3Client client = new AwsS3Client(s3Client, s3AsyncClient, new ProviderGuards(new MockEnvironment()),
+				new TaskExecutorAdapter(executor), 1, 1, 50);
+
+		// 유일한 자리를 잡고 응답을 기다리는 업로드
+		Future<String> first = executor.submit(() -> client.upload(file("a.jpg"), "estimateImages/1/"));
+		verify(s3AsyncClient, timeout(1000)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+
+		assertThrows(S3UploadException.class, () -> client.upload(file("b.jpg"), "estimateImages/1/"));
+
+		slow.complete(PutObjectResponse.builder().build());
+		assertTrue(first.get(1, TimeUnit.SECONDS).endsWith("_a.jpg"));
+	}
+
+	/**
+	 * 본문을 끝까지 읽은 뒤 응답. bad.jpg 파일은 실패. (키의 UUID에도 bad가 나올 수 있어 파일 이름으로 비교)
+	 */
+	private void givenPutObject() {
+		when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+			PutObjectRequest request = invocation.getArgument(0);
+			AsyncRequestBody body = invocation.getArgument(1);
+			return body.subscribe(buffer -> {
+			}).thenCompose(done -> request.key().endsWith("_bad.jpg")
+					? CompletableFuture.failedFuture(new IllegalStateException("upload failed"))
+					: CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+		});
+	}
+
+	private static MultipartFile file(String name) {
+		return new MockMultipartFile("images", name, "image/jpeg", new byte[1024]);
+	}
+}
@@ -0,0 +1,220 @@
+package net.chamman.moonnight.infra.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import net.chamman.moonnight.global.exception.HttpStatusCode;
+import net.chamman.moonnight.global.exception.infra.RoadSearchBusyException;
+import net.chamman.moonnight.global.exception.infra.RoadSearchException;
+import net.chamman.moonnight.infra.map.dto.RoadSearchApiResponseDto;
+import net.chamman.moonnight.infra.map.dto.StandardAddress;
+
+class AddressValidationEngineTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void 나머지_페이지를_동시에_조회하고_일치한_검색_방법을_알려준다() {
+		AtomicInteger calls = new AtomicInteger();
+		MapSearch mapSearch = mapSearch((analyzeType, page) -> {
+			calls.incrementAndGet();
+			boolean hit = "exact".equals(analyzeType) && page == 3;
+			return new Page(hit ? "04017" : "99999", 90, page == 3);
+		});
+
+		AddressValidationEngine.Result result = engine(mapSearch, 12).validate("04017", "동교로 23");
+
+		assertTrue(result.matched());
+		assertEquals(AddressValidationEngine.Strategy.EXACT, result.strategy());
+		assertTrue(calls.get() <= 9);
+	}
+
+	@Test
+	void 일치하지_않으면_모든_검색을_마치고_불일치를_반환한다() {
+		AtomicInteger calls = new AtomicInteger();
+		MapSearch mapSearch = mapSearch((analyzeType, page) -> {
+			calls.incrementAndGet();
+			return new Page("99999", 60, page == 2);
+		});
+
+		AddressValidationEngine.Result result = engine(mapSearch, 12).validate("04017", "동교로 23");
+
+		assertFalse(result.matched());
+		assertTrue(result.complete());
+		// exact, similar, 번지 뗀 주소 각 2페이지
+		assertEquals(6, calls.get());
+	}
+
+	@Test
+	void 동시_호출_수_제한을_넘은_페이지도_하나씩_조회해_일치를_찾는다() {
+		AtomicInteger calls = new AtomicInteger();
+		MapSearch mapSearch = mapSearch((analyzeType, page) -> {
+			calls.incrementAndGet();
+			boolean hit = "exact".equals(analyzeType) && page == 40;
+			return new Page(hit ? "04017" : "99999", 30 * 45, page == 45);
+		});
+
+		AddressValidationEngine.Result result = engine(mapSearch, 5).validate("04017", "동교로 23");
+
+		assertTrue(result.matched());
+		assertEquals(AddressValidationEngine.Strategy.EXACT, result.strategy());
+		assertTrue(calls.get() > 5);
+	}
+
+	@Test
+	void 검증_한_건의_동시_요청은_카카오_동시_호출_수의_일부로_제한한다() {
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		MapSearch mapSearch = mapSearch((analyzeType, page) -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				inFlight.decrementAndGet();
+			}
+			return new Page("99999", 30 * 4, page == 4);
+		});
+
+		AddressValidationEngine.Result result = new AddressValidationEngine(mapSearch, new TaskExecutorAdapter(executor),
+				12, 3, 10, 3000).validate("04017", "동교로 23");
+
+		assertFalse(result.matched());
+		assertEquals(12, result.calls());
+		assertTrue(maxInFlight.get() <= 3);
+	}
+
+	@Test
+	void 실행기_동시_실행_제한이_가득_차도_검증끼리_서로_막지_않는다() throws Exception {
+		MapSearch mapSearch = mapSearch((analyzeType, page) -> {
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new Page("99999", 30 * 4, page == 4);
+		});
+		// 가상 스레드 모드의 실행기처럼 제한에 걸리면 등록하는 쪽이 기다린다.
+		SimpleAsyncTaskExecutor limited = new SimpleAsyncTaskExecutor("address-");
+		limited.setConcurrencyLimit(3);
+		AddressValidationEngine engine = new AddressValidationEngine(mapSearch, limited, 12, 3, 10, 3000);
+
+		List<Future<AddressValidationEngine.Result>> results = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			results.add(executor.submit(() -> engine.validate("04017", "동교로 23")));
+		}
+		for (Future<AddressValidationEngine.Result> result : results) {
+			assertTrue(result.get(5, TimeUnit.SECONDS).complete());
+		}
+		limited.close();
+	}
+
+	@Test
+	void 동시_호출_초과_거절은_실패가_아니라_다시_요청한다() {
+		Set<String> rejected = ConcurrentHashMap.newKeySet();
+		MapSearch mapSearch = mapSearch((analyzeType, page) -> {
+			if (rejected.add(analyzeType + page)) {
+				throw new RoadSearchBusyException(HttpStatusCode.ROAD_SEARCH_FAIL, "카카오 주소 검색 동시 호출 초과.");
+			}
+			return new Page("99999", 60, page == 2);
+		});
+
+		AddressValidationEngine.Result result = engine(mapSearch, 12).validate("04017", "동교로 23");
+
+		assertFalse(result.matched());
+		assertTrue(result.complete());
+		// 거절된 호출은 세지 않는다. exact, similar 각 2페이지 (번지 뗀 주소는 similar와 같은 키)
+		assertEquals(6, result.calls());
+	}
+
+	@Test
+	void 끝내지_못한_검증은_불일치가_아니라_검색_실패() {
+		MapSearch mapSearch = mapSearch((analyzeType, page) -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new Page("99999", 30 * 45, page == 45);
+		});
+
+		AddressValidationEngine engine = new AddressValidationEngine(mapSearch, new TaskExecutorAdapter(executor), 12, 3,
+				10, 300);
+
+		assertThrows(RoadSearchException.class, () -> engine.validate("04017", "동교로 23"));
+	}
+
+	private static MapSearch mapSearch(BiFunction<String, Integer, RoadSearchApiResponseDto> search) {
+		return new MapSearch() {
+			@Override
+			public RoadSearchApiResponseDto roadSearch(String road, String analyzeType, int page, int size) {
+				return search.apply(analyzeType, page);
+			}
+
+			@Override
+			public boolean validateAddress(String postcode, String mainAddress) {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	private AddressValidationEngine engine(MapSearch mapSearch, int parallelCalls) {
+		return new AddressValidationEngine(mapSearch, new TaskExecutorAdapter(executor), parallelCalls, 3, 10, 3000);
+	}
+
+	private static final class Page extends RoadSearchApiResponseDto {
+		private final String zoneCode;
+		private final int pageableCount;
+		private final boolean end;
+
+		Page(String zoneCode, int pageableCount, boolean end) {
+			this.zoneCode = zoneCode;
+			this.pageableCount = pageableCount;
+			this.end = end;
+		}
+
+		@Override
+		public List<StandardAddress> getStandardAddresses() {
+			return List.of(new StandardAddress(zoneCode, "서울 마포구 동교로 23"));
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return false;
+		}
+
+		@Override
+		public boolean isEnd() {
+			return end;
+		}
+
+		@Override
+		public int getPageableCount() {
+			return pageableCount;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package net.chamman.moonnight.infra.map.cache;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import net.chamman.moonnight.global.exception.infra.InvalidMainAddressException;
+import net.chamman.moonnight.global.exception.infra.RoadSearchException;
+import net.chamman.moonnight.infra.map.AddressValidationEngine;
+import net.chamman.moonnight.infra.map.impl.DaumMapClient;
+
+class CachingMapSearchTest {
+
+	private final AddressValidationEngine engine = mock(AddressValidationEngine.class);
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+	private final CachingMapSearch cachingMapSearch = new CachingMapSearch(mock(DaumMapClient.class), engine,
+			redisTemplate, 100, 600000, 86400000, 86400000, 600000);
+
+	CachingMapSearchTest() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	void 끝까지_확인하지_못한_검증은_저장하지_않고_검색_실패로_넘긴다() {
+		when(engine.validate("04017", "동교로 23"))
+				.thenReturn(new AddressValidationEngine.Result(false, null, 12, false));
+
+		assertThrows(RoadSearchException.class, () -> cachingMapSearch.validateAddress("04017", "동교로 23"));
+		assertThrows(RoadSearchException.class, () -> cachingMapSearch.validateAddress("04017", "동교로 23"));
+
+		verify(engine, times(2)).validate("04017", "동교로 23");
+		verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	void 모두_확인한_불일치는_저장하고_불일치로_판단한다() {
+		when(engine.validate("04017", "동교로 23"))
+				.thenReturn(new AddressValidationEngine.Result(false, null, 6, true));
+
+		assertThrows(InvalidMainAddressException.class, () -> cachingMapSearch.validateAddress("04017", "동교로 23"));
+		assertThrows(InvalidMainAddressException.class, () -> cachingMapSearch.validateAddress("04017", "동교로 23"));
+
+		verify(engine, times(1)).validate("04017", "동교로 23");
+		verify(valueOperations).set(anyString(), anyString(), any(Duration.class));
+	}
+}
@@ -0,0 +1,64 @@
+package net.chamman.moonnight.infra.map.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import net.chamman.moonnight.infra.map.dto.StandardAddress;
+
+class LruCacheTest {
+
+	@Test
+	void 가장_오래_사용하지_않은_항목부터_제거한다() {
+		LruCache<String, String> cache = new LruCache<>(2);
+		cache.put("a", "1", 60_000);
+		cache.put("b", "2", 60_000);
+		cache.get("a");
+		cache.put("c", "3", 60_000);
+
+		assertEquals("1", cache.get("a"));
+		assertNull(cache.get("b"));
+		assertEquals("3", cache.get("c"));
+
+		LruCache.Stats stats = cache.stats();
+		assertEquals(3, stats.hits());
+		assertEquals(1, stats.misses());
+		assertEquals(1, stats.evictions());
+	}
+
+	@Test
+	void 유지_시간이_지난_항목은_반환하지_않는다() {
+		LruCache<String, String> cache = new LruCache<>(2);
+		cache.put("a", "1", 0);
+
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.stats().size());
+	}
+
+	@Test
+	void 검색어_공백을_정리한다() {
+		assertEquals("서울 마포구 동교로 23", CachingMapSearch.normalize("  서울  마포구\t동교로 23 "));
+	}
+
+	@Test
+	void 캐시용_검색_결과는_JSON으로_저장하고_읽을_수_있다() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		CachedRoadSearchResponse response = new CachedRoadSearchResponse(
+				List.of(new StandardAddress("04017", "서울 마포구 동교로 23")), false, true, 1);
+
+		CachedRoadSearchResponse read = objectMapper.readValue(objectMapper.writeValueAsString(response),
+				CachedRoadSearchResponse.class);
+
+		assertEquals(response.getStandardAddresses(), read.getStandardAddresses());
+		assertFalse(read.isEmpty());
+		assertTrue(read.isEnd());
+		assertEquals(1, read.getPageableCount());
+	}
+}
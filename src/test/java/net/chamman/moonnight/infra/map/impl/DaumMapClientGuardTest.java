@@ -0,0 +1,72 @@
+package net.chamman.moonnight.infra.map.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import net.chamman.moonnight.global.exception.infra.RoadSearchException;
+import net.chamman.moonnight.infra.map.dto.KakaoRoadSearchApiResponseDto;
+import net.chamman.moonnight.infra.resilience.CircuitBreaker;
+import net.chamman.moonnight.infra.resilience.ProviderGuards;
+
+/**
+ * 카카오 호출 실패가 {@link RoadSearchException}으로 감싸진 뒤에도 브레이커에 실패로 세어지는지 확인.
+ */
+class DaumMapClientGuardTest {
+
+	private final RestTemplate restTemplate = mock(RestTemplate.class);
+	private final ProviderGuards providerGuards = new ProviderGuards(
+			new MockEnvironment().withProperty("resilience.kakao.failure-threshold", "2"));
+	private final DaumMapClient daumMapClient = new DaumMapClient();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(daumMapClient, "baseUrl", "https://dapi.kakao.com/v2/local/search/address.json");
+		ReflectionTestUtils.setField(daumMapClient, "kakaoApiRestApiKey", "test");
+		ReflectionTestUtils.setField(daumMapClient, "restTemplate", restTemplate);
+		ReflectionTestUtils.setField(daumMapClient, "providerGuards", providerGuards);
+	}
+
+	@Test
+	void 타임아웃과_5xx는_브레이커를_연다() {
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+				eq(KakaoRoadSearchApiResponseDto.class)))
+				.thenThrow(new ResourceAccessException("Read timed out"))
+				.thenThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+
+		for (int i = 0; i < 2; i++) {
+			assertThrows(RoadSearchException.class, () -> daumMapClient.roadSearch("동교로 23", "exact", 1, 30));
+		}
+
+		assertEquals(CircuitBreaker.State.OPEN, providerGuards.get(ProviderGuards.KAKAO).snapshot().state());
+	}
+
+	@Test
+	void 클라이언트_4xx는_브레이커를_열지_않는다() {
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+				eq(KakaoRoadSearchApiResponseDto.class)))
+				.thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+		for (int i = 0; i < 3; i++) {
+			assertThrows(RoadSearchException.class, () -> daumMapClient.roadSearch("동교로 23", "exact", 1, 30));
+		}
+
+		assertEquals(CircuitBreaker.State.CLOSED, providerGuards.get(ProviderGuards.KAKAO).snapshot().state());
+	}
+}
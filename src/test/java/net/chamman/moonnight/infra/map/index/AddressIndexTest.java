@@ -0,0 +1,82 @@
+package net.chamman.moonnight.infra.map.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AddressIndexTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void 색인_파일을_만들고_지역_도로명_건물번호로_우편번호를_찾는다() throws Exception {
+		AddressIndexBuilder builder = new AddressIndexBuilder();
+		builder.addLine(line("서울특별시", "마포구", "동교로", "23", "0", "04017"));
+		builder.addLine(line("서울특별시", "마포구", "동교로", "7", "1", "04018"));
+		builder.addLine(line("서울특별시", "마포구", "동교로23길", "7", "0", "04019"));
+		// 다른 지역의 같은 도로명, 건물번호
+		builder.addLine(line("광주광역시", "북구", "동교로", "23", "0", "61000"));
+		builder.addLine(line("경기도", "성남시 분당구", "판교역로", "235", "0", "13494"));
+		builder.addLine(line("세종특별자치시", "", "한누리대로", "2130", "0", "30151"));
+		for (int i = 1; i <= 100; i++) {
+			builder.add("서울", "중구", "세종대로", String.valueOf(i), 3100 + i);
+		}
+		builder.addLine(line("없는시도", "마포구", "동교로", "1", "0", "04000"));
+		builder.addLine("형식이 다른 행");
+
+		Path file = dir.resolve("address.idx");
+		builder.write(file);
+		AddressIndex index = AddressIndex.open(file);
+
+		assertEquals(106, index.size());
+		assertArrayEquals(new int[] { 4017 }, index.postcodes("서울 마포구 동교로 23"));
+		assertArrayEquals(new int[] { 61000 }, index.postcodes("광주 북구 동교로 23"));
+		assertArrayEquals(new int[] { 4018 }, index.postcodes("서울 마포구 동교로 7-1"));
+		assertArrayEquals(new int[] { 13494 }, index.postcodes("경기 성남시 분당구 판교역로 235"));
+		assertArrayEquals(new int[] { 30151 }, index.postcodes("세종 한누리대로 2130"));
+		assertArrayEquals(new int[] { 3150 }, index.postcodes("서울 중구 세종대로 50"));
+		assertNull(index.postcodes("서울 마포구 동교로 24"));
+		assertNull(index.postcodes("동교로 23"));
+		assertNull(index.postcodes("가나다로 1"));
+		assertNull(index.postcodes("힣힣로 1"));
+
+		assertEquals(List.of("서울 마포구 동교로 23", "서울 마포구 동교로 7-1", "서울 마포구 동교로23길 7"),
+				index.prefix("서울 마포구 동교로", 10));
+		assertEquals(List.of("서울 중구 세종대로 1", "서울 중구 세종대로 10"), index.prefix("서울 중구 세종대로 1", 2));
+	}
+
+	@Test
+	void 주소에서_색인_키를_뽑는다() {
+		assertEquals("서울 마포구 동교로 23", AddressIndex.keyOf("서울 마포구 동교로 23"));
+		assertEquals("서울 마포구 동교로 23", AddressIndex.keyOf("서울특별시  마포구 동교로 23 (동교동)"));
+		assertEquals("서울 마포구 동교로23길 7-1", AddressIndex.keyOf("서울 마포구 동교로23길 7-1, 2층"));
+		assertEquals("서울 중구 세종대로 110", AddressIndex.keyOf("서울 중구 세종대로 지하 110"));
+		assertEquals("경기 성남시 분당구 판교역로 235", AddressIndex.keyOf("경기도 성남시 분당구 판교역로 235"));
+		assertEquals("경기 양평군 양평로 1", AddressIndex.keyOf("경기 양평군 양평읍 양평로 1"));
+		assertEquals("세종 한누리대로 2130", AddressIndex.keyOf("세종특별자치시 한누리대로 2130"));
+		// 지역이 없으면 색인을 쓰지 않는다.
+		assertNull(AddressIndex.keyOf("동교로 23"));
+		assertNull(AddressIndex.keyOf("서울 마포구 동교동 123-4"));
+	}
+
+	private static String line(String sido, String sigungu, String roadName, String mainNumber, String subNumber,
+			String postcode) {
+		String[] columns = new String[20];
+		Arrays.fill(columns, "");
+		columns[AddressIndexBuilder.COL_SIDO] = sido;
+		columns[AddressIndexBuilder.COL_SIGUNGU] = sigungu;
+		columns[AddressIndexBuilder.COL_ROAD_NAME] = roadName;
+		columns[AddressIndexBuilder.COL_MAIN_NUMBER] = mainNumber;
+		columns[AddressIndexBuilder.COL_SUB_NUMBER] = subNumber;
+		columns[AddressIndexBuilder.COL_POSTCODE] = postcode;
+		return String.join("|", columns);
+	}
+}
@@ -0,0 +1,65 @@
+package net.chamman.moonnight.infra.map.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.chamman.moonnight.global.exception.HttpStatusCode;
+import net.chamman.moonnight.global.exception.infra.InvalidMainAddressException;
+import net.chamman.moonnight.infra.map.cache.CachingMapSearch;
+
+class IndexedMapSearchTest {
+
+	@TempDir
+	Path dir;
+
+	private final CachingMapSearch delegate = mock(CachingMapSearch.class);
+	private IndexedMapSearch indexedMapSearch;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		AddressIndexBuilder builder = new AddressIndexBuilder();
+		builder.add("서울", "마포구", "동교로", "23", 4017);
+		Path file = dir.resolve("address.idx");
+		builder.write(file);
+		indexedMapSearch = new IndexedMapSearch(delegate, file.toString());
+	}
+
+	@Test
+	void 색인의_우편번호와_일치하면_카카오를_부르지_않는다() {
+		assertTrue(indexedMapSearch.validateAddress("04017", "서울 마포구 동교로 23"));
+
+		verify(delegate, never()).validateAddress(anyString(), anyString());
+		assertEquals(1, indexedMapSearch.getIndexHits());
+	}
+
+	@Test
+	void 색인의_우편번호와_다르면_카카오로_확인한다() {
+		when(delegate.validateAddress("04018", "서울 마포구 동교로 23")).thenReturn(true);
+
+		assertTrue(indexedMapSearch.validateAddress("04018", "서울 마포구 동교로 23"));
+		assertEquals(1, indexedMapSearch.getIndexMismatches());
+	}
+
+	@Test
+	void 다른_지역의_같은_도로명은_색인으로_판단하지_않는다() {
+		when(delegate.validateAddress("61000", "광주 북구 동교로 23")).thenThrow(
+				new InvalidMainAddressException(HttpStatusCode.ADDRESS_INVALID_VALUE, "입력한 주소와 우편번호가 일치하지 않습니다."));
+
+		assertThrows(InvalidMainAddressException.class,
+				() -> indexedMapSearch.validateAddress("61000", "광주 북구 동교로 23"));
+		verify(delegate).validateAddress("61000", "광주 북구 동교로 23");
+		assertEquals(1, indexedMapSearch.getIndexMisses());
+	}
+}
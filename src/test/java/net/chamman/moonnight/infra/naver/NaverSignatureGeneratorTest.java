@@ -0,0 +1,28 @@
+package net.chamman.moonnight.infra.naver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+class NaverSignatureGeneratorTest {
+
+	@Test
+	void 매번_새로_초기화한_Mac과_같은_서명() throws Exception {
+		NaverSignatureGenerator generator = new NaverSignatureGenerator("access-key", "secret-key");
+
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec("secret-key".getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		String expected = Base64.getEncoder().encodeToString(
+				mac.doFinal("POST /api/v1/mails\n1700000000000\naccess-key".getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(expected, generator.getNaverSignature("POST", "/api/v1/mails", "1700000000000"));
+		// 이전 호출 상태가 남지 않음
+		assertEquals(expected, generator.getNaverSignature("POST", "/api/v1/mails", "1700000000000"));
+	}
+}
@@ -0,0 +1,146 @@
+package net.chamman.moonnight.infra.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class CircuitBreakerTest {
+
+	private final AtomicLong now = new AtomicLong(1_000);
+
+	@Test
+	void 연속_실패가_기준에_이르면_열리고_시간이_지나면_시험_호출_후_닫힌다() {
+		CircuitBreaker breaker = new CircuitBreaker("test", 3, 1_000, 1, now::get);
+
+		for (int i = 0; i < 3; i++) {
+			assertTrue(breaker.tryAcquire());
+			breaker.onFailure();
+		}
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquire());
+
+		now.addAndGet(1_000);
+		assertTrue(breaker.tryAcquire());
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+		// 시험 호출은 한 개만
+		assertFalse(breaker.tryAcquire());
+
+		breaker.onSuccess();
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		assertTrue(breaker.tryAcquire());
+	}
+
+	@Test
+	void 시험_호출이_실패하면_다시_열린다() {
+		CircuitBreaker breaker = new CircuitBreaker("test", 1, 1_000, 1, now::get);
+		breaker.tryAcquire();
+		breaker.onFailure();
+
+		now.addAndGet(1_000);
+		assertTrue(breaker.tryAcquire());
+		breaker.onFailure();
+
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquire());
+	}
+
+	@Test
+	void 동시에_반열림으로_바뀌어도_시험_호출은_정해진_수만_통과() throws Exception {
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			for (int round = 0; round < 50; round++) {
+				CircuitBreaker breaker = new CircuitBreaker("test", 1, 1_000, 2, now::get);
+				breaker.tryAcquire();
+				breaker.onFailure();
+				now.addAndGet(1_000);
+
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<Boolean>> acquired = new ArrayList<>();
+				for (int i = 0; i < threads; i++) {
+					acquired.add(executor.submit(() -> {
+						start.await();
+						return breaker.tryAcquire();
+					}));
+				}
+				start.countDown();
+
+				int probes = 0;
+				for (Future<Boolean> future : acquired) {
+					probes += future.get() ? 1 : 0;
+				}
+				assertEquals(2, probes);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void 브레이커가_열리면_제공자를_호출하지_않고_넘긴_예외를_던진다() {
+		ProviderGuard guard = new ProviderGuard("test", 2, 0, new CircuitBreaker("test", 1, 1_000, 1, now::get));
+
+		assertThrows(HttpServerErrorException.class, () -> guard.execute(() -> {
+			throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+		}, () -> new IllegalArgumentException("rejected")));
+
+		AtomicLong invoked = new AtomicLong();
+		assertThrows(IllegalArgumentException.class,
+				() -> guard.execute(invoked::incrementAndGet, () -> new IllegalArgumentException("rejected")));
+		assertEquals(0, invoked.get());
+
+		ProviderGuard.Snapshot snapshot = guard.snapshot();
+		assertEquals(1, snapshot.failures());
+		assertEquals(1, snapshot.circuitRejected());
+		assertEquals(0, snapshot.inFlight());
+	}
+
+	@Test
+	void 클라이언트_4xx와_로컬_오류는_실패로_세지_않는다() {
+		ProviderGuard guard = new ProviderGuard("test", 2, 0, new CircuitBreaker("test", 3, 1_000, 1, now::get));
+
+		for (int i = 0; i < 20; i++) {
+			// 제공자 클라이언트처럼 HttpStatusCode 예외로 감싸서 던짐
+			assertThrows(IllegalStateException.class, () -> guard.execute(() -> {
+				throw new IllegalStateException("send fail", new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+			}, () -> new IllegalArgumentException("rejected")));
+			assertThrows(NullPointerException.class, () -> guard.execute(() -> {
+				throw new NullPointerException("local");
+			}, () -> new IllegalArgumentException("rejected")));
+		}
+
+		assertEquals(CircuitBreaker.State.CLOSED, guard.snapshot().state());
+		assertEquals(0, guard.snapshot().failures());
+	}
+
+	@Test
+	void 타임아웃과_연결_오류는_실패로_센다() {
+		ProviderGuard guard = new ProviderGuard("test", 2, 0, new CircuitBreaker("test", 2, 1_000, 1, now::get));
+
+		for (int i = 0; i < 2; i++) {
+			assertThrows(IllegalStateException.class, () -> guard.execute(() -> {
+				throw new IllegalStateException("send fail",
+						new ResourceAccessException("timeout", new SocketTimeoutException("read timed out")));
+			}, () -> new IllegalArgumentException("rejected")));
+		}
+
+		assertEquals(CircuitBreaker.State.OPEN, guard.snapshot().state());
+		assertEquals(2, guard.snapshot().failures());
+	}
+}
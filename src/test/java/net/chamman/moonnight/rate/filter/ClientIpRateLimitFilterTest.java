@@ -0,0 +1,93 @@
+package net.chamman.moonnight.rate.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import net.chamman.moonnight.global.context.RequestContext;
+import net.chamman.moonnight.global.util.ApiResponseFactory;
+import net.chamman.moonnight.rate.limiter.RateLimitService;
+
+class ClientIpRateLimitFilterTest {
+
+	private static final String[] GUARDED_PATHS = { "/api/estimate/public/register/**", "/api/verify/public/sms",
+			"/api/verify/public/email", "/api/question/register" };
+
+	private final RateLimitService rateLimitService = mock(RateLimitService.class);
+	private final ClientIpRateLimitFilter filter = new ClientIpRateLimitFilter(rateLimitService,
+			mock(ApiResponseFactory.class), new ObjectMapper(), new String[] { "10.0.0.0/8" },
+			new String[] { "203.0.113.0/24" }, GUARDED_PATHS);
+
+	@Test
+	void 차단_목록_IP는_403() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(request("GET", "/", "203.0.113.7"), response, chain);
+
+		assertEquals(403, response.getStatus());
+		assertNull(chain.getRequest());
+	}
+
+	@Test
+	void 허용_목록_IP는_제한_중이어도_통과() throws Exception {
+		when(rateLimitService.isClientIpThrottled(anyString())).thenReturn(true);
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(request("POST", "/api/estimate/public/register", "10.1.2.3"), new MockHttpServletResponse(),
+				chain);
+
+		assertNotNull(chain.getRequest());
+		verify(rateLimitService, never()).isClientIpThrottled(anyString());
+	}
+
+	@Test
+	void 제한_중인_IP의_횟수_제한_경로_쓰기_요청은_429() throws Exception {
+		when(rateLimitService.isClientIpThrottled("198.51.100.7")).thenReturn(true);
+
+		for (String uri : new String[] { "/api/estimate/public/register", "/api/estimate/public/register/simple",
+				"/api/verify/public/sms", "/api/question/register", "/api/%71uestion/register" }) {
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			MockFilterChain chain = new MockFilterChain();
+
+			filter.doFilter(request("POST", uri, "198.51.100.7"), response, chain);
+
+			assertEquals(429, response.getStatus(), uri);
+			assertNull(chain.getRequest(), uri);
+		}
+	}
+
+	@Test
+	void 제한_중이어도_안전한_메서드와_다른_경로는_통과() throws Exception {
+		when(rateLimitService.isClientIpThrottled("198.51.100.7")).thenReturn(true);
+
+		for (String[] call : new String[][] { { "GET", "/api/estimate/public/register" }, { "POST", "/admin/signIn" },
+				{ "POST", "/api/admin/signOut" }, { "PATCH", "/api/estimate/private/auth/update/1" } }) {
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			MockFilterChain chain = new MockFilterChain();
+
+			filter.doFilter(request(call[0], call[1], "198.51.100.7"), response, chain);
+
+			assertEquals(200, response.getStatus(), call[1]);
+			assertNotNull(chain.getRequest(), call[1]);
+		}
+	}
+
+	private static MockHttpServletRequest request(String method, String uri, String clientIp) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+		request.setAttribute(RequestContext.ATTRIBUTE, new RequestContext(clientIp, false));
+		return request;
+	}
+}
@@ -0,0 +1,39 @@
+package net.chamman.moonnight.rate.filter;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class IpPrefixTrieTest {
+
+	@Test
+	void IPv4_IPv6_CIDR_포함_여부() {
+		IpPrefixTrie trie = new IpPrefixTrie();
+		trie.add("10.0.0.0/8");
+		trie.add("192.168.1.7");
+		trie.add("2001:db8::/32");
+
+		assertTrue(trie.contains("10.1.2.3"));
+		assertTrue(trie.contains("192.168.1.7"));
+		assertTrue(trie.contains("::ffff:10.9.9.9"));
+		assertTrue(trie.contains("2001:db8:1::1"));
+
+		assertFalse(trie.contains("11.0.0.1"));
+		assertFalse(trie.contains("192.168.1.8"));
+		assertFalse(trie.contains("2001:db9::1"));
+	}
+
+	@Test
+	void 잘못된_입력은_DNS_조회_없이_false() {
+		IpPrefixTrie trie = new IpPrefixTrie();
+		trie.add("0.0.0.0/0");
+
+		assertFalse(trie.contains("example.com"));
+		assertFalse(trie.contains("1.2.3"));
+		assertFalse(trie.contains("256.1.1.1"));
+		assertFalse(trie.contains(null));
+		assertThrows(IllegalArgumentException.class, () -> trie.add("10.0.0.0/33"));
+	}
+}
@@ -0,0 +1,56 @@
+package net.chamman.moonnight.rate.limiter.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import net.chamman.moonnight.rate.limiter.impl.RedisSlidingWindowRateLimiter.Grant;
+
+class TwoTierRateLimiterTest {
+
+	private final RedisSlidingWindowRateLimiter redis = mock(RedisSlidingWindowRateLimiter.class);
+	private final TwoTierRateLimiter limiter = new TwoTierRateLimiter(redis, 1000, 5);
+
+	@Test
+	void 임대분_남아있으면_Redis_호출_없이_허용() {
+		// 첫 요청: 남은 횟수 모름 → 1개만 요청
+		when(redis.acquire(anyList())).thenReturn(List.of(new Grant(true, 29, 60_000, 1)))
+				// 두번째 요청: 남은 29 → 5개 임대
+				.thenReturn(List.of(new Grant(true, 24, 60_000, 5)));
+
+		for (int i = 0; i < 6; i++) {
+			assertTrue(limiter.tryAcquire("k", 30, 30).allowed());
+		}
+
+		verify(redis, times(2)).acquire(anyList());
+	}
+
+	@Test
+	void Redis_거부는_리셋까지_로컬에서_거부() {
+		when(redis.acquire(anyList())).thenReturn(List.of(new Grant(false, 0, 60_000, 0)));
+
+		assertFalse(limiter.tryAcquire("k", 5, 30).allowed());
+		assertFalse(limiter.tryAcquire("k", 5, 30).allowed());
+
+		verify(redis, times(1)).acquire(anyList());
+	}
+
+	@Test
+	void Redis_장애시_로컬_토큰_버킷으로_제한() {
+		when(redis.acquire(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+		for (int i = 0; i < 3; i++) {
+			assertTrue(limiter.tryAcquire("k", 3, 30).allowed());
+		}
+		assertFalse(limiter.tryAcquire("k", 3, 30).allowed());
+	}
+}